@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -17,7 +18,14 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String HEADLESS_MODE = "headless";
+    private static final String JSON_OUTPUT = "json";
+    private static final int MAX_PORT = 65535;
+
     private Path configPath;
+    private boolean isHeadless;
+    private boolean isJsonOutput;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +35,63 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if the application should run commands from the standard input without a GUI.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns true if the results of commands run without a GUI should be written as JSON.
+     */
+    public boolean isJsonOutput() {
+        return isJsonOutput;
+    }
+
+    public void setJsonOutput(boolean isJsonOutput) {
+        this.isJsonOutput = isJsonOutput;
+    }
+
+    /**
+     * Returns the port to serve the API on, or null if the API should not be served.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, before JavaFX is started. Only the named parameters, given as
+     * {@code --name=value}, are used, as with {@link #parse(Application.Parameters)}.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +100,34 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String modeParameter = namedParameters.get("mode");
+        appParameters.setHeadless(HEADLESS_MODE.equalsIgnoreCase(modeParameter));
+        if (modeParameter != null && !appParameters.isHeadless()) {
+            logger.warning("Unknown mode " + modeParameter + ". Starting the GUI.");
+        }
+        appParameters.setJsonOutput(JSON_OUTPUT.equalsIgnoreCase(namedParameters.get("output")));
+
+        String portParameter = namedParameters.get("port");
+        if (portParameter != null) {
+            appParameters.setApiPort(parsePort(portParameter));
+        }
+
         return appParameters;
     }
 
+    private static Integer parsePort(String portParameter) {
+        try {
+            int port = Integer.parseInt(portParameter.trim());
+            if (port >= 0 && port <= MAX_PORT) {
+                return port;
+            }
+        } catch (NumberFormatException e) {
+            // Logged below, as for a port out of range
+        }
+        logger.warning("Invalid port " + portParameter + ". Not serving the API.");
+        return null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +140,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && isHeadless == otherAppParameters.isHeadless
+                && isJsonOutput == otherAppParameters.isJsonOutput
+                && Objects.equals(apiPort, otherAppParameters.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isHeadless, isJsonOutput, apiPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("isHeadless", isHeadless)
+                .add("isJsonOutput", isJsonOutput)
+                .add("apiPort", apiPort)
                 .toString();
     }
 }
@@ -1,9 +1,20 @@
 package seedu.address;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import seedu.address.api.ApiServer;
+import seedu.address.cli.Repl;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * The main entry point to the application.
@@ -20,11 +31,19 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * In headless mode ({@code --mode=headless}), commands are read from the standard input instead, without
+ * starting JavaFX. The exit status is then 1 if any command failed.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            runHeadless(appParameters);
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -38,4 +57,35 @@ public class Main {
         logger.warning("The warning about Unsupported JavaFX configuration below can be ignored.");
         Application.launch(MainApp.class, args);
     }
+
+    /**
+     * Runs the commands read from the standard input with the components of the application, none of which
+     * depend on JavaFX, and then exits. If the API is served, it is served until the application is stopped instead.
+     */
+    private static void runHeadless(AppParameters appParameters) {
+        AppComponents components = new AppComponents(appParameters);
+        components.registerMetrics();
+        ApiServer apiServer = null;
+        if (appParameters.getApiPort() != null) {
+            apiServer = components.createApiServer(appParameters.getApiPort(), Executors.newSingleThreadExecutor());
+        }
+        if (apiServer != null) {
+            apiServer.start();
+        }
+
+        BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        PrintWriter output = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out,
+                StandardCharsets.UTF_8)));
+        int failureCount;
+        try {
+            failureCount = new Repl(components.getLogic(), appParameters.isJsonOutput()).run(input, output);
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            failureCount = 1;
+        }
+        if (apiServer == null) {
+            System.exit(failureCount > 0 ? 1 : 0);
+        }
+        // Otherwise, the threads of the API server keep the application running
+    }
 }
@@ -0,0 +1,422 @@
+package seedu.address.api;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ExecutorUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.CommandOutcome;
+import seedu.address.logic.Logic;
+import seedu.address.logic.parser.QueryCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.patient.Event;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.query.PatientQuery;
+import seedu.address.storage.JsonAdaptedPatient;
+
+/**
+ * Serves the address book as JSON over HTTP to other programs on the same computer.
+ *
+ * Requests are answered concurrently, on virtual threads where available. Reads are answered from the latest
+ * snapshot of the address book, so they neither wait for commands nor see a command half-way. Commands are queued
+ * to a single writer, which executes the commands queued together as one batch and saves them once.
+ *
+ * Endpoints:
+ * <ul>
+ *     <li>{@code GET /patients?query=QUERY&offset=OFFSET&limit=LIMIT}: the patients matching the optional query,
+ *     in the syntax of the {@code query} command, one page at a time.</li>
+ *     <li>{@code GET /events?from=DD-MM-YYYY&to=DD-MM-YYYY}: the events on the dates from {@code from} to
+ *     {@code to}, with the patients they belong to.</li>
+ *     <li>{@code POST /commands}: runs the commands in the JSON request body, given as
+ *     {@code {"commands": ["COMMAND", ...]}}.</li>
+ * </ul>
+ * As any web page open in a browser on the same computer can also send requests to the loopback address, requests
+ * from web pages, which carry an {@code Origin} header or a {@code Host} other than the loopback address, are refused.
+ * Commands must be sent as {@code application/json}, which a browser only lets a web page send to another site once
+ * the site has allowed it in answer to a preflight request, and this server allows none.
+ */
+public class ApiServer {
+
+    public static final String JSON_CONTENT_TYPE = "application/json";
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    public static final String MESSAGE_NOT_FOUND = "There is no endpoint at %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s only accepts %2$s requests";
+    public static final String MESSAGE_INVALID_NUMBER = "The %1$s must be a whole number from %2$d to %3$d";
+    public static final String MESSAGE_INVALID_DATE = "The %1$s date must be in the format " + Event.DATE_PATTERN;
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The to date cannot be before the from date";
+    public static final String MESSAGE_COHORT_IN_QUERY = "Queries over the API cannot refer to cohorts";
+    public static final String MESSAGE_NO_COMMANDS = "The request body must contain at least one command";
+    public static final String MESSAGE_INVALID_COMMANDS_BODY =
+            "The request body must be a JSON object with a list of commands, as in {\"commands\": [\"list\"]}";
+    public static final String MESSAGE_UNSUPPORTED_CONTENT_TYPE = "Commands must be sent as " + JSON_CONTENT_TYPE;
+    public static final String MESSAGE_FORBIDDEN = "Requests from web pages are not accepted";
+    public static final String MESSAGE_COMMANDS_TIMED_OUT = "Timed out waiting for the commands to run";
+
+    /** Longest time a request waits for its commands to run, such as while the GUI is busy. */
+    static final long COMMAND_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final Set<String> LOOPBACK_HOST_NAMES = Set.of("localhost", "127.0.0.1", "[::1]");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(Event.DATE_PATTERN);
+
+    private final Logic logic;
+    private final CommandQueue commandQueue;
+    private final HttpServer server;
+    private final ExecutorService requestPool;
+
+    /**
+     * Creates a server for {@code logic} on {@code port} of the loopback address, or on any free port if
+     * {@code port} is 0. Commands are executed on {@code writer}, which must run the tasks given to it one at a time.
+     * The server only accepts requests once it is started.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, Executor writer, int port) throws IOException {
+        this(logic, writer, port, ExecutorUtil.newBlockingTaskExecutor());
+    }
+
+    /**
+     * Creates a server as above, which answers requests on {@code requestPool}.
+     */
+    ApiServer(Logic logic, Executor writer, int port, ExecutorService requestPool) throws IOException {
+        requireAllNonNull(logic, writer, requestPool);
+        this.logic = logic;
+        commandQueue = new CommandQueue(logic, writer);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.requestPool = requestPool;
+        server.setExecutor(requestPool);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API at http://" + server.getAddress().getHostString() + ":" + getPort());
+    }
+
+    /**
+     * Stops accepting requests, and waits for the requests being answered to finish.
+     */
+    public void stop() {
+        server.stop(0);
+        requestPool.shutdown();
+        logger.info("Stopped serving the API");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if (!isFromLocalProgram(exchange)) {
+                logger.warning("Refused " + method + " " + exchange.getRequestURI() + " from a web page");
+                sendError(exchange, 403, MESSAGE_FORBIDDEN);
+                return;
+            }
+            try {
+                switch (path) {
+                case "/patients":
+                    requireMethod(exchange, "GET");
+                    sendJson(exchange, 200, getPatients(parseParameters(exchange.getRequestURI())));
+                    break;
+                case "/events":
+                    requireMethod(exchange, "GET");
+                    sendJson(exchange, 200, getEvents(parseParameters(exchange.getRequestURI())));
+                    break;
+                case "/commands":
+                    requireMethod(exchange, "POST");
+                    if (!isJson(exchange)) {
+                        sendError(exchange, 415, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+                        break;
+                    }
+                    runCommands(exchange);
+                    break;
+                default:
+                    sendError(exchange, 404, String.format(MESSAGE_NOT_FOUND, path));
+                }
+            } catch (MethodNotAllowedException e) {
+                sendError(exchange, 405, String.format(MESSAGE_METHOD_NOT_ALLOWED, path, e.getMessage()));
+            } catch (ParseException e) {
+                sendError(exchange, 400, e.getMessage());
+            }
+            logger.fine("Answered " + method + " " + exchange.getRequestURI());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns true if the request did not come from a web page: it has no {@code Origin} header, which browsers add
+     * to requests from web pages, and its {@code Host} is the loopback address, which a web page reaching this server
+     * through a domain name of its own cannot fake.
+     */
+    private static boolean isFromLocalProgram(HttpExchange exchange) {
+        Headers headers = exchange.getRequestHeaders();
+        String host = headers.getFirst("Host");
+        if (headers.containsKey("Origin") || host == null) {
+            return false;
+        }
+        String hostName = host.startsWith("[")
+                ? host.substring(0, host.indexOf(']') + 1)
+                : host.split(":", 2)[0];
+        return LOOPBACK_HOST_NAMES.contains(hostName.toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean isJson(HttpExchange exchange) {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        return contentType != null
+                && contentType.split(";", 2)[0].trim().equalsIgnoreCase(JSON_CONTENT_TYPE);
+    }
+
+    private Map<String, Object> getPatients(Map<String, String> parameters) throws ParseException {
+        int offset = parseNumber(parameters, "offset", 0, Integer.MAX_VALUE, 0);
+        int limit = parseNumber(parameters, "limit", 0, MAX_PAGE_SIZE, DEFAULT_PAGE_SIZE);
+        Predicate<Patient> filter = patient -> true;
+        String query = parameters.get("query");
+        if (query != null && !query.isBlank()) {
+            PatientQuery parsedQuery = QueryCommandParser.parseQuery(query);
+            if (parsedQuery.refersToCohort()) {
+                throw new ParseException(MESSAGE_COHORT_IN_QUERY);
+            }
+            filter = parsedQuery;
+        }
+
+        AddressBookSnapshot snapshot = logic.getAddressBookSnapshot();
+        List<Patient> matches = snapshot.getPatientList().stream()
+                .filter(filter)
+                .collect(Collectors.toList());
+        List<JsonAdaptedPatient> page = matches.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(JsonAdaptedPatient::new)
+                .collect(Collectors.toList());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", snapshot.getVersion());
+        body.put("total", matches.size());
+        body.put("offset", offset);
+        body.put("limit", limit);
+        body.put("patients", page);
+        return body;
+    }
+
+    private Map<String, Object> getEvents(Map<String, String> parameters) throws ParseException {
+        LocalDate from = parseDate(parameters, "from");
+        LocalDate to = parseDate(parameters, "to");
+        if (to.isBefore(from)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        AddressBookSnapshot snapshot = logic.getAddressBookSnapshot();
+        List<Map<String, Object>> events = snapshot.getPatientList().stream()
+                .flatMap(patient -> patient.getEvents().stream()
+                        .map(event -> new PatientEvent(patient, event, LocalDate.parse(event.date, DATE_FORMATTER))))
+                .filter(patientEvent -> !patientEvent.date.isBefore(from) && !patientEvent.date.isAfter(to))
+                .sorted(Comparator.comparing((PatientEvent patientEvent) -> patientEvent.date)
+                        .thenComparing(patientEvent -> patientEvent.event))
+                .map(PatientEvent::toJson)
+                .collect(Collectors.toList());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", snapshot.getVersion());
+        body.put("events", events);
+        return body;
+    }
+
+    private void runCommands(HttpExchange exchange) throws IOException, ParseException {
+        CommandsRequest request;
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            request = JsonUtil.fromJsonString(new String(requestBody.readAllBytes(), StandardCharsets.UTF_8),
+                    CommandsRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new ParseException(MESSAGE_INVALID_COMMANDS_BODY, e);
+        }
+        if (request == null || request.commands == null || request.commands.contains(null)) {
+            throw new ParseException(MESSAGE_INVALID_COMMANDS_BODY);
+        }
+        List<String> commandTexts = request.commands.stream()
+                .map(String::trim)
+                .filter(command -> !command.isEmpty())
+                .collect(Collectors.toList());
+        if (commandTexts.isEmpty()) {
+            throw new ParseException(MESSAGE_NO_COMMANDS);
+        }
+
+        List<CommandOutcome> outcomes;
+        try {
+            outcomes = commandQueue.submit(commandTexts).get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            sendError(exchange, 500, e.getCause().getMessage());
+            return;
+        } catch (TimeoutException e) {
+            sendError(exchange, 503, MESSAGE_COMMANDS_TIMED_OUT);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(exchange, 503, MESSAGE_COMMANDS_TIMED_OUT);
+            return;
+        }
+
+        List<Map<String, Object>> results = outcomes.stream()
+                .map(ApiServer::toJson)
+                .collect(Collectors.toList());
+        sendJson(exchange, 200, Map.of("results", results));
+    }
+
+    private static Map<String, Object> toJson(CommandOutcome outcome) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("command", outcome.getCommandText());
+        result.put("success", outcome.isSuccess());
+        if (outcome.isSuccess()) {
+            result.put("feedback", outcome.getResult().getFeedbackToUser());
+        } else {
+            result.put("error", outcome.getError());
+        }
+        return result;
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method) throws MethodNotAllowedException {
+        if (!exchange.getRequestMethod().equalsIgnoreCase(method)) {
+            throw new MethodNotAllowedException(method);
+        }
+    }
+
+    /**
+     * Returns the parameters in the query string of {@code uri}. Only the first value of a parameter is kept.
+     */
+    private static Map<String, String> parseParameters(URI uri) {
+        Map<String, String> parameters = new HashMap<>();
+        String queryString = uri.getRawQuery();
+        if (queryString == null) {
+            return parameters;
+        }
+        for (String parameter : queryString.split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            String name = URLDecoder.decode(nameAndValue[0], StandardCharsets.UTF_8);
+            String value = nameAndValue.length == 2 ? URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8) : "";
+            parameters.putIfAbsent(name, value);
+        }
+        return parameters;
+    }
+
+    private static int parseNumber(Map<String, String> parameters, String name, int min, int max, int defaultValue)
+            throws ParseException {
+        String value = parameters.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int number = Integer.parseInt(value.trim());
+            if (number >= min && number <= max) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below, as for a number out of range
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_NUMBER, name, min, max));
+    }
+
+    private static LocalDate parseDate(Map<String, String> parameters, String name) throws ParseException {
+        try {
+            return LocalDate.parse(parameters.getOrDefault(name, "").trim(), DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_DATE, name), e);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, Map.of("error", message));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    /**
+     * An event of a patient, and its date.
+     */
+    private static class PatientEvent {
+        private final Patient patient;
+        private final Event event;
+        private final LocalDate date;
+
+        PatientEvent(Patient patient, Event event, LocalDate date) {
+            this.patient = patient;
+            this.event = event;
+            this.date = date;
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("patientHospitalId", patient.getPatientHospitalId().patientHospitalId);
+            json.put("patientName", patient.getName().fullName);
+            json.put("name", event.name);
+            json.put("date", event.date);
+            json.put("startTime", event.startTime);
+            json.put("endTime", event.endTime);
+            return json;
+        }
+    }
+
+    /**
+     * The body of a request to run commands.
+     */
+    private static class CommandsRequest {
+        private List<String> commands;
+    }
+
+    /**
+     * Thrown when an endpoint is requested with a method it does not accept.
+     */
+    private static class MethodNotAllowedException extends Exception {
+        MethodNotAllowedException(String allowedMethod) {
+            super(allowedMethod);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.api;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandOutcome;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Queues commands from any thread to be executed one batch at a time by a single writer.
+ * Commands submitted while the writer is busy are executed together in the next batch, and their changes are saved
+ * once for the whole batch rather than once per command.
+ */
+class CommandQueue {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+
+    private final Logic logic;
+    private final Executor writer;
+    private final Queue<PendingCommands> pendingCommands = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isBatchScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a queue that executes commands with {@code logic} on {@code writer}, which must run the tasks given to
+     * it one at a time, such as the JavaFX application thread.
+     */
+    CommandQueue(Logic logic, Executor writer) {
+        requireAllNonNull(logic, writer);
+        this.logic = logic;
+        this.writer = writer;
+    }
+
+    /**
+     * Queues {@code commandTexts} to be executed in order, and returns their outcomes once they are executed and
+     * saved. The returned future fails with a {@code CommandException} if the changes could not be saved.
+     */
+    CompletableFuture<List<CommandOutcome>> submit(List<String> commandTexts) {
+        PendingCommands commands = new PendingCommands(List.copyOf(commandTexts));
+        pendingCommands.add(commands);
+        if (isBatchScheduled.compareAndSet(false, true)) {
+            writer.execute(this::executeBatch);
+        }
+        return commands.outcomes;
+    }
+
+    private void executeBatch() {
+        // Commands queued from now on are left for the next batch, which they schedule themselves
+        isBatchScheduled.set(false);
+        List<PendingCommands> batch = new ArrayList<>();
+        List<String> commandTexts = new ArrayList<>();
+        PendingCommands commands;
+        while ((commands = pendingCommands.poll()) != null) {
+            batch.add(commands);
+            commandTexts.addAll(commands.commandTexts);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<CommandOutcome> outcomes;
+        try {
+            outcomes = logic.executeBatch(commandTexts);
+        } catch (CommandException | RuntimeException e) {
+            batch.forEach(failedCommands -> failedCommands.outcomes.completeExceptionally(e));
+            return;
+        }
+        logger.fine("Executed " + commandTexts.size() + " command(s) from " + batch.size() + " request(s)");
+
+        int start = 0;
+        for (PendingCommands executedCommands : batch) {
+            int end = start + executedCommands.commandTexts.size();
+            executedCommands.outcomes.complete(List.copyOf(outcomes.subList(start, end)));
+            start = end;
+        }
+    }
+
+    /**
+     * Commands submitted together, and the outcomes to give back once they are executed.
+     */
+    private static class PendingCommands {
+        private final List<String> commandTexts;
+        private final CompletableFuture<List<CommandOutcome>> outcomes = new CompletableFuture<>();
+
+        PendingCommands(List<String> commandTexts) {
+            this.commandTexts = commandTexts;
+        }
+    }
+}
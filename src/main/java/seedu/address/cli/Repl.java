@@ -0,0 +1,106 @@
+package seedu.address.cli;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands read one per line, without a GUI, and writes the result of each command.
+ * Results are written as text, or as one JSON object per line for other programs to read. Output is only flushed
+ * when no more input is ready, so that commands piped in are not slowed down by writing each result on its own.
+ */
+public class Repl {
+
+    public static final String ERROR_PREFIX = "Error: ";
+
+    private static final Logger logger = LogsCenter.getLogger(Repl.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Logic logic;
+    private final boolean isJsonOutput;
+
+    /**
+     * Creates a Repl that runs commands with {@code logic}.
+     *
+     * @param isJsonOutput whether to write results as JSON instead of text
+     */
+    public Repl(Logic logic, boolean isJsonOutput) {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.isJsonOutput = isJsonOutput;
+    }
+
+    /**
+     * Runs the commands read from {@code input} until it ends or an exit command is run. Blank lines are skipped.
+     *
+     * @return the number of commands that failed.
+     */
+    public int run(BufferedReader input, PrintWriter output) throws IOException {
+        requireAllNonNull(input, output);
+        int failureCount = 0;
+        String line;
+        while ((line = input.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty()) {
+                continue;
+            }
+
+            boolean isExit = false;
+            try {
+                CommandResult result = logic.execute(commandText);
+                output.println(formatSuccess(commandText, result.getFeedbackToUser()));
+                isExit = result.isExit();
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                output.println(formatFailure(commandText, e.getMessage()));
+            }
+
+            if (isExit) {
+                break;
+            }
+            if (!input.ready()) {
+                output.flush();
+            }
+        }
+        output.flush();
+        logger.info("Headless session ended with " + failureCount + " failed command(s)");
+        return failureCount;
+    }
+
+    private String formatSuccess(String commandText, String feedback) throws JsonProcessingException {
+        if (!isJsonOutput) {
+            return feedback;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("command", commandText);
+        result.put("success", true);
+        result.put("feedback", feedback);
+        return objectMapper.writeValueAsString(result);
+    }
+
+    private String formatFailure(String commandText, String error) throws JsonProcessingException {
+        if (!isJsonOutput) {
+            return ERROR_PREFIX + error;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("command", commandText);
+        result.put("success", false);
+        result.put("error", error);
+        return objectMapper.writeValueAsString(result);
+    }
+}
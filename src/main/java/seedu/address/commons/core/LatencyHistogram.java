@@ -0,0 +1,101 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts durations in buckets whose width grows with the duration, so that any duration, from a nanosecond to
+ * centuries, is recorded in constant time and space, to within 1/16 (6.25%) of its value.
+ * Durations below 16 nanoseconds have a bucket each. Above that, each power of two is split into 16 equal buckets.
+ * Recording never blocks, so durations can be recorded from several threads without a lock. Percentiles read while
+ * durations are being recorded may not include the latest ones.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations, which a clock adjustment can cause, are
+     * recorded as zero.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketOf(duration));
+        totalCount.increment();
+        max.accumulate(duration);
+    }
+
+    /**
+     * Returns the number of durations recorded.
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Returns the longest duration recorded, in nanoseconds, or 0 if none was recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the duration, in nanoseconds, that {@code percentile} percent of the recorded durations do not exceed,
+     * or 0 if none was recorded. The duration is the upper bound of its bucket, but never more than the maximum.
+     */
+    public long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "A percentile must be between 0 and 100");
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), getMax());
+            }
+        }
+        // Durations recorded after the count was read
+        return getMax();
+    }
+
+    /**
+     * Returns the bucket that {@code duration} is counted in.
+     */
+    static int bucketOf(long duration) {
+        if (duration < SUB_BUCKET_COUNT) {
+            return (int) duration;
+        }
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(duration);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) ((duration >>> shift) & (SUB_BUCKET_COUNT - 1));
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the longest duration counted in {@code bucket}.
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        long subBucket = bucket % SUB_BUCKET_COUNT;
+        long lowerBound = (SUB_BUCKET_COUNT + subBucket) << shift;
+        long width = 1L << shift;
+        // The last bucket ends at Long.MAX_VALUE, so this does not overflow
+        return lowerBound + (width - 1);
+    }
+}
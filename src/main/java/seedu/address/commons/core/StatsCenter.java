@@ -0,0 +1,125 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Records how long the app takes to do things, and how often it does them, while it runs.
+ * Durations are kept in a {@link LatencyHistogram} per name and occurrences in a counter per name, both created
+ * when a name is first recorded. Recording neither blocks nor allocates once a name has been recorded, so it can be
+ * left on at all times.
+ */
+public class StatsCenter {
+
+    private static final String LATENCY_HEADER_FORMAT = "%-24s %8s %10s %10s %10s %10s";
+    private static final String LATENCY_ROW_FORMAT = "%-24s %8d %10.3f %10.3f %10.3f %10.3f";
+    private static final String COUNTER_ROW_FORMAT = "%-24s %8d";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final Logger logger = LogsCenter.getLogger(StatsCenter.class);
+    private static final ConcurrentMap<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService logScheduler;
+
+    /**
+     * Logs the stats every {@code intervalSeconds} seconds, as set in the {@code config} object, until the app exits.
+     * Does nothing if the interval is 0.
+     */
+    public static synchronized void init(Config config) {
+        int intervalSeconds = config.getStatsLogIntervalSeconds();
+        checkArgument(intervalSeconds >= 0, "The stats log interval cannot be negative");
+        if (intervalSeconds == 0 || logScheduler != null) {
+            return;
+        }
+
+        logger.info("Stats will be logged every " + intervalSeconds + " second(s)");
+        logScheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "stats-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logScheduler.scheduleAtFixedRate(StatsCenter::logReport, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Logs the report at the {@code INFO} level, and returns it.
+     */
+    public static String logReport() {
+        String report = getReport();
+        logger.info("Stats:\n" + report);
+        return report;
+    }
+
+    /**
+     * Records that the thing named {@code name} took {@code nanos} nanoseconds.
+     */
+    public static void recordLatency(String name, long nanos) {
+        requireNonNull(name);
+        latencies.computeIfAbsent(name, unused -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Adds {@code amount} to the counter named {@code name}.
+     */
+    public static void count(String name, long amount) {
+        requireNonNull(name);
+        counters.computeIfAbsent(name, unused -> new LongAdder()).add(amount);
+    }
+
+    /**
+     * Returns the durations recorded under {@code name}, if any were.
+     */
+    public static LatencyHistogram getLatency(String name) {
+        return latencies.get(name);
+    }
+
+    /**
+     * Returns the value of the counter named {@code name}, which is 0 if nothing was counted.
+     */
+    public static long getCount(String name) {
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Returns a table of the recorded durations, in milliseconds, and of the counters, each sorted by name.
+     */
+    public static String getReport() {
+        StringBuilder report = new StringBuilder(
+                String.format(LATENCY_HEADER_FORMAT, "Latency (ms)", "count", "p50", "p95", "p99", "max"));
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(latencies).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            report.append('\n').append(String.format(LATENCY_ROW_FORMAT, entry.getKey(), histogram.getCount(),
+                    toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(95)),
+                    toMillis(histogram.getValueAtPercentile(99)), toMillis(histogram.getMax())));
+        }
+
+        report.append("\n\n").append(String.format("%-24s %8s", "Counter", "value"));
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(counters).entrySet()) {
+            report.append('\n').append(String.format(COUNTER_ROW_FORMAT, entry.getKey(), entry.getValue().sum()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Forgets everything recorded so far.
+     */
+    public static void reset() {
+        latencies.clear();
+        counters.clear();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
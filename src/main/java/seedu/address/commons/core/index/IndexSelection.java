@@ -0,0 +1,201 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a selection of items in a displayed list, either as ranges of indexes or as all displayed items.
+ *
+ * Like {@code Index}, the selection does not depend on the size of the list it is applied to, so it can be created
+ * when parsing user input and only resolved against the list when a command is executed.
+ */
+public class IndexSelection {
+    private static final IndexSelection ALL_SHOWN = new IndexSelection(null);
+
+    /**
+     * Sorted, non-overlapping and non-adjacent zero-based ranges, stored as {@code [start0, end0, start1, end1, ...]}
+     * with inclusive ends, or null if every displayed item is selected.
+     */
+    private final int[] ranges;
+
+    private IndexSelection(int[] ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Creates a selection of the single item at {@code index}.
+     */
+    public static IndexSelection of(Index index) {
+        requireNonNull(index);
+        return ofRange(index, index);
+    }
+
+    /**
+     * Creates a selection of the items from {@code first} to {@code last}, both inclusive.
+     * @throws IllegalArgumentException if {@code last} is before {@code first}.
+     */
+    public static IndexSelection ofRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new IllegalArgumentException("The last index of a range cannot be before its first index");
+        }
+        return new IndexSelection(new int[] {first.getZeroBased(), last.getZeroBased()});
+    }
+
+    /**
+     * Returns the selection of every displayed item.
+     */
+    public static IndexSelection allShown() {
+        return ALL_SHOWN;
+    }
+
+    /**
+     * Returns a selection of the items in this selection or in {@code other}.
+     */
+    public IndexSelection union(IndexSelection other) {
+        requireNonNull(other);
+        return unionOf(List.of(this, other));
+    }
+
+    /**
+     * Returns a selection of the items in any of {@code selections}, sorting their ranges once.
+     * @throws IllegalArgumentException if {@code selections} is empty.
+     */
+    public static IndexSelection unionOf(List<IndexSelection> selections) {
+        requireNonNull(selections);
+        checkArgument(!selections.isEmpty(), "A union must have at least one selection");
+
+        int rangeCount = 0;
+        for (IndexSelection selection : selections) {
+            if (selection.isAllShown()) {
+                return ALL_SHOWN;
+            }
+            rangeCount += selection.ranges.length / 2;
+        }
+
+        // Indexes are not negative, so ranges packed as start then end sort by start
+        long[] packedRanges = new long[rangeCount];
+        int packedCount = 0;
+        for (IndexSelection selection : selections) {
+            for (int i = 0; i < selection.ranges.length; i += 2) {
+                packedRanges[packedCount++] = ((long) selection.ranges[i] << Integer.SIZE) | selection.ranges[i + 1];
+            }
+        }
+        Arrays.sort(packedRanges);
+
+        int[] merged = new int[rangeCount * 2];
+        int mergedLength = 0;
+        for (long packedRange : packedRanges) {
+            int start = (int) (packedRange >>> Integer.SIZE);
+            int end = (int) packedRange;
+            // Extends the previous range if the next range overlaps it or is right after it
+            if (mergedLength > 0 && start <= merged[mergedLength - 1] + 1) {
+                merged[mergedLength - 1] = Math.max(merged[mergedLength - 1], end);
+            } else {
+                merged[mergedLength++] = start;
+                merged[mergedLength++] = end;
+            }
+        }
+        return new IndexSelection(Arrays.copyOf(merged, mergedLength));
+    }
+
+    /**
+     * Returns true if every displayed item is selected.
+     */
+    public boolean isAllShown() {
+        return ranges == null;
+    }
+
+    /**
+     * Returns the selected index if exactly one index is selected, regardless of the size of the list.
+     */
+    public Optional<Index> getSingleIndex() {
+        if (isAllShown() || ranges.length != 2 || ranges[0] != ranges[1]) {
+            return Optional.empty();
+        }
+        return Optional.of(Index.fromZeroBased(ranges[0]));
+    }
+
+    /**
+     * Returns true if every selected index is within a list of {@code listSize} items.
+     */
+    public boolean isWithin(int listSize) {
+        return isAllShown() || ranges[ranges.length - 1] < listSize;
+    }
+
+    /**
+     * Returns the selected zero-based indexes of a list of {@code listSize} items, in ascending order.
+     * @throws IndexOutOfBoundsException if a selected index is not within the list.
+     */
+    public int[] getZeroBasedIndexes(int listSize) {
+        if (!isWithin(listSize)) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int[] selectedRanges = isAllShown() ? new int[] {0, listSize - 1} : ranges;
+        int count = 0;
+        for (int i = 0; i < selectedRanges.length; i += 2) {
+            count += selectedRanges[i + 1] - selectedRanges[i] + 1;
+        }
+
+        int[] indexes = new int[count];
+        int position = 0;
+        for (int i = 0; i < selectedRanges.length; i += 2) {
+            for (int index = selectedRanges[i]; index <= selectedRanges[i + 1]; index++) {
+                indexes[position++] = index;
+            }
+        }
+        return indexes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexSelection)) {
+            return false;
+        }
+
+        IndexSelection otherIndexSelection = (IndexSelection) other;
+        return Arrays.equals(ranges, otherIndexSelection.ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ranges);
+    }
+
+    /**
+     * Returns the string representation of the selected index if a single index is selected, so that a selection of
+     * one index reads the same as that index. Otherwise, describes the selected one-based ranges.
+     */
+    @Override
+    public String toString() {
+        Optional<Index> singleIndex = getSingleIndex();
+        if (singleIndex.isPresent()) {
+            return singleIndex.get().toString();
+        }
+        if (isAllShown()) {
+            return new ToStringBuilder(this).add("allShown", true).toString();
+        }
+
+        StringJoiner oneBasedRanges = new StringJoiner(",");
+        for (int i = 0; i < ranges.length; i += 2) {
+            oneBasedRanges.add(ranges[i] == ranges[i + 1]
+                    ? String.valueOf(ranges[i] + 1)
+                    : (ranges[i] + 1) + "-" + (ranges[i + 1] + 1));
+        }
+        return new ToStringBuilder(this).add("ranges", oneBasedRanges).toString();
+    }
+}
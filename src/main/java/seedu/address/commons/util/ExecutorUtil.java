@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Helper functions for creating executors.
+ */
+public class ExecutorUtil {
+
+    /** Number of platform threads per processor for blocking tasks, on Java versions without virtual threads. */
+    public static final int BLOCKING_THREADS_PER_PROCESSOR = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(ExecutorUtil.class);
+
+    /**
+     * {@code Executors#newVirtualThreadPerTaskExecutor()}, which only exists from Java 21, or null on older versions.
+     * It is looked up at runtime, as the application is compiled for Java 11.
+     */
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutor();
+
+    /**
+     * Returns true if {@link #newBlockingTaskExecutor()} runs each task on its own virtual thread.
+     */
+    public static boolean hasVirtualThreads() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Returns an executor for tasks that spend much of their time blocked, such as answering requests over the
+     * network. On Java 21 and later, each task runs on a virtual thread of its own, so blocked tasks never hold up
+     * other tasks. On older versions, the tasks share a bounded pool of
+     * {@value #BLOCKING_THREADS_PER_PROCESSOR} platform threads per processor.
+     */
+    public static ExecutorService newBlockingTaskExecutor() {
+        if (hasVirtualThreads()) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                logger.warning("Failed to create a virtual thread executor : " + StringUtil.getDetails(e));
+            }
+        }
+        int threadCount = BLOCKING_THREADS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(threadCount);
+    }
+
+    private static Method findVirtualThreadPerTaskExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -6,12 +6,15 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import seedu.address.commons.core.StatsCenter;
+
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String BYTES_WRITTEN_STAT = "bytes written";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,7 +80,9 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        Files.write(file, bytes);
+        StatsCenter.count(BYTES_WRITTEN_STAT, bytes.length);
     }
 
 }
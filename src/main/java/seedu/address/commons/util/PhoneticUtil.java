@@ -0,0 +1,292 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Helper functions for encoding words by how they sound, so that words spelt differently but pronounced alike, such
+ * as "Catherine" and "Kathryn", get the same key.
+ *
+ * The encoding follows the main rules of the Double Metaphone algorithm: each word gets a primary key for its most
+ * likely pronunciation and an alternate key for another common pronunciation, e.g. "George" is encoded as "JRJ" and
+ * "KRK". Keys are made of consonant sounds only, with "0" standing for "th" and "X" for "sh", and are at most
+ * {@link #KEY_LENGTH} characters long.
+ */
+public class PhoneticUtil {
+
+    /** Maximum length of a phonetic key. */
+    public static final int KEY_LENGTH = 4;
+
+    private static final String VOWELS = "AEIOUY";
+
+    /**
+     * Returns the primary and alternate phonetic keys of {@code word}, in that order. The two keys are equal if the
+     * word has a single likely pronunciation. Characters other than the letters A to Z are ignored, so both keys are
+     * empty if {@code word} has none.
+     */
+    public static List<String> getPhoneticKeys(String word) {
+        requireNonNull(word);
+        String letters = word.toUpperCase(Locale.ROOT).replaceAll("[^A-Z]", "");
+        Keys keys = new Keys();
+        if (letters.isEmpty()) {
+            return keys.toList();
+        }
+
+        int i = 0;
+        // Silent first letters, e.g. the K of "Knight"
+        if (isAt(letters, 0, "GN", "KN", "PN", "WR", "PS")) {
+            i = 1;
+        } else if (letters.charAt(0) == 'X') {
+            keys.add("S");
+            i = 1;
+        }
+        while (i < letters.length() && !keys.isFull()) {
+            i = encodeAt(letters, i, keys);
+        }
+        return keys.toList();
+    }
+
+    /**
+     * Adds the sound of the letters starting at {@code i} of {@code s} to {@code keys}, and returns the position of
+     * the first letter that is not part of that sound.
+     */
+    private static int encodeAt(String s, int i, Keys keys) {
+        char c = s.charAt(i);
+        switch (c) {
+        case 'A':
+        case 'E':
+        case 'I':
+        case 'O':
+        case 'U':
+        case 'Y':
+            // Only a vowel at the start of a word is encoded
+            if (i == 0) {
+                keys.add("A");
+            }
+            return i + 1;
+        case 'B':
+            keys.add("P");
+            return skipDouble(s, i);
+        case 'C':
+            return encodeC(s, i, keys);
+        case 'D':
+            if (isAt(s, i, "DG") && isOneOf(charAt(s, i + 2), "EIY")) {
+                keys.add("J");
+                return i + 3;
+            }
+            keys.add("T");
+            return isAt(s, i, "DT", "DD") ? i + 2 : i + 1;
+        case 'G':
+            return encodeG(s, i, keys);
+        case 'H':
+            // H is only sounded before a vowel, and not after a consonant, e.g. not in "John"
+            if ((i == 0 || isVowel(charAt(s, i - 1))) && isVowel(charAt(s, i + 1))) {
+                keys.add("H");
+            }
+            return i + 1;
+        case 'M':
+            keys.add("M");
+            // Silent B at the end, e.g. "Lamb"
+            if (isAt(s, i, "MB") && i + 2 == s.length()) {
+                return i + 2;
+            }
+            return skipDouble(s, i);
+        case 'P':
+            if (charAt(s, i + 1) == 'H') {
+                keys.add("F");
+                return i + 2;
+            }
+            keys.add("P");
+            return isAt(s, i, "PP", "PB") ? i + 2 : i + 1;
+        case 'Q':
+            keys.add("K");
+            return skipDouble(s, i);
+        case 'S':
+            return encodeS(s, i, keys);
+        case 'T':
+            return encodeT(s, i, keys);
+        case 'V':
+            keys.add("F");
+            return skipDouble(s, i);
+        case 'W':
+            // W is only sounded at the start of a word, like a vowel or like a V, e.g. "Wong" or "Wagner"
+            if (i == 0 && (isVowel(charAt(s, 1)) || charAt(s, 1) == 'H')) {
+                keys.add("A", "F");
+            }
+            return i + 1;
+        case 'X':
+            keys.add("KS");
+            return skipDouble(s, i);
+        case 'Z':
+            if (charAt(s, i + 1) == 'H') {
+                keys.add("J");
+                return i + 2;
+            }
+            keys.add("S");
+            return skipDouble(s, i);
+        default:
+            // F, J, K, L, N and R sound as they are written
+            keys.add(String.valueOf(c));
+            return skipDouble(s, i);
+        }
+    }
+
+    private static int encodeC(String s, int i, Keys keys) {
+        if (isAt(s, i, "CH")) {
+            // CHR and CHL at the start of a word are hard, e.g. "Christopher"
+            if (i == 0 && isOneOf(charAt(s, i + 2), "RL")) {
+                keys.add("K");
+            } else {
+                keys.add("X", "K");
+            }
+            return i + 2;
+        }
+        if (isAt(s, i, "CIA")) {
+            keys.add("X");
+            return i + 3;
+        }
+        if (isAt(s, i, "CC") && isOneOf(charAt(s, i + 2), "EIY")) {
+            keys.add("KS");
+            return i + 2;
+        }
+        if (isOneOf(charAt(s, i + 1), "EIY")) {
+            keys.add("S");
+            return i + 1;
+        }
+        keys.add("K");
+        return isOneOf(charAt(s, i + 1), "CGKQ") ? i + 2 : i + 1;
+    }
+
+    private static int encodeG(String s, int i, Keys keys) {
+        char next = charAt(s, i + 1);
+        if (next == 'H') {
+            // GH after a vowel is silent, e.g. "Leigh"
+            if (i > 0 && isVowel(charAt(s, i - 1))) {
+                return i + 2;
+            }
+            keys.add("K");
+            return i + 2;
+        }
+        if (next == 'N') {
+            // GN at the end of a word is silent, e.g. "Sign", and may be silent elsewhere, e.g. "Agnes"
+            if (i + 2 == s.length()) {
+                return i + 1;
+            }
+            keys.add("K", "");
+            return i + 1;
+        }
+        if (isOneOf(next, "EIY")) {
+            keys.add("J", "K");
+            return i + 1;
+        }
+        keys.add("K");
+        return skipDouble(s, i);
+    }
+
+    private static int encodeS(String s, int i, Keys keys) {
+        if (isAt(s, i, "SH")) {
+            keys.add("X");
+            return i + 2;
+        }
+        if (isAt(s, i, "SIO", "SIA")) {
+            if (i == 0) {
+                keys.add("S", "X");
+            } else {
+                keys.add("X", "S");
+            }
+            return i + 3;
+        }
+        if (isAt(s, i, "SCH")) {
+            keys.add("SK", "X");
+            return i + 3;
+        }
+        if (isAt(s, i, "SC") && isOneOf(charAt(s, i + 2), "EIY")) {
+            keys.add("S");
+            return i + 2;
+        }
+        if (isAt(s, i, "SZ")) {
+            keys.add("S", "X");
+            return i + 2;
+        }
+        keys.add("S");
+        return isOneOf(charAt(s, i + 1), "SZ") ? i + 2 : i + 1;
+    }
+
+    private static int encodeT(String s, int i, Keys keys) {
+        if (isAt(s, i, "TION", "TIA", "TCH")) {
+            keys.add("X");
+            return i + 3;
+        }
+        if (isAt(s, i, "TH", "TTH")) {
+            keys.add("0", "T");
+            return isAt(s, i, "TTH") ? i + 3 : i + 2;
+        }
+        keys.add("T");
+        return isOneOf(charAt(s, i + 1), "DT") ? i + 2 : i + 1;
+    }
+
+    /**
+     * Returns the position after the letter at {@code i} of {@code s}, skipping a repetition of the letter.
+     */
+    private static int skipDouble(String s, int i) {
+        return charAt(s, i + 1) == s.charAt(i) ? i + 2 : i + 1;
+    }
+
+    /**
+     * Returns true if any of {@code candidates} occurs in {@code s} at position {@code i}.
+     */
+    private static boolean isAt(String s, int i, String... candidates) {
+        for (String candidate : candidates) {
+            if (s.startsWith(candidate, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the character at position {@code i} of {@code s}, or {@code '\0'} if {@code i} is out of range.
+     */
+    private static char charAt(String s, int i) {
+        return i >= 0 && i < s.length() ? s.charAt(i) : '\0';
+    }
+
+    private static boolean isOneOf(char c, String characters) {
+        return c != '\0' && characters.indexOf(c) >= 0;
+    }
+
+    private static boolean isVowel(char c) {
+        return isOneOf(c, VOWELS);
+    }
+
+    /**
+     * The primary and alternate keys of a word, built up sound by sound.
+     */
+    private static class Keys {
+        private final StringBuilder primary = new StringBuilder();
+        private final StringBuilder alternate = new StringBuilder();
+
+        void add(String sound) {
+            add(sound, sound);
+        }
+
+        void add(String primarySound, String alternateSound) {
+            primary.append(primarySound);
+            alternate.append(alternateSound);
+        }
+
+        boolean isFull() {
+            return primary.length() >= KEY_LENGTH && alternate.length() >= KEY_LENGTH;
+        }
+
+        List<String> toList() {
+            return List.of(truncate(primary), truncate(alternate));
+        }
+
+        private static String truncate(StringBuilder key) {
+            return key.length() > KEY_LENGTH ? key.substring(0, KEY_LENGTH) : key.toString();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 
 /**
@@ -12,6 +14,16 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    /**
+     * Collators are not thread-safe, so each thread gets its own copy.
+     * Secondary strength ignores case differences but keeps accents significant.
+     */
+    private static final ThreadLocal<Collator> COLLATOR = ThreadLocal.withInitial(() -> {
+        Collator collator = Collator.getInstance();
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    });
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +50,59 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns a locale-aware, case-insensitive {@code CollationKey} for {@code s}.
+     * Comparing two keys is much cheaper than collating the two strings again, so keys should be
+     * computed once and cached by callers that compare the same string repeatedly (e.g. when sorting).
+     */
+    public static CollationKey getCollationKey(String s) {
+        requireNonNull(s);
+        return COLLATOR.get().getCollationKey(s);
+    }
+
+    /**
+     * Returns the number of single-character insertions, deletions, substitutions and transpositions of adjacent
+     * characters needed to turn {@code a} into {@code b}, e.g. "jhon" is 1 edit away from "john".
+     * Stops early once the distance is known to exceed {@code max}, in which case a value greater than {@code max}
+     * is returned.
+     */
+    public static int getEditDistance(String a, String b, int max) {
+        requireNonNull(a);
+        requireNonNull(b);
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+
+        // Rows of the dynamic programming table: two rows ago, the previous row and the current row
+        int[] twoRowsAgo = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitutionCost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1),
+                        previous[j - 1] + substitutionCost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], twoRowsAgo[j - 2] + 1);
+                }
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > max) {
+                return max + 1;
+            }
+            int[] recycled = twoRowsAgo;
+            twoRowsAgo = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,72 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * The outcome of a command executed in a batch: either its result, or the error it failed with.
+ */
+public class CommandOutcome {
+
+    private final String commandText;
+    private final CommandResult result;
+    private final String error;
+
+    private CommandOutcome(String commandText, CommandResult result, String error) {
+        requireNonNull(commandText);
+        this.commandText = commandText;
+        this.result = result;
+        this.error = error;
+    }
+
+    /**
+     * Returns the outcome of {@code commandText} when it succeeded with {@code result}.
+     */
+    public static CommandOutcome success(String commandText, CommandResult result) {
+        requireNonNull(result);
+        return new CommandOutcome(commandText, result, null);
+    }
+
+    /**
+     * Returns the outcome of {@code commandText} when it failed with the message {@code error}.
+     */
+    public static CommandOutcome failure(String commandText, String error) {
+        requireNonNull(error);
+        return new CommandOutcome(commandText, null, error);
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    public boolean isSuccess() {
+        return result != null;
+    }
+
+    /**
+     * Returns the result of the command. The command must have succeeded.
+     */
+    public CommandResult getResult() {
+        assert isSuccess();
+        return result;
+    }
+
+    /**
+     * Returns the message of the error the command failed with. The command must have failed.
+     */
+    public String getError() {
+        assert !isSuccess();
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandText", commandText)
+                .add("result", result)
+                .add("error", error)
+                .toString();
+    }
+}
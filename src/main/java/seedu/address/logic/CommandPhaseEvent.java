@@ -0,0 +1,29 @@
+package seedu.address.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for one phase of a command: parsing, executing or saving it.
+ * While no recording is enabled, beginning and committing it does nothing.
+ */
+@Name("seedu.address.CommandPhase")
+@Label("Command Phase")
+@Category({"PatientSync", "Commands"})
+@Description("Parsing, executing or saving a command")
+class CommandPhaseEvent extends Event {
+
+    @Label("Command Word")
+    String commandWord;
+
+    @Label("Phase")
+    String phase;
+
+    CommandPhaseEvent(String commandWord, String phase) {
+        this.commandWord = commandWord;
+        this.phase = phase;
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.patient.Patient;
 
@@ -23,6 +26,43 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Runs the commands in {@code scriptFile}, one command per line, and saves the changes once at the end.
+     * @param scriptFile The file containing the commands.
+     * @param isAllOrNothing Whether to discard all changes if any of the commands fails.
+     * @return the result of running the script, including the line numbers of the commands that failed.
+     * @throws CommandException If the file cannot be read, the changes cannot be saved, or, if
+     *     {@code isAllOrNothing}, a command fails.
+     */
+    CommandResult executeScript(Path scriptFile, boolean isAllOrNothing) throws CommandException;
+
+    /**
+     * Executes each of {@code commandTexts} as a separate command, in order, and saves the changes once after the
+     * last one. A command that fails does not stop the commands after it. Commands that cannot be run from a script
+     * fail, and while a transaction is in progress, every command fails without being run.
+     * @param commandTexts The commands, as entered by the user.
+     * @return the outcome of each command, in order.
+     * @throws CommandException If the changes cannot be saved.
+     */
+    List<CommandOutcome> executeBatch(List<String> commandTexts) throws CommandException;
+
+    /**
+     * Saves the address book now, even if it did not change since it was last saved.
+     * @throws CommandException If the address book cannot be saved, or a transaction is in progress.
+     */
+    void save() throws CommandException;
+
+    /**
+     * Returns the state of the logic as of the last command. It can be called from any thread, and waits for the
+     * command being executed, if any.
+     */
+    LogicStatus getStatus();
+
+    /**
+     * Returns all command words that {@link #execute(String)} recognises, in alphabetical order.
+     */
+    Set<String> getCommandWords();
+
     /**
      * Returns the AddressBook.
      *
@@ -30,6 +70,13 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the AddressBook as of the last command, which can be read from any thread.
+     *
+     * @see seedu.address.model.Model#getSnapshot()
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of patients */
     ObservableList<Patient> getFilteredPatientList();
 
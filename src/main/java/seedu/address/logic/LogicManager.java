@@ -2,17 +2,28 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LatencyHistogram;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StatsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.patient.Patient;
@@ -20,6 +31,9 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands are executed one at a time, even if they are given from several threads.
+ * How long each command takes to be parsed, executed and saved is recorded in the {@link StatsCenter}, and as a
+ * {@link CommandPhaseEvent} while Flight Recorder is recording.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -27,12 +41,36 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_SAVE_IN_TRANSACTION =
+            "Data cannot be saved in a transaction. Commit or roll back the transaction first";
+
+    public static final String MESSAGE_NOT_ALLOWED_IN_BATCH = "The %1$s command cannot be sent by another program";
+
+    public static final String MESSAGE_BATCH_IN_TRANSACTION = "Commands cannot be sent by another program while a "
+            + "transaction is in progress. Commit or roll back the transaction first";
+
+    private static final String PARSE_PHASE = "parse";
+    private static final String EXECUTE_PHASE = "execute";
+    private static final String SAVE_PHASE = "save";
+    private static final String PARSE_STATS_SUFFIX = " " + PARSE_PHASE;
+    private static final String EXECUTE_STATS_SUFFIX = " " + EXECUTE_PHASE;
+    private static final String SAVE_STATS_SUFFIX = " " + SAVE_PHASE;
+    private static final String SAVES_STATS_NAME = "saves";
+    private static final String BATCH_STATS_NAME = "(batch)";
+    private static final String SAVE_STATS_NAME = "(manual)";
+    private static final String UNKNOWN_COMMAND_STATS_NAME = "(unknown)";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** Version of the snapshot of the model that was last saved. */
+    private long savedVersion;
+    private long lastSaveNanos = -1;
+    private long lastSaveSize = -1;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -40,29 +78,174 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getSnapshot().getVersion();
     }
 
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-
-        Command command = addressBookParser.parseCommand(commandText);
+        String statsName = getStatsName(commandText);
+        Command command = parseCommand(commandText, statsName);
         logger.info("Successfully parsed command; Attempting to execute");
 
-        commandResult = command.execute(model);
+        return executeAndSave(command, statsName);
+    }
+
+    @Override
+    public synchronized CommandResult executeScript(Path scriptFile, boolean isAllOrNothing)
+            throws CommandException {
+        logger.info("----------------[SCRIPT][" + scriptFile + "]");
+
+        return executeAndSave(new RunCommand(scriptFile, isAllOrNothing), RunCommand.COMMAND_WORD);
+    }
+
+    @Override
+    public synchronized List<CommandOutcome> executeBatch(List<String> commandTexts) throws CommandException {
+        logger.info("----------------[BATCH][" + commandTexts.size() + " command(s)]");
+
+        List<CommandOutcome> outcomes = new ArrayList<>(commandTexts.size());
+        if (model.isInTransaction()) {
+            // The commands would be committed or rolled back with the user's transaction
+            logger.info("Refused batch as a transaction is in progress");
+            for (String commandText : commandTexts) {
+                outcomes.add(CommandOutcome.failure(commandText, MESSAGE_BATCH_IN_TRANSACTION));
+            }
+            return outcomes;
+        }
+
+        for (String commandText : commandTexts) {
+            String statsName = getStatsName(commandText);
+            try {
+                Command command = parseCommand(commandText, statsName);
+                if (!RunCommand.isAllowedInScript(command)) {
+                    throw new ParseException(String.format(MESSAGE_NOT_ALLOWED_IN_BATCH, statsName));
+                }
+                CommandResult result = executeAndCommit(command, statsName);
+                outcomes.add(CommandOutcome.success(commandText, result));
+            } catch (CommandException | ParseException e) {
+                outcomes.add(CommandOutcome.failure(commandText, e.getMessage()));
+            }
+        }
+
+        logger.info("Executed batch; Attempting to save changes");
+        saveAddressBook(BATCH_STATS_NAME);
+        return outcomes;
+    }
+
+    /**
+     * Executes {@code command} and saves the address book once afterwards.
+     * The changes made by the command, even if it fails part way, become a version of the address book that can be
+     * undone. In a transaction, the changes are shown but only saved, as a single version, when it is committed,
+     * and nothing is saved if it is rolled back.
+     */
+    private CommandResult executeAndSave(Command command, String statsName) throws CommandException {
+        CommandResult commandResult = executeAndCommit(command, statsName);
+        if (model.isInTransaction()) {
+            logger.info("Successfully executed command; Changes will be saved when the transaction is committed");
+            return commandResult;
+        }
+        if (command instanceof RollbackCommand) {
+            // The address book is back to how it was when it was last saved
+            savedVersion = model.getSnapshot().getVersion();
+            return commandResult;
+        }
         logger.info("Successfully executed command; Attempting to save changes");
 
+        saveAddressBook(statsName);
+        return commandResult;
+    }
+
+    /**
+     * Parses {@code commandText}, recording how long it took under {@code statsName}, even if it is invalid.
+     */
+    private Command parseCommand(String commandText, String statsName) throws ParseException {
+        CommandPhaseEvent event = new CommandPhaseEvent(statsName, PARSE_PHASE);
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return addressBookParser.parseCommand(commandText);
+        } finally {
+            StatsCenter.recordLatency(statsName + PARSE_STATS_SUFFIX, System.nanoTime() - start);
+            event.commit();
+        }
+    }
+
+    /**
+     * Executes {@code command} and commits the changes it made, even if it fails part way, as a version.
+     * Records how long it took under {@code statsName}.
+     */
+    private CommandResult executeAndCommit(Command command, String statsName) throws CommandException {
+        CommandPhaseEvent event = new CommandPhaseEvent(statsName, EXECUTE_PHASE);
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return command.execute(model);
+        } finally {
+            model.commitVersion();
+            StatsCenter.recordLatency(statsName + EXECUTE_STATS_SUFFIX, System.nanoTime() - start);
+            event.commit();
+        }
+    }
+
+    /**
+     * Saves the address book, recording how long it took under {@code statsName}, even if it could not be saved,
+     * and how long it took and how large the file became if it was saved.
+     */
+    private void saveAddressBook(String statsName) throws CommandException {
+        CommandPhaseEvent event = new CommandPhaseEvent(statsName, SAVE_PHASE);
+        event.begin();
+        long start = System.nanoTime();
         try {
             storage.saveAddressBook(model.getAddressBook());
+            lastSaveNanos = System.nanoTime() - start;
+            lastSaveSize = Files.size(storage.getAddressBookFilePath());
+            savedVersion = model.getSnapshot().getVersion();
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        } finally {
+            StatsCenter.recordLatency(statsName + SAVE_STATS_SUFFIX, System.nanoTime() - start);
+            StatsCenter.count(SAVES_STATS_NAME, 1);
+            event.commit();
         }
+    }
 
-        return commandResult;
+    /**
+     * Returns the name to record the phases of {@code commandText} under, which is its command word, so that
+     * unknown commands are recorded under a single name.
+     */
+    private String getStatsName(String commandText) {
+        return addressBookParser.getCommandWord(commandText).orElse(UNKNOWN_COMMAND_STATS_NAME);
+    }
+
+    @Override
+    public synchronized void save() throws CommandException {
+        if (model.isInTransaction()) {
+            throw new CommandException(MESSAGE_SAVE_IN_TRANSACTION);
+        }
+        logger.info("----------------[SAVE]");
+        saveAddressBook(SAVE_STATS_NAME);
+    }
+
+    @Override
+    public synchronized LogicStatus getStatus() {
+        Map<String, Long> commandCounts = new TreeMap<>();
+        for (String commandWord : addressBookParser.getCommandWords()) {
+            LatencyHistogram executions = StatsCenter.getLatency(commandWord + EXECUTE_STATS_SUFFIX);
+            if (executions != null) {
+                commandCounts.put(commandWord, executions.getCount());
+            }
+        }
+        boolean hasUnsavedChanges = model.isInTransaction() || model.getSnapshot().getVersion() != savedVersion;
+        return new LogicStatus(model.getFilteredPatientList().size(), model.isInTransaction(), hasUnsavedChanges,
+                lastSaveNanos, lastSaveSize, commandCounts);
+    }
+
+    @Override
+    public Set<String> getCommandWords() {
+        return addressBookParser.getCommandWords();
     }
 
     @Override
@@ -70,6 +253,11 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return model.getSnapshot();
+    }
+
     @Override
     public ObservableList<Patient> getFilteredPatientList() {
         return model.getFilteredPatientList();
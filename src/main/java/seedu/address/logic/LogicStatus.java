@@ -0,0 +1,82 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The state of the logic between two commands: what is displayed, whether there are changes to save, how the last
+ * save went and how many commands of each kind were executed.
+ */
+public class LogicStatus {
+
+    private final int displayedPatientCount;
+    private final boolean isInTransaction;
+    private final boolean hasUnsavedChanges;
+    private final long lastSaveNanos;
+    private final long lastSaveSize;
+    private final Map<String, Long> commandCounts;
+
+    /**
+     * Creates a status. {@code lastSaveNanos} and {@code lastSaveSize} are -1 if nothing was saved yet, and
+     * {@code commandCounts} maps each command word to the number of times it was executed.
+     */
+    public LogicStatus(int displayedPatientCount, boolean isInTransaction, boolean hasUnsavedChanges,
+            long lastSaveNanos, long lastSaveSize, Map<String, Long> commandCounts) {
+        requireNonNull(commandCounts);
+        this.displayedPatientCount = displayedPatientCount;
+        this.isInTransaction = isInTransaction;
+        this.hasUnsavedChanges = hasUnsavedChanges;
+        this.lastSaveNanos = lastSaveNanos;
+        this.lastSaveSize = lastSaveSize;
+        this.commandCounts = Map.copyOf(commandCounts);
+    }
+
+    public int getDisplayedPatientCount() {
+        return displayedPatientCount;
+    }
+
+    public boolean isInTransaction() {
+        return isInTransaction;
+    }
+
+    /**
+     * Returns true if changes were made since the address book was last saved, which is always the case in a
+     * transaction.
+     */
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    /**
+     * Returns how long the last save took, in nanoseconds, or -1 if nothing was saved yet.
+     */
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    /**
+     * Returns the size of the address book file after the last save, in bytes, or -1 if nothing was saved yet.
+     */
+    public long getLastSaveSize() {
+        return lastSaveSize;
+    }
+
+    public Map<String, Long> getCommandCounts() {
+        return commandCounts;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("displayedPatientCount", displayedPatientCount)
+                .add("isInTransaction", isInTransaction)
+                .add("hasUnsavedChanges", hasUnsavedChanges)
+                .add("lastSaveNanos", lastSaveNanos)
+                .add("lastSaveSize", lastSaveSize)
+                .add("commandCounts", commandCounts)
+                .toString();
+    }
+}
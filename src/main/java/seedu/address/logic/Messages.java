@@ -15,6 +15,12 @@ public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX = "The patient index provided is invalid";
+    public static final String MESSAGE_NO_PATIENTS_SELECTED = "There are no patients in the current listing";
+    public static final String MESSAGE_UNKNOWN_COHORT = "There is no cohort named %1$s";
+    public static final String MESSAGE_UNKNOWN_VIEW = "There is no view named %1$s";
+    public static final String MESSAGE_NOT_IN_TRANSACTION = "There is no transaction in progress";
+    public static final String MESSAGE_IN_TRANSACTION =
+            "The %1$s command cannot be used in a transaction. Commit or roll back the transaction first";
     public static final String MESSAGE_INVALID_EVENT_DISPLAYED_INDEX = "The event index provided is invalid";
     public static final String MESSAGE_PATIENT_LISTED_OVERVIEW = "%1$d patients listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
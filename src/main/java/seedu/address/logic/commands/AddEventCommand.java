@@ -5,16 +5,19 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.commands.EditCommand.createEditedPatient;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.ParserUtil.KEYWORD_ALL_SHOWN;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.patient.EditPatientDescriptor;
@@ -22,13 +25,14 @@ import seedu.address.model.patient.Event;
 import seedu.address.model.patient.Patient;
 
 /**
- * Adds an event to the specified patient (based on index from the last shown patient list)
+ * Adds an event to the specified patients (based on indexes from the last shown patient list)
  */
 public class AddEventCommand extends Command {
     public static final String COMMAND_WORD = "adde";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Adds an event for a Patient. "
-            + "Parameters: INDEX (must be a positive integer matching that of the Patient in the `list` command) "
+            + ": Adds an event for one or more Patients. "
+            + "Parameters: INDEXES (positive integers matching those of the Patients in the `list` command, or ranges "
+            + "of them, separated by commas, e.g. 1-200,305, or " + KEYWORD_ALL_SHOWN + " for all listed Patients) "
             + PREFIX_NAME + " [Name of the Event that falls on this Date] "
             + PREFIX_DATETIME + " [Date / Datetime, in the format DD-MM-YYYY"
             + " / DD-MM-YYYY, HH:mm - HH:mm respectively]\n"
@@ -37,13 +41,15 @@ public class AddEventCommand extends Command {
             + PREFIX_NAME + " Father Birthday "
             + PREFIX_DATETIME + "29-09-1789";
     public static final String MESSAGE_SUCCESS = "Event %1$s successfully added for Patient %2$s with ID %3$s for %4$s";
+    public static final String MESSAGE_BULK_SUCCESS = "Event %1$s successfully added for %2$d of the %3$d selected"
+            + " Patients for %4$s (the others already have it)";
     public static final String MESSAGE_DUPLICATE = "Event %1$s already exists for Patient %2$s with ID %3$s for %4$s";
     public static final String MESSAGE_PAST_EVENT_WARNING = "Warning: This Event occurred before the current "
             + "date / datetime";
 
     private static final Logger logger = LogsCenter.getLogger(AddEventCommand.class);
 
-    private final Index index;
+    private final IndexSelection indexes;
     private final Event eventToAdd;
     private final EditPatientDescriptor editPatientDescriptor;
 
@@ -56,9 +62,20 @@ public class AddEventCommand extends Command {
      * @param event
      */
     public AddEventCommand(Index index, Event event) {
-        requireAllNonNull(index, event);
+        this(IndexSelection.of(index), event);
+    }
 
-        this.index = index;
+    /**
+     * Constructs an AddEventCommand to add the specified {@code event}
+     * to each of the Patients selected by {@code indexes}
+     *
+     * @param indexes
+     * @param event
+     */
+    public AddEventCommand(IndexSelection indexes, Event event) {
+        requireAllNonNull(indexes, event);
+
+        this.indexes = indexes;
         this.eventToAdd = event;
         this.editPatientDescriptor = new EditPatientDescriptor();
     }
@@ -69,41 +86,46 @@ public class AddEventCommand extends Command {
         logger.info("Attempting to execute AddEventCommand");
 
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        List<Patient> patientsToEdit = selectPatients(model.getFilteredPatientList(), indexes);
+
+        List<Patient> targets = new ArrayList<>();
+        List<Patient> editedPatients = new ArrayList<>();
+        for (Patient patientToEdit : patientsToEdit) {
+            Set<Event> newEventsList = new HashSet<>(patientToEdit.getEvents());
+            if (!newEventsList.add(this.eventToAdd)) {
+                continue;
+            }
+            assert(newEventsList.size() > 0);
+
+            editPatientDescriptor.setEvents(newEventsList);
+            targets.add(patientToEdit);
+            editedPatients.add(createEditedPatient(patientToEdit, editPatientDescriptor));
         }
 
-        Patient patientToEdit = lastShownList.get(index.getZeroBased());
-        Set<Event> newEventsList = new HashSet<>(patientToEdit.getEvents());
-
-        if (newEventsList.contains(this.eventToAdd)) {
-            return new CommandResult(String.format(MESSAGE_DUPLICATE, eventToAdd.name, patientToEdit.getName(),
-                    index.getOneBased(), eventToAdd.date));
+        Optional<Index> singleIndex = indexes.getSingleIndex().filter(unused -> patientsToEdit.size() == 1);
+        if (singleIndex.isPresent() && targets.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_DUPLICATE, eventToAdd.name,
+                    patientsToEdit.get(0).getName(), singleIndex.get().getOneBased(), eventToAdd.date));
         }
 
         logger.info("All checks passed; Attempting to add event " + this.eventToAdd
-                + " into the patient's event set");
-
-        newEventsList.add(this.eventToAdd);
-        assert(newEventsList.size() > 0);
-
-        editPatientDescriptor.setEvents(newEventsList);
+                + " into the event sets of " + targets.size() + " patient(s)");
 
-        Patient editedPatient = createEditedPatient(patientToEdit, editPatientDescriptor);
-        model.setPatient(patientToEdit, editedPatient);
+        model.setPatients(targets, editedPatients);
         model.updateFilteredPatientList(Model.PREDICATE_SHOW_ALL_PATIENTS);
 
-        logger.info("Event added to patient's event set");
+        logger.info("Event added to patients' event sets");
 
+        String commandResultString = singleIndex.isPresent()
+                ? String.format(MESSAGE_SUCCESS, eventToAdd.name, editedPatients.get(0).getName(),
+                        singleIndex.get().getOneBased(), eventToAdd.date)
+                : String.format(MESSAGE_BULK_SUCCESS, eventToAdd.name, targets.size(), patientsToEdit.size(),
+                        eventToAdd.date);
         if (this.eventToAdd.isPastEvent()) {
-            return new CommandResult(String.format(MESSAGE_SUCCESS, eventToAdd.name,
-                    editedPatient.getName(), index.getOneBased(), eventToAdd.date) + "\n" + MESSAGE_PAST_EVENT_WARNING);
+            return new CommandResult(commandResultString + "\n" + MESSAGE_PAST_EVENT_WARNING);
         }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, eventToAdd.name, editedPatient.getName(),
-                index.getOneBased(), eventToAdd.date));
+        return new CommandResult(commandResultString);
     }
 
     /**
@@ -123,14 +145,14 @@ public class AddEventCommand extends Command {
         }
 
         AddEventCommand otherAddEventCommand = (AddEventCommand) other;
-        return index.equals(otherAddEventCommand.index)
+        return indexes.equals(otherAddEventCommand.indexes)
                 && eventToAdd.equals(otherAddEventCommand.eventToAdd);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("index", indexes)
                 .add("event", eventToAdd)
                 .toString();
     }
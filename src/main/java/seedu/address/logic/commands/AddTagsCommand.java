@@ -4,10 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.commands.EditCommand.createEditedPatient;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.ParserUtil.KEYWORD_ALL_SHOWN;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -15,8 +19,8 @@ import java.util.logging.Logger;
 import javafx.util.Pair;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.patient.EditPatientDescriptor;
@@ -24,7 +28,7 @@ import seedu.address.model.patient.Patient;
 import seedu.address.model.tag.Tag;
 
 /**
- * Adds one or more tags to the specified patient.
+ * Adds one or more tags to the specified patients.
  * Repeated tags in command will be added as a single tag.
  * If the patient already has the tag, it will not be added.
  */
@@ -33,20 +37,23 @@ public class AddTagsCommand extends Command {
     public static final String COMMAND_WORD = "addt";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Adds one or more tags to the patient identified "
-            + "by the index number used in the last patient listing. "
-            + "Parameters: INDEX (must be a positive integer) "
+            + ": Adds one or more tags to the patients identified "
+            + "by the index numbers used in the last patient listing. "
+            + "Parameters: INDEXES (positive integers or ranges of them separated by commas, e.g. 1-200,305, "
+            + "or " + KEYWORD_ALL_SHOWN + " for all listed patients) "
             + PREFIX_TAG + "[TAG]+ \n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_TAG + "fall risk";
 
     public static final String MESSAGE_ADD_TAG_SUCCESS = "Added the tag: %2$s for Patient: %1$s"
             + " successfully";
+    public static final String MESSAGE_ADD_TAG_BULK_SUCCESS = "Added the tag: %1$s to %2$d of the %3$d selected"
+            + " patients (the others already have it)";
     public static final String MESSAGE_DUPLICATE_TAG = "The tag: %2$s already exists"
             + " for Patient: %1$s";
 
     private static final Logger logger = LogsCenter.getLogger(AddTagsCommand.class);
-    private final Index index;
+    private final IndexSelection indexes;
     private final Set<Tag> tagsToAdd;
     private final EditPatientDescriptor editPatientDescriptor;
 
@@ -56,15 +63,24 @@ public class AddTagsCommand extends Command {
      * @param tagsToAdd  to be added to the patient
      */
     public AddTagsCommand(Index index, Set<Tag> tagsToAdd) {
-        requireAllNonNull(index, tagsToAdd);
+        this(IndexSelection.of(index), tagsToAdd);
+    }
+
+    /**
+     * @param indexes of the patients in the filtered patient list to add the tags
+     * @param tagsToAdd  to be added to each of the patients
+     */
+    public AddTagsCommand(IndexSelection indexes, Set<Tag> tagsToAdd) {
+        requireAllNonNull(indexes, tagsToAdd);
 
-        this.index = index;
+        this.indexes = indexes;
         this.tagsToAdd = tagsToAdd;
         this.editPatientDescriptor = new EditPatientDescriptor();
     }
 
     /**
-     * Executes the add tag command to add one or more tags to the patient.
+     * Executes the add tag command to add one or more tags to the selected patients.
+     * All the selected patients are updated together in a single change to the model.
      *
      * @param model {@code Model} which the command should operate on.
      * @return A command result message indicating the success of the operation.
@@ -73,30 +89,53 @@ public class AddTagsCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            logger.log(Level.WARNING, "Invalid patient index for Add Tags Command: " + index);
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        List<Patient> patientsToEdit;
+        try {
+            patientsToEdit = selectPatients(model.getFilteredPatientList(), indexes);
+        } catch (CommandException ce) {
+            logger.log(Level.WARNING, "Invalid patient indexes for Add Tags Command: " + indexes);
+            throw ce;
         }
 
-        Patient patientToEdit = lastShownList.get(index.getZeroBased());
-
-        // Create new Hashset to add in new tags as Patient.getTags() return unmodifiableSet
-        Set<Tag> tagSet = new HashSet<>(patientToEdit.getTags());
-        Pair<Set<Tag>, String> result = addTagsToPatient(patientToEdit, tagSet, tagsToAdd);
-        Set<Tag> newTagSet = result.getKey();
-        String commandResultString = result.getValue();
+        List<Patient> targets = new ArrayList<>();
+        List<Patient> editedPatients = new ArrayList<>();
+        Map<Tag, Integer> addedCounts = new LinkedHashMap<>();
+        String commandResultString = "";
+        boolean isSinglePatient = patientsToEdit.size() == 1;
+        for (Patient patientToEdit : patientsToEdit) {
+            // Create new Hashset to add in new tags as Patient.getTags() return unmodifiableSet
+            Set<Tag> newTagSet = new HashSet<>(patientToEdit.getTags());
+            if (isSinglePatient) {
+                commandResultString = addTagsToPatient(patientToEdit, newTagSet, tagsToAdd).getValue();
+            } else {
+                // Only the counts are reported for several patients, so no message is built for each of them
+                newTagSet.addAll(tagsToAdd);
+            }
 
-        editPatientDescriptor.setTags(newTagSet);
+            for (Tag tag : tagsToAdd) {
+                addedCounts.merge(tag, patientToEdit.getTags().contains(tag) ? 0 : 1, Integer::sum);
+            }
+            if (newTagSet.equals(patientToEdit.getTags())) {
+                continue;
+            }
 
-        Patient editedPatient = createEditedPatient(patientToEdit, editPatientDescriptor);
+            editPatientDescriptor.setTags(newTagSet);
+            targets.add(patientToEdit);
+            editedPatients.add(createEditedPatient(patientToEdit, editPatientDescriptor));
+        }
 
-        model.setPatient(patientToEdit, editedPatient);
+        model.setPatients(targets, editedPatients);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
 
-        logger.log(Level.INFO, "Successfully called AddTagsCommand for patient: " + editedPatient.getName());
-        return new CommandResult(commandResultString);
+        logger.log(Level.INFO, "Successfully called AddTagsCommand for " + targets.size() + " patient(s)");
+        if (isSinglePatient) {
+            return new CommandResult(commandResultString);
+        }
+
+        StringBuilder bulkCommandResult = new StringBuilder();
+        addedCounts.forEach((tag, count) -> bulkCommandResult.append(String.format(MESSAGE_ADD_TAG_BULK_SUCCESS,
+                tag, count, patientsToEdit.size())).append("\n"));
+        return new CommandResult(bulkCommandResult.toString());
     }
 
     /**
@@ -126,10 +165,10 @@ public class AddTagsCommand extends Command {
     }
 
     /**
-     * Returns true if both add tag commands have the same index and tags to add.
+     * Returns true if both add tag commands have the same indexes and tags to add.
      *
      * @param other Another object to compare to.
-     * @return True if the other object is an AddTagsCommand with the same index and tags to add.
+     * @return True if the other object is an AddTagsCommand with the same indexes and tags to add.
      */
     @Override
     public boolean equals(Object other) {
@@ -142,14 +181,14 @@ public class AddTagsCommand extends Command {
         }
 
         AddTagsCommand otherTagCommand = (AddTagsCommand) other;
-        return index.equals(otherTagCommand.index)
+        return indexes.equals(otherTagCommand.indexes)
                 && tagsToAdd.equals(otherTagCommand.tagsToAdd);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("index", indexes)
                 .add("tags", tagsToAdd)
                 .toString();
     }
@@ -0,0 +1,27 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Starts a transaction, so that the changes made by the following commands are only saved when it is committed.
+ */
+public class BeginCommand extends Command {
+
+    public static final String COMMAND_WORD = "begin";
+
+    public static final String MESSAGE_SUCCESS = "Started a transaction. Changes will be saved when you commit it";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isInTransaction()) {
+            throw new CommandException(String.format(Messages.MESSAGE_IN_TRANSACTION, COMMAND_WORD));
+        }
+        model.beginTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.patient.query.Cohort;
+import seedu.address.model.patient.query.PatientQuery;
+
+/**
+ * Saves the patients matching a query as a named cohort, or lists the patients in a saved cohort.
+ */
+public class CohortCommand extends Command {
+
+    public static final String COMMAND_WORD = "cohort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves the patients matching a query as a cohort "
+            + "with the given name, which other queries can refer to as co/NAME, and lists them. "
+            + "Without a query, lists the patients in the cohort.\n"
+            + "Parameters: NAME [QUERY]\n"
+            + "Example: " + COMMAND_WORD + " diabetic t/diabetes OR t/prediabetes";
+
+    public static final String MESSAGE_SAVED = "Saved %2$d patient(s) as the cohort %1$s";
+    public static final String MESSAGE_LISTED = "%2$d patient(s) in the cohort %1$s listed!";
+
+    private static final Logger logger = LogsCenter.getLogger(CohortCommand.class);
+
+    private final String cohortName;
+    private final PatientQuery query;
+
+    /**
+     * Creates a CohortCommand to save the patients matching {@code query} as the cohort {@code cohortName}, or to
+     * list the patients in that cohort if {@code query} is null.
+     */
+    public CohortCommand(String cohortName, PatientQuery query) {
+        requireNonNull(cohortName);
+        this.cohortName = cohortName;
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (query == null) {
+            Optional<Cohort> cohort = model.getCohort(cohortName);
+            if (cohort.isEmpty()) {
+                throw new CommandException(String.format(Messages.MESSAGE_UNKNOWN_COHORT, cohortName));
+            }
+            Cohort currentCohort = cohort.get().rebase(model.getPatientBitmapIndex());
+            model.updateFilteredPatientList(currentCohort);
+            return new CommandResult(String.format(MESSAGE_LISTED, cohortName, currentCohort.size()));
+        }
+
+        Cohort cohort = QueryCommand.evaluate(query, model);
+        model.setCohort(cohortName, cohort);
+        model.updateFilteredPatientList(cohort);
+        logger.info("Saved cohort " + cohortName + " of " + cohort.size() + " patient(s)");
+        return new CommandResult(String.format(MESSAGE_SAVED, cohortName, cohort.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CohortCommand)) {
+            return false;
+        }
+
+        CohortCommand otherCohortCommand = (CohortCommand) other;
+        return cohortName.equals(otherCohortCommand.cohortName)
+                && Objects.equals(query, otherCohortCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("cohortName", cohortName)
+                .add("query", query)
+                .toString();
+    }
+}
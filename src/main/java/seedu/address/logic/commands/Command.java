@@ -1,7 +1,13 @@
 package seedu.address.logic.commands;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.patient.Patient;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +23,27 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the patients selected by {@code indexes} in {@code lastShownList}, in the order they are displayed.
+     *
+     * @throws CommandException If a selected index is not in {@code lastShownList}, or no patient is selected.
+     */
+    protected static List<Patient> selectPatients(List<Patient> lastShownList, IndexSelection indexes)
+            throws CommandException {
+        if (!indexes.isWithin(lastShownList.size())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        }
+
+        int[] zeroBasedIndexes = indexes.getZeroBasedIndexes(lastShownList.size());
+        if (zeroBasedIndexes.length == 0) {
+            throw new CommandException(Messages.MESSAGE_NO_PATIENTS_SELECTED);
+        }
+
+        List<Patient> selectedPatients = new ArrayList<>(zeroBasedIndexes.length);
+        for (int zeroBasedIndex : zeroBasedIndexes) {
+            selectedPatients.add(lastShownList.get(zeroBasedIndex));
+        }
+        return selectedPatients;
+    }
+
 }
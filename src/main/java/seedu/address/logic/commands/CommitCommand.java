@@ -0,0 +1,27 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Ends the current transaction, so that the changes made in it are saved and can be undone together.
+ */
+public class CommitCommand extends Command {
+
+    public static final String COMMAND_WORD = "commit";
+
+    public static final String MESSAGE_SUCCESS = "Committed the transaction";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(Messages.MESSAGE_NOT_IN_TRANSACTION);
+        }
+        model.commitTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -4,10 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.commands.EditCommand.createEditedPatient;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.ParserUtil.KEYWORD_ALL_SHOWN;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -15,8 +19,8 @@ import java.util.logging.Logger;
 import javafx.util.Pair;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.patient.EditPatientDescriptor;
@@ -24,26 +28,29 @@ import seedu.address.model.patient.Patient;
 import seedu.address.model.tag.Tag;
 
 /**
- * Deletes given Tags from a patient identified using it's displayed index from the address book.
+ * Deletes given Tags from the patients identified using their displayed indexes from the address book.
  */
 public class DeleteTagsCommand extends Command {
 
     public static final String COMMAND_WORD = "deletet";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the specified tags to the patient identified "
-            + "by the index number used in the last patient listing. "
-            + "Parameters: INDEX (must be a positive integer) "
+            + ": Deletes the specified tags from the patients identified "
+            + "by the index numbers used in the last patient listing. "
+            + "Parameters: INDEXES (positive integers or ranges of them separated by commas, e.g. 1-200,305, "
+            + "or " + KEYWORD_ALL_SHOWN + " for all listed patients) "
             + PREFIX_TAG + "[TAG]+ \n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_TAG + "fall risk";
 
     public static final String MESSAGE_DELETE_TAG_SUCCESS = "Deleted the tag: %2$s for Patient: %1$s"
             + " successfully";
+    public static final String MESSAGE_DELETE_TAG_BULK_SUCCESS = "Deleted the tag: %1$s from %2$d of the %3$d"
+            + " selected patients (the others do not have it)";
     public static final String MESSAGE_INVALID_TAG = "The tag: %2$s does not exists"
         + " for Patient: %1$s";
 
     private static final Logger logger = LogsCenter.getLogger(DeleteTagsCommand.class);
-    private final Index index;
+    private final IndexSelection indexes;
     private final Set<Tag> tagsToDelete;
     private final EditPatientDescriptor editPatientDescriptor;
 
@@ -54,15 +61,26 @@ public class DeleteTagsCommand extends Command {
      * @param tagsToDelete  to be deleted from the patient
      */
     public DeleteTagsCommand(Index index, Set<Tag> tagsToDelete) {
-        requireAllNonNull(index, tagsToDelete);
+        this(IndexSelection.of(index), tagsToDelete);
+    }
+
+    /**
+     * Constructs a DeleteTagsCommand to delete the specified {@code Tag} from each of the Patients selected by
+     * {@code indexes}
+     * @param indexes of the patients in the filtered patient list to delete the tags
+     * @param tagsToDelete  to be deleted from each of the patients
+     */
+    public DeleteTagsCommand(IndexSelection indexes, Set<Tag> tagsToDelete) {
+        requireAllNonNull(indexes, tagsToDelete);
 
-        this.index = index;
+        this.indexes = indexes;
         this.tagsToDelete = tagsToDelete;
         this.editPatientDescriptor = new EditPatientDescriptor();
     }
 
     /**
-     * Executes the delete tag command to delete one or more tags to the patient.
+     * Executes the delete tag command to delete one or more tags from the selected patients.
+     * All the selected patients are updated together in a single change to the model.
      *
      * @param model {@code Model} which the command should operate on.
      * @return A command result message indicating the success of the operation.
@@ -71,31 +89,53 @@ public class DeleteTagsCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            logger.log(Level.WARNING, "Invalid patient index for Delete Tags Command: " + index);
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        List<Patient> patientsToEdit;
+        try {
+            patientsToEdit = selectPatients(model.getFilteredPatientList(), indexes);
+        } catch (CommandException ce) {
+            logger.log(Level.WARNING, "Invalid patient indexes for Delete Tags Command: " + indexes);
+            throw ce;
         }
 
-        Patient patientToEdit = lastShownList.get(index.getZeroBased());
-
-        // Create new Hashset for tags as Patient.getTags() return unmodifiableSet
-        Set<Tag> tagSet = new HashSet<>(patientToEdit.getTags());
-
-        Pair<Set<Tag>, String> result = deleteTagsFromPatient(patientToEdit, tagSet, tagsToDelete);
-        Set<Tag> newTagSet = result.getKey();
-        String commandResultString = result.getValue();
+        List<Patient> targets = new ArrayList<>();
+        List<Patient> editedPatients = new ArrayList<>();
+        Map<Tag, Integer> deletedCounts = new LinkedHashMap<>();
+        String commandResultString = "";
+        boolean isSinglePatient = patientsToEdit.size() == 1;
+        for (Patient patientToEdit : patientsToEdit) {
+            // Create new Hashset for tags as Patient.getTags() return unmodifiableSet
+            Set<Tag> newTagSet = new HashSet<>(patientToEdit.getTags());
+            if (isSinglePatient) {
+                commandResultString = deleteTagsFromPatient(patientToEdit, newTagSet, tagsToDelete).getValue();
+            } else {
+                // Only the counts are reported for several patients, so no message is built for each of them
+                newTagSet.removeAll(tagsToDelete);
+            }
 
-        editPatientDescriptor.setTags(newTagSet);
+            for (Tag tag : tagsToDelete) {
+                deletedCounts.merge(tag, patientToEdit.getTags().contains(tag) ? 1 : 0, Integer::sum);
+            }
+            if (newTagSet.equals(patientToEdit.getTags())) {
+                continue;
+            }
 
-        Patient editedPatient = createEditedPatient(patientToEdit, editPatientDescriptor);
+            editPatientDescriptor.setTags(newTagSet);
+            targets.add(patientToEdit);
+            editedPatients.add(createEditedPatient(patientToEdit, editPatientDescriptor));
+        }
 
-        model.setPatient(patientToEdit, editedPatient);
+        model.setPatients(targets, editedPatients);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
 
-        logger.log(Level.INFO, "Successfully called delete tags command from patient: " + editedPatient.getName());
-        return new CommandResult(commandResultString);
+        logger.log(Level.INFO, "Successfully called delete tags command for " + targets.size() + " patient(s)");
+        if (isSinglePatient) {
+            return new CommandResult(commandResultString);
+        }
+
+        StringBuilder bulkCommandResult = new StringBuilder();
+        deletedCounts.forEach((tag, count) -> bulkCommandResult.append(String.format(MESSAGE_DELETE_TAG_BULK_SUCCESS,
+                tag, count, patientsToEdit.size())).append("\n"));
+        return new CommandResult(bulkCommandResult.toString());
     }
 
     /**
@@ -141,14 +181,14 @@ public class DeleteTagsCommand extends Command {
         }
 
         DeleteTagsCommand otherTagCommand = (DeleteTagsCommand) other;
-        return index.equals(otherTagCommand.index)
+        return indexes.equals(otherTagCommand.indexes)
                 && tagsToDelete.equals(otherTagCommand.tagsToDelete);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetPatientIndex", index)
+                .add("targetPatientIndex", indexes)
                 .add("tags", tagsToDelete)
                 .toString();
     }
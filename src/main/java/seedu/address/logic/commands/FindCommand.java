@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -15,10 +16,23 @@ public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_MODE = "fuzzy";
+
+    public static final String PHONETIC_MODE = "sounds";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "If " + PREFIX_MODE + FUZZY_MODE + " is specified, also finds names, preferred names and tags that start "
+            + "with a keyword or are a few typos away from it, closest matches first.\n"
+            + "If " + PREFIX_MODE + PHONETIC_MODE + " is specified, instead finds names and preferred names that sound "
+            + "like a keyword, closest matches first.\n"
+            + "Parameters: [" + PREFIX_MODE + FUZZY_MODE + "|" + PREFIX_MODE + PHONETIC_MODE
+            + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie, " + COMMAND_WORD + " " + PREFIX_MODE + FUZZY_MODE
+            + " jhon, " + COMMAND_WORD + " " + PREFIX_MODE + PHONETIC_MODE + " katherine";
+
+    public static final String MESSAGE_UNKNOWN_MODE = "Unknown find mode %1$s. The mode must be "
+            + PREFIX_MODE + FUZZY_MODE + " or " + PREFIX_MODE + PHONETIC_MODE;
 
     private final NameContainsKeywordsPredicate predicate;
 
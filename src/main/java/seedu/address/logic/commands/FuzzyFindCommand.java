@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Finds and lists all patients whose name, preferred name or tags have a word that is equal to, starts with, or is a
+ * few typos away from any of the argument keywords, closest matches first.
+ * Keyword matching is case insensitive.
+ */
+public class FuzzyFindCommand extends Command {
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a FuzzyFindCommand to find the patients closely matching any of {@code keywords}.
+     */
+    public FuzzyFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Patient, Integer> ranks = model.findPatientsFuzzy(keywords);
+        model.updateFilteredPatientList(ranks::containsKey, Comparator.comparingInt(ranks::get));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PATIENT_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindCommand)) {
+            return false;
+        }
+
+        FuzzyFindCommand otherFuzzyFindCommand = (FuzzyFindCommand) other;
+        return keywords.equals(otherFuzzyFindCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -1,24 +1,89 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PID;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
+import static seedu.address.model.patient.comparators.PatientHospitalIdComparator.PATIENT_HOSPITAL_ID_COMPARATOR;
 
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.query.Cohort;
+import seedu.address.model.patient.query.HospitalIdRangeQuery;
 
 /**
- * Lists all patients in the address book to the user.
+ * Lists all patients in the address book to the user, or only the patients in a range of hospital IDs.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all patients, or only the patients with a "
+            + "hospital ID in the specified range, in hospital ID order.\n"
+            + "Parameters: [" + PREFIX_PID + "FIRST_ID-LAST_ID]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PID + "10000-20000";
+
     public static final String MESSAGE_SUCCESS = "Listed all patients";
 
+    public static final String MESSAGE_SUCCESS_ID_RANGE = "Listed %3$d patient(s) with hospital IDs from %1$s to %2$s";
+
+    /** The range of hospital IDs to list, or null to list all patients. */
+    private final HospitalIdRangeQuery idRange;
+
+    /**
+     * Creates a ListCommand to list all patients.
+     */
+    public ListCommand() {
+        this.idRange = null;
+    }
+
+    /**
+     * Creates a ListCommand to list the patients with a hospital ID in {@code idRange}.
+     */
+    public ListCommand(HospitalIdRangeQuery idRange) {
+        requireNonNull(idRange);
+        this.idRange = idRange;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (idRange == null) {
+            model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        // The index finds the patients in the range without scanning the list. The displayed list still checks
+        // every patient against them, but as a cohort each check is a bit lookup, and only they are sorted.
+        List<Patient> patientsInRange = model.getPatientsInHospitalIdRange(idRange.getFirst(), idRange.getLast());
+        model.updateFilteredPatientList(Cohort.of(model.getPatientBitmapIndex(), patientsInRange),
+                PATIENT_HOSPITAL_ID_COMPARATOR);
+        return new CommandResult(String.format(MESSAGE_SUCCESS_ID_RANGE,
+                idRange.getFirst(), idRange.getLast(), patientsInRange.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return Objects.equals(idRange, otherListCommand.idRange);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("idRange", idRange)
+                .toString();
     }
 }
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Finds and lists all patients whose name or preferred name has a word that sounds like any of the argument keywords,
+ * closest matches first.
+ * Keyword matching is case insensitive.
+ */
+public class PhoneticFindCommand extends Command {
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a PhoneticFindCommand to find the patients with names sounding like any of {@code keywords}.
+     */
+    public PhoneticFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Patient, Integer> ranks = model.findPatientsPhonetic(keywords);
+        model.updateFilteredPatientList(ranks::containsKey, Comparator.comparingInt(ranks::get));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PATIENT_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneticFindCommand)) {
+            return false;
+        }
+
+        PhoneticFindCommand otherPhoneticFindCommand = (PhoneticFindCommand) other;
+        return keywords.equals(otherPhoneticFindCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
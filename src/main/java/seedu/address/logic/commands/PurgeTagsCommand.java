@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
+
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Removes one or more tags from every patient in the address book.
+ */
+public class PurgeTagsCommand extends Command {
+
+    public static final String COMMAND_WORD = "purget";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Removes the specified tags from every patient. "
+            + "Parameters: " + PREFIX_TAG + "TAG+\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TAG + "obsolete code";
+
+    public static final String MESSAGE_PURGE_TAGS_SUCCESS = "Removed the tag(s): %1$s from %2$d patient(s)";
+
+    private static final Logger logger = LogsCenter.getLogger(PurgeTagsCommand.class);
+
+    private final Set<Tag> tagsToPurge;
+
+    /**
+     * @param tagsToPurge to be removed from every patient
+     */
+    public PurgeTagsCommand(Set<Tag> tagsToPurge) {
+        requireNonNull(tagsToPurge);
+
+        this.tagsToPurge = tagsToPurge;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        int purgedCount = model.removeTags(tagsToPurge);
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+
+        logger.log(Level.INFO, "Removed tags " + tagsToPurge + " from " + purgedCount + " patient(s)");
+        return new CommandResult(String.format(MESSAGE_PURGE_TAGS_SUCCESS, tagsToPurge, purgedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PurgeTagsCommand)) {
+            return false;
+        }
+
+        PurgeTagsCommand otherPurgeTagsCommand = (PurgeTagsCommand) other;
+        return tagsToPurge.equals(otherPurgeTagsCommand.tagsToPurge);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tagsToPurge", tagsToPurge)
+                .toString();
+    }
+}
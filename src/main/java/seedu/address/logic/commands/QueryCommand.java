@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.patient.exceptions.CohortNotFoundException;
+import seedu.address.model.patient.query.Cohort;
+import seedu.address.model.patient.query.PatientQuery;
+import seedu.address.model.patient.query.QueryContext;
+
+/**
+ * Finds and lists all patients in the patient list that match a query combining conditions on several fields.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients matching the query "
+            + "and displays them as a list with index numbers.\n"
+            + "Conditions: n/NAME_WORDS p/PREFERRED_NAME_WORDS f/FOOD_WORDS c/FAMILY_CONDITION_WORDS h/HOBBY_WORDS "
+            + "t/TAG id/ID[-ID] d/DATE[ to DATE] d/today d/this week co/COHORT\n"
+            + "Conditions can be combined with AND, OR, NOT and parentheses. "
+            + "Conditions next to each other must all match.\n"
+            + "Example: " + COMMAND_WORD + " t/diabetes AND f/vegetarian AND d/this week";
+
+    private static final Logger logger = LogsCenter.getLogger(QueryCommand.class);
+
+    private final PatientQuery query;
+
+    /**
+     * Creates a QueryCommand to list the patients that match {@code query}.
+     */
+    public QueryCommand(PatientQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Cohort matches = evaluate(query, model);
+
+        // Patients are immutable and every command that edits a patient resets the filter, so the matches stay valid
+        model.updateFilteredPatientList(matches);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PATIENT_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    /**
+     * Returns the cohort of patients in {@code model} that match {@code query}.
+     * @throws CommandException if {@code query} refers to a cohort that does not exist.
+     */
+    static Cohort evaluate(PatientQuery query, Model model) throws CommandException {
+        QueryContext context = new QueryContext(model.getPatientBitmapIndex(), model::getPatientsWithTag,
+                model::getCohort);
+        try {
+            Cohort matches = query.evaluate(context);
+            logger.fine("Query " + query + " matched " + matches.size() + " patient(s)");
+            return matches;
+        } catch (CohortNotFoundException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_UNKNOWN_COHORT, e.getCohortName()), e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
+
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Renames one or more tags for every patient in the address book.
+ * Renaming several tags, or renaming a tag to an existing tag, merges them into a single tag.
+ */
+public class RenameTagsCommand extends Command {
+
+    public static final String COMMAND_WORD = "renamet";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Renames the specified tags to the new tag name for every patient, "
+            + "merging them if more than one tag is specified or the new tag already exists. "
+            + "Parameters: " + PREFIX_TAG + "TAG+ "
+            + PREFIX_NAME + "NEW_TAG\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TAG + "wheel chair " + PREFIX_TAG + "wheelchairs "
+            + PREFIX_NAME + "wheelchair";
+
+    public static final String MESSAGE_RENAME_TAGS_SUCCESS = "Renamed the tag(s): %1$s to %2$s for %3$d patient(s)";
+
+    private static final Logger logger = LogsCenter.getLogger(RenameTagsCommand.class);
+
+    private final Set<Tag> tagsToRename;
+    private final Tag newTag;
+
+    /**
+     * @param tagsToRename to be renamed for every patient
+     * @param newTag the new name of the tags
+     */
+    public RenameTagsCommand(Set<Tag> tagsToRename, Tag newTag) {
+        requireAllNonNull(tagsToRename, newTag);
+
+        this.tagsToRename = tagsToRename;
+        this.newTag = newTag;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        int renamedCount = model.mergeTags(tagsToRename, newTag);
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+
+        logger.log(Level.INFO, "Renamed tags " + tagsToRename + " to " + newTag + " for " + renamedCount
+                + " patient(s)");
+        return new CommandResult(String.format(MESSAGE_RENAME_TAGS_SUCCESS, tagsToRename, newTag, renamedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RenameTagsCommand)) {
+            return false;
+        }
+
+        RenameTagsCommand otherRenameTagsCommand = (RenameTagsCommand) other;
+        return tagsToRename.equals(otherRenameTagsCommand.tagsToRename)
+                && newTag.equals(otherRenameTagsCommand.newTag);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tagsToRename", tagsToRename)
+                .add("newTag", newTag)
+                .toString();
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Ends the current transaction by discarding the changes made in it.
+ */
+public class RollbackCommand extends Command {
+
+    public static final String COMMAND_WORD = "rollback";
+
+    public static final String MESSAGE_SUCCESS = "Rolled back the transaction";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(Messages.MESSAGE_NOT_IN_TRANSACTION);
+        }
+        model.rollBackTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
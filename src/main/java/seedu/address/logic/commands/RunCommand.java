@@ -0,0 +1,178 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one command per line, as a single batch.
+ * Blank lines and lines starting with {@code #} are skipped.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String ALL_OR_NOTHING_KEYWORD = "atomic";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one command per line.\n"
+            + "If " + ALL_OR_NOTHING_KEYWORD + " is specified, no changes are made unless every command succeeds.\n"
+            + "Parameters: [" + ALL_OR_NOTHING_KEYWORD + "] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + ALL_OR_NOTHING_KEYWORD + " data/admissions.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_PARTIAL_SUCCESS = "Ran %1$d of %2$d command(s) from %3$s. Failed lines:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more";
+    public static final String MESSAGE_ROLLED_BACK = "No changes were made as a command in %1$s failed.\n%2$s";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the script file %1$s: %2$s";
+    public static final String MESSAGE_NOT_ALLOWED_IN_SCRIPT = "The %1$s command cannot be used in a script";
+
+    /** Maximum number of failed lines listed in the result, so that a bad file does not flood the result display. */
+    static final int MAX_ERRORS_SHOWN = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptFile;
+    private final boolean isAllOrNothing;
+
+    /**
+     * Creates a RunCommand to run the commands in {@code scriptFile}.
+     *
+     * @param isAllOrNothing whether to undo all changes made by the script if any of its commands fails
+     */
+    public RunCommand(Path scriptFile, boolean isAllOrNothing) {
+        requireNonNull(scriptFile);
+        this.scriptFile = scriptFile;
+        this.isAllOrNothing = isAllOrNothing;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Running script " + scriptFile + (isAllOrNothing ? " as a single transaction" : ""));
+
+        if (isAllOrNothing && model.isInTransaction()) {
+            throw new CommandException(String.format(Messages.MESSAGE_IN_TRANSACTION,
+                    COMMAND_WORD + " " + ALL_OR_NOTHING_KEYWORD));
+        }
+
+        // The whole file is read before any line is run, so that a file that cannot be read changes nothing
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptFile, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, scriptFile, ioe.getMessage()), ioe);
+        }
+
+        if (isAllOrNothing) {
+            // Rolling back reverts only the changes the script made, and the order the patient list was kept in
+            model.beginTransaction();
+        }
+
+        AddressBookParser parser = new AddressBookParser();
+        List<String> errors = new ArrayList<>();
+        int commandCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String trimmedLine = lines.get(i).trim();
+            if (trimmedLine.isEmpty() || trimmedLine.startsWith("#")) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                runLine(parser, trimmedLine, model);
+            } catch (CommandException | ParseException e) {
+                String error = String.format(MESSAGE_LINE_ERROR, i + 1, e.getMessage());
+                if (isAllOrNothing) {
+                    rollBack(model);
+                    throw new CommandException(String.format(MESSAGE_ROLLED_BACK, scriptFile, error), e);
+                }
+                errors.add(error);
+            }
+        }
+
+        if (isAllOrNothing) {
+            model.commitTransaction();
+        }
+        logger.info("Ran " + commandCount + " command(s) from " + scriptFile + " with " + errors.size() + " error(s)");
+        if (errors.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, scriptFile));
+        }
+        return new CommandResult(formatErrors(commandCount, errors));
+    }
+
+    private static void runLine(AddressBookParser parser, String line, Model model)
+            throws CommandException, ParseException {
+        Command command = parser.parseCommand(line);
+        if (!isAllowedInScript(command)) {
+            throw new ParseException(String.format(MESSAGE_NOT_ALLOWED_IN_SCRIPT, line.split("\\s+", 2)[0]));
+        }
+        command.execute(model);
+    }
+
+    /**
+     * Returns true if {@code command} can be run without the user typing it, from a script or sent by another
+     * program. Such commands cannot run scripts, control transactions or undo, as an all-or-nothing script rolls back
+     * by itself and the user's own transaction is not theirs to end, and the help and exit commands only make sense
+     * when typed by the user.
+     */
+    public static boolean isAllowedInScript(Command command) {
+        return !(command instanceof RunCommand || command instanceof ExitCommand || command instanceof HelpCommand
+                || command instanceof BeginCommand || command instanceof CommitCommand
+                || command instanceof RollbackCommand || command instanceof UndoCommand
+                || command instanceof RedoCommand);
+    }
+
+    private static void rollBack(Model model) {
+        logger.info("Rolling back changes made by the script");
+        model.rollBackTransaction();
+    }
+
+    private String formatErrors(int commandCount, List<String> errors) {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_PARTIAL_SUCCESS,
+                commandCount - errors.size(), commandCount, scriptFile));
+        errors.stream().limit(MAX_ERRORS_SHOWN).forEach(error -> builder.append('\n').append(error));
+        if (errors.size() > MAX_ERRORS_SHOWN) {
+            builder.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_ERRORS_SHOWN));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptFile.equals(otherRunCommand.scriptFile)
+                && isAllOrNothing == otherRunCommand.isAllOrNothing;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptFile", scriptFile)
+                .add("isAllOrNothing", isAllOrNothing)
+                .toString();
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Lists the patients most relevant to the argument keywords, searching every text field of the patients, most
+ * relevant first.
+ * Keyword matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    /** Maximum number of patients listed, so that common words do not list the whole address book. */
+    public static final int MAX_RESULTS = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches the names, preferred names, food "
+            + "preferences, family conditions, hobbies, event names and tags of all patients for the specified "
+            + "keywords (case-insensitive) and displays the " + MAX_RESULTS + " most relevant patients as a list "
+            + "with index numbers, most relevant first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " spicy noodles singing";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a SearchCommand to search for the patients most relevant to {@code keywords}.
+     */
+    public SearchCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Patient> mostRelevant = model.searchPatients(keywords, MAX_RESULTS);
+        Map<Patient, Integer> positions = new IdentityHashMap<>();
+        for (Patient patient : mostRelevant) {
+            positions.put(patient, positions.size());
+        }
+        model.updateFilteredPatientList(positions::containsKey, Comparator.comparingInt(positions::get));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PATIENT_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return keywords.equals(otherSearchCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
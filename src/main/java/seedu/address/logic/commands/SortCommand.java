@@ -1,23 +1,18 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.patient.comparators.NameComparator.NAME_COMPARATOR;
-import static seedu.address.model.patient.comparators.PreferredNameComparator.PREFERRED_NAME_COMPARATOR;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
-import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.comparators.PatientComparator;
 
 /**
  * Sorts (based on specified comparator) and list all patients in the address book to the user.
+ * The sort order is kept by the model, so patients added or edited afterwards stay in order.
  */
 public class SortCommand extends Command {
 
@@ -25,21 +20,22 @@ public class SortCommand extends Command {
 
     public static final String MESSAGE_SORT_SUCCESS = "Successfully sorted all patients by %1s";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sort all persons by the specified attribute "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sort all persons by the specified attributes "
             + "and displays them as a list with index numbers.\n"
-            + "Parameters: [ATTRIBUTE]\n"
-            + "Example: " + COMMAND_WORD + " n";
+            + "Later attributes are only used to order patients that are equal in all earlier attributes.\n"
+            + "Parameters: [ATTRIBUTE]... (n: name, p: preferred name, id: hospital ID)\n"
+            + "Example: " + COMMAND_WORD + " p id";
 
     private static final Logger logger = LogsCenter.getLogger(SortCommand.class);
 
-    private final Comparator<Patient> comparator;
+    private final PatientComparator comparator;
 
     /**
      * Creates a new SortCommand to sort the patients in patient list by the specified {@code comparator}
      *
      * @param comparator the comparator used to compare the patient list
      */
-    public SortCommand(Comparator<Patient> comparator) {
+    public SortCommand(PatientComparator comparator) {
         requireNonNull(comparator);
 
         this.comparator = comparator;
@@ -51,24 +47,11 @@ public class SortCommand extends Command {
 
         requireNonNull(model);
 
-        String sortAttribute = "";
-
-        if (this.comparator.equals(NAME_COMPARATOR)) {
-            sortAttribute = "name";
-        }
-
-        if (this.comparator.equals(PREFERRED_NAME_COMPARATOR)) {
-            sortAttribute = "preferred name";
-        }
+        String sortAttribute = this.comparator.getSortAttribute();
 
         assert (!sortAttribute.isEmpty()) : "Sort attribute should not be empty";
 
-        List<Patient> patientList = model.getFullPatientList();
-        List<Patient> patientArrayList = new ArrayList<>(patientList);
-
-        Collections.sort(patientArrayList, this.comparator);
-
-        model.updatePatientList(patientArrayList);
+        model.sortPatientList(this.comparator);
         model.updateFilteredPatientList(Model.PREDICATE_SHOW_ALL_PATIENTS);
 
         logger.log(Level.INFO, "Successfully sorted the patient list by " + sortAttribute);
@@ -0,0 +1,23 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.StatsCenter;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of each command has taken, and how often the address book was saved and filtered,
+ * since the app was started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_SUCCESS = "Stats since the app was started:\n%1$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, StatsCenter.getReport()));
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reverts the address book to before the last command that changed it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undid the last change";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no change to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isInTransaction()) {
+            throw new CommandException(String.format(Messages.MESSAGE_IN_TRANSACTION, COMMAND_WORD));
+        }
+        if (!model.undo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.patient.SavedView;
+import seedu.address.model.patient.query.PatientQuery;
+
+/**
+ * Saves a query as a named view, or lists the patients in a saved view.
+ */
+public class ViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves a query as a view with the given name, "
+            + "whose patients are kept up to date as patients are added, edited and deleted, and lists them. "
+            + "Without a query, lists the patients in the view.\n"
+            + "Parameters: NAME [QUERY]\n"
+            + "Example: " + COMMAND_WORD + " isolation t/isolation";
+
+    public static final String MESSAGE_SAVED = "Saved the view %1$s of %2$d patient(s)";
+    public static final String MESSAGE_LISTED = "%2$d patient(s) in the view %1$s listed!";
+
+    private static final Logger logger = LogsCenter.getLogger(ViewCommand.class);
+
+    private final String viewName;
+    private final PatientQuery query;
+
+    /**
+     * Creates a ViewCommand to save {@code query} as the view {@code viewName}, or to list the patients in that view
+     * if {@code query} is null. {@code query} must not refer to a cohort.
+     */
+    public ViewCommand(String viewName, PatientQuery query) {
+        requireNonNull(viewName);
+        assert query == null || !query.refersToCohort() : "A view cannot be tested against a cohort";
+        this.viewName = viewName;
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (query == null) {
+            Optional<SavedView> view = model.getSavedView(viewName);
+            if (view.isEmpty()) {
+                throw new CommandException(String.format(Messages.MESSAGE_UNKNOWN_VIEW, viewName));
+            }
+            // The view already holds its patients, so the filtered list only looks them up
+            model.updateFilteredPatientList(view.get());
+            return new CommandResult(String.format(MESSAGE_LISTED, viewName, view.get().size()));
+        }
+
+        SavedView view = model.saveView(viewName, query);
+        model.updateFilteredPatientList(view);
+        logger.info("Saved view " + viewName + " of " + view.size() + " patient(s)");
+        return new CommandResult(String.format(MESSAGE_SAVED, viewName, view.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ViewCommand)) {
+            return false;
+        }
+
+        ViewCommand otherViewCommand = (ViewCommand) other;
+        return viewName.equals(otherViewCommand.viewName)
+                && Objects.equals(query, otherViewCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("viewName", viewName)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -31,6 +31,9 @@ import seedu.address.model.tag.Tag;
  */
 public class AddCommandParser implements Parser<AddCommand> {
     private static final Logger logger = LogsCenter.getLogger(AddCommandParser.class);
+    private static final ArgumentTokenizer.Prefixes PREFIXES = new ArgumentTokenizer.Prefixes(
+            PREFIX_PID, PREFIX_NAME, PREFIX_PREFERRED_NAME, PREFIX_FOOD_PREFERENCE, PREFIX_FAMILY_CONDITION,
+            PREFIX_HOBBY, PREFIX_TAG);
 
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
@@ -40,9 +43,7 @@ public class AddCommandParser implements Parser<AddCommand> {
     public AddCommand parse(String args) throws ParseException {
         logger.info("Received arguments: " + args + " for AddCommand; Attempting to parse..");
 
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_PID, PREFIX_NAME, PREFIX_PREFERRED_NAME, PREFIX_FOOD_PREFERENCE,
-                    PREFIX_FAMILY_CONDITION, PREFIX_HOBBY, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_PID, PREFIX_NAME, PREFIX_PREFERRED_NAME, PREFIX_FOOD_PREFERENCE,
             PREFIX_FAMILY_CONDITION, PREFIX_HOBBY) || !argMultimap.getPreamble().isEmpty()) {
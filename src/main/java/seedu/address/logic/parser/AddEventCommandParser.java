@@ -2,7 +2,6 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.parser.ArgumentTokenizer.checkInvalidPrefixesForAddEvent;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.ParserUtil.arePrefixesPresent;
@@ -11,7 +10,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -22,6 +21,8 @@ import seedu.address.model.patient.Event;
  */
 public class AddEventCommandParser implements Parser<AddEventCommand> {
     private static final Logger logger = LogsCenter.getLogger(AddEventCommandParser.class);
+    private static final ArgumentTokenizer.Prefixes PREFIXES = new ArgumentTokenizer.Prefixes(
+            PREFIX_NAME, PREFIX_DATETIME);
 
     /**
      * @throws ParseException if the user input does not conform to the expected format
@@ -30,34 +31,33 @@ public class AddEventCommandParser implements Parser<AddEventCommand> {
         logger.info("Received arguments: " + args + " for AddEventCommand; Attempting to parse..");
 
         requireNonNull(args);
+        ArgumentMultimap argMultimap;
         try {
-            checkInvalidPrefixesForAddEvent(args);
+            argMultimap = ArgumentTokenizer.tokenizeAllowingOnly(args, PREFIXES);
         } catch (ParseException e) {
             logger.log(Level.WARNING, "Invalid Prefixes found in AddEventCommand");
             throw new ParseException(e.getMessage(), e);
         }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_DATETIME);
-
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_DATETIME) || argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AddEventCommand.MESSAGE_USAGE));
         }
         logger.info("All prefixes required are present.");
 
-        Index index;
+        IndexSelection indexes;
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            indexes = ParserUtil.parseIndexSelection(argMultimap.getPreamble());
         } catch (IllegalValueException e) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AddEventCommand.MESSAGE_USAGE), e);
         }
-        logger.info("Patient Index is valid");
+        logger.info("Patient indexes are valid");
 
         Event event = ParserUtil.parseEvent(argMultimap.getValue(PREFIX_NAME).get(),
                 argMultimap.getValue(PREFIX_DATETIME).get());
         logger.info("All arguments received are valid");
 
-        return new AddEventCommand(index, event);
+        return new AddEventCommand(indexes, event);
     }
 }
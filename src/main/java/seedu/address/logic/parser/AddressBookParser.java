@@ -3,16 +3,19 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.commands.AddTagsCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CohortCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteEventCommand;
 import seedu.address.logic.commands.DeleteTagsCommand;
@@ -23,19 +26,71 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindTagsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.PurgeTagsCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RenameTagsCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The command word is looked up in a {@code CommandRegistry}, and the rest of the input is passed to the parser
+ * registered for it.
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    /** Registry of all built-in commands. Its parsers are stateless, so it is shared by every AddressBookParser. */
+    private static final CommandRegistry DEFAULT_COMMAND_REGISTRY = new CommandRegistry()
+            .register(AddCommand.COMMAND_WORD, new AddCommandParser())
+            .register(EditCommand.COMMAND_WORD, new EditCommandParser())
+            .register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser())
+            .register(AddEventCommand.COMMAND_WORD, new AddEventCommandParser())
+            .register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand())
+            .register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand())
+            .register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand())
+            .register(BeginCommand.COMMAND_WORD, arguments -> new BeginCommand())
+            .register(CommitCommand.COMMAND_WORD, arguments -> new CommitCommand())
+            .register(RollbackCommand.COMMAND_WORD, arguments -> new RollbackCommand())
+            .register(FindCommand.COMMAND_WORD, new FindCommandParser())
+            .register(SearchCommand.COMMAND_WORD, new SearchCommandParser())
+            .register(ListCommand.COMMAND_WORD, new ListCommandParser())
+            .register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand())
+            .register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand())
+            .register(AddTagsCommand.COMMAND_WORD, new AddTagsCommandParser())
+            .register(DeleteTagsCommand.COMMAND_WORD, new DeleteTagsCommandParser())
+            .register(FindTagsCommand.COMMAND_WORD, new FindTagsCommandParser())
+            .register(QueryCommand.COMMAND_WORD, new QueryCommandParser())
+            .register(CohortCommand.COMMAND_WORD, new CohortCommandParser())
+            .register(ViewCommand.COMMAND_WORD, new ViewCommandParser())
+            .register(RenameTagsCommand.COMMAND_WORD, new RenameTagsCommandParser())
+            .register(PurgeTagsCommand.COMMAND_WORD, new PurgeTagsCommandParser())
+            .register(DeleteEventCommand.COMMAND_WORD, new DeleteEventCommandParser())
+            .register(EditEventCommand.COMMAND_WORD, new EditEventCommandParser())
+            .register(SortCommand.COMMAND_WORD, new SortCommandParser())
+            .register(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand())
+            .register(RunCommand.COMMAND_WORD, new RunCommandParser());
+
+    private final CommandRegistry commandRegistry;
+
+    public AddressBookParser() {
+        this(DEFAULT_COMMAND_REGISTRY);
+    }
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} that recognises the commands in {@code commandRegistry}.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser(CommandRegistry commandRegistry) {
+        this.commandRegistry = commandRegistry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -45,70 +100,68 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty() || containsLineTerminator(trimmedInput)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = getFirstWord(trimmedInput);
+        final String arguments = trimmedInput.substring(commandWord.length());
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case AddEventCommand.COMMAND_WORD:
-            return new AddEventCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case AddTagsCommand.COMMAND_WORD:
-            return new AddTagsCommandParser().parse(arguments);
-
-        case DeleteTagsCommand.COMMAND_WORD:
-            return new DeleteTagsCommandParser().parse(arguments);
+        Parser<? extends Command> parser = commandRegistry.getParser(commandWord).orElse(null);
+        if (parser == null) {
+            logger.finer("This user input caused a ParseException: " + userInput);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
 
-        case FindTagsCommand.COMMAND_WORD:
-            return new FindTagsCommandParser().parse(arguments);
+    /**
+     * Returns the command word that {@code userInput} starts with, if it is one recognised by this parser.
+     */
+    public Optional<String> getCommandWord(String userInput) {
+        String commandWord = getFirstWord(userInput.trim());
+        return commandRegistry.getParser(commandWord).isPresent() ? Optional.of(commandWord) : Optional.empty();
+    }
 
-        case DeleteEventCommand.COMMAND_WORD:
-            return new DeleteEventCommandParser().parse(arguments);
+    private static String getFirstWord(String trimmedInput) {
+        int wordEnd = 0;
+        while (wordEnd < trimmedInput.length() && !isWhitespace(trimmedInput.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        return trimmedInput.substring(0, wordEnd);
+    }
 
-        case EditEventCommand.COMMAND_WORD:
-            return new EditEventCommandParser().parse(arguments);
+    /**
+     * Returns all command words recognised by this parser, in alphabetical order.
+     */
+    public Set<String> getCommandWords() {
+        return commandRegistry.getCommandWords();
+    }
 
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
+    /**
+     * Returns true if {@code c} separates the command word from its arguments, i.e. is matched by regex {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if {@code input} spans multiple lines, which is not a valid command.
+     */
+    private static boolean containsLineTerminator(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
         }
+        return false;
     }
 
 }
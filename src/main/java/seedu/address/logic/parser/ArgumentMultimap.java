@@ -16,11 +16,15 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Argument values are stored as positions in the string they were found in, and are only extracted when requested.
  */
 public class ArgumentMultimap {
 
+    /** The key that the preamble (text before the first prefix) is stored under. */
+    static final Prefix PREAMBLE_PREFIX = new Prefix("");
+
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<ArgumentValue>> argMultimap = new HashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -30,17 +34,26 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        put(prefix, argValue, 0, argValue.length());
+    }
+
+    /**
+     * Associates the argument value found between {@code valueStart} (inclusive) and {@code valueEnd} (exclusive)
+     * of {@code source} with {@code prefix} key in this map, without extracting it from {@code source} yet.
+     */
+    void put(Prefix prefix, String source, int valueStart, int valueEnd) {
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>(1))
+                .add(new ArgumentValue(source, valueStart, valueEnd));
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<ArgumentValue> values = argMultimap.get(prefix);
+        return values == null || values.isEmpty()
+                ? Optional.empty()
+                : Optional.of(values.get(values.size() - 1).toString());
     }
 
     /**
@@ -49,17 +62,18 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (ArgumentValue value : argMultimap.getOrDefault(prefix, List.of())) {
+            values.add(value.toString());
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return values;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE_PREFIX).orElse("");
     }
 
     /**
@@ -76,4 +90,25 @@ public class ArgumentMultimap {
         }
     }
 
+
+    /**
+     * Represents the position of an argument value in the string it was found in.
+     */
+    private static class ArgumentValue {
+        private final String source;
+        private final int start;
+        private final int end;
+
+        ArgumentValue(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String toString() {
+            return source.substring(start, end);
+        }
+    }
+
 }
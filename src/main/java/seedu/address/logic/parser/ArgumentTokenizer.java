@@ -1,15 +1,13 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LIST;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -20,10 +18,17 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * The arguments string is scanned once from left to right, recognising all prefixes in the same pass, and only the
+ * positions of the values are recorded. The values themselves are extracted when they are requested from the
+ * resulting {@code ArgumentMultimap}.
  */
 public class ArgumentTokenizer {
     public static final String INVALID_PREFIXES_MESSAGE = "Invalid command prefixes detected. "
             + "Only %1$s prefixes allowed";
+
+    /** Lookup table for every prefix known to the app, used to detect prefixes that a command does not allow. */
+    private static final PrefixTable KNOWN_PREFIXES = new PrefixTable(PREFIX_LIST);
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -33,194 +38,195 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
+        PrefixTable table = new PrefixTable(Arrays.asList(prefixes));
+        return scanRecognised(argsString, table);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString The arguments string to search for prefixes
-     * @return a list of PrefixPosition objects representing the positions of prefixes
+     * Tokenizes an arguments string like {@link #tokenize(String, Prefix...)}, with prefixes prepared beforehand.
      */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString) {
-        return PREFIX_LIST.stream()
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
+    public static ArgumentMultimap tokenize(String argsString, Prefixes prefixes) {
+        return scanRecognised(argsString, prefixes.allowed);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string from specified given prefixes.
+     * Tokenizes an arguments string like {@link #tokenize(String, Prefix...)}, but additionally checks, in the same
+     * pass, that no prefix known to the app other than {@code allowedPrefixes} appears in the arguments string.
      *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
+     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @param allowedPrefixes Prefixes to tokenize the arguments string with
+     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @throws ParseException if a known prefix that is not in {@code allowedPrefixes} is found
      */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
+    public static ArgumentMultimap tokenizeAllowingOnly(String argsString, Prefix... allowedPrefixes)
+            throws ParseException {
+        return tokenizeAllowingOnly(argsString, new Prefixes(allowedPrefixes));
     }
 
     /**
-     * {@see findAllPrefixPositions}
+     * Tokenizes an arguments string like {@link #tokenizeAllowingOnly(String, Prefix...)}, with prefixes prepared
+     * beforehand.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
+    public static ArgumentMultimap tokenizeAllowingOnly(String argsString, Prefixes allowedPrefixes)
+            throws ParseException {
+        return scan(argsString, allowedPrefixes.recognised, allowedPrefixes.allowed,
+                allowedPrefixes.invalidPrefixesMessage);
     }
 
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    private static ArgumentMultimap scanRecognised(String argsString, PrefixTable table) {
+        try {
+            return scan(argsString, table, table, null);
+        } catch (ParseException pe) {
+            throw new AssertionError("All recognised prefixes are allowed", pe);
+        }
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
+     * Scans {@code argsString} once from left to right and records the position of the preamble and of every value.
+     * A prefix occurrence is valid only if there is a whitespace before it, e.g. if {@code argsString} =
+     * "e/hip/900", "p/" does not occur in it, but in "e/hi p/900" it does.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @param recognised             Prefixes that are recognised in {@code argsString}
+     * @param allowed                Prefixes among {@code recognised} whose values are recorded
+     * @param invalidPrefixesMessage Message of the exception thrown if a recognised prefix is not allowed
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
+    private static ArgumentMultimap scan(String argsString, PrefixTable recognised, PrefixTable allowed,
+                                         String invalidPrefixesMessage) throws ParseException {
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
 
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
+        Prefix currentPrefix = ArgumentMultimap.PREAMBLE_PREFIX;
+        int valueStart = 0;
+        int length = argsString.length();
+        for (int i = 1; i < length; i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
 
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
+            Prefix prefix = recognised.match(argsString, i);
+            if (prefix == null) {
+                continue;
+            }
+            if (recognised != allowed && !allowed.contains(prefix)) {
+                throw new ParseException(invalidPrefixesMessage);
+            }
 
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+            putTrimmedValue(argMultimap, currentPrefix, argsString, valueStart, i);
+            currentPrefix = prefix;
+            valueStart = i + prefix.getPrefix().length();
+            i = valueStart - 1;
         }
+        putTrimmedValue(argMultimap, currentPrefix, argsString, valueStart, length);
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Records the value of {@code prefix} found between {@code start} and {@code end} of {@code argsString},
+     * without its leading and trailing whitespaces.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+    private static void putTrimmedValue(ArgumentMultimap argMultimap, Prefix prefix, String argsString,
+                                        int start, int end) {
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        argMultimap.put(prefix, argsString, start, end);
+    }
 
-        return value.trim();
+    private static Set<Prefix> union(Collection<Prefix> prefixes, Prefix... morePrefixes) {
+        Set<Prefix> union = new LinkedHashSet<>(prefixes);
+        union.addAll(Arrays.asList(morePrefixes));
+        return union;
     }
 
     /**
-     * Checks for invalid prefixes other than {@code t/} in the provided arguments string.
-     * Throws a ParseException if any prefix other than {@code t/} is found.
-     *
-     * @param argsString The arguments string to check for invalid prefixes
-     * @throws ParseException if an invalid prefix is found
+     * The prefixes a parser tokenizes its arguments with, with their lookup tables built once, so that a parser can
+     * keep them in a constant and tokenize every command without building them again.
      */
-    public static void checkInvalidPrefixesForTags(String argsString) throws ParseException {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString);
-
-        for (PrefixPosition position : positions) {
-            Prefix prefix = position.getPrefix();
-            if (!PREFIX_TAG.equals(prefix)) {
-                throw new ParseException(String.format(INVALID_PREFIXES_MESSAGE, PREFIX_TAG));
-            }
+    public static class Prefixes {
+        private final PrefixTable allowed;
+        private final PrefixTable recognised;
+        private final String invalidPrefixesMessage;
+
+        /**
+         * Prepares {@code prefixes} for tokenizing.
+         */
+        public Prefixes(Prefix... prefixes) {
+            allowed = new PrefixTable(Arrays.asList(prefixes));
+            recognised = allowed.isCoveredBy(PREFIX_LIST)
+                    ? KNOWN_PREFIXES
+                    : new PrefixTable(union(PREFIX_LIST, prefixes));
+            invalidPrefixesMessage = String.format(INVALID_PREFIXES_MESSAGE, prefixes.length == 1
+                    ? prefixes[0]
+                    : Arrays.asList(prefixes));
         }
     }
 
     /**
-     * Checks for invalid prefixes, i.e., prefixes other than {@code n/}  or {@code d/} in the provided arguments
-     * string.
-     * Throws a ParseException if any prefix other than {@code n/} or {@code d/} is found.
-     *
-     * @param argsString The arguments string to check for invalid prefixes
-     * @throws ParseException If an invalid prefix is found
+     * Finds which of a set of prefixes starts at a given position of a string, by only checking the prefixes that
+     * start with the character at that position.
      */
-    public static void checkInvalidPrefixesForAddEvent(String argsString) throws ParseException {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString);
-        List<Prefix> validPrefixes = List.of(PREFIX_NAME, PREFIX_DATETIME);
-
-        for (PrefixPosition position : positions) {
-            Prefix prefix = position.getPrefix();
-            if (!validPrefixes.contains(prefix)) {
-                throw new ParseException(String.format(INVALID_PREFIXES_MESSAGE, validPrefixes));
+    private static class PrefixTable {
+        private static final int TABLE_SIZE = 128;
+
+        private final Prefix[][] prefixesByFirstChar = new Prefix[TABLE_SIZE][];
+        private final Prefix[] prefixesWithOtherFirstChar;
+        private final Set<Prefix> prefixes = new LinkedHashSet<>();
+
+        PrefixTable(Collection<Prefix> prefixes) {
+            List<Prefix> otherPrefixes = new ArrayList<>();
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                if (prefixString.isEmpty() || !this.prefixes.add(prefix)) {
+                    continue;
+                }
+
+                char firstChar = prefixString.charAt(0);
+                if (firstChar >= TABLE_SIZE) {
+                    otherPrefixes.add(prefix);
+                    continue;
+                }
+                Prefix[] bucket = prefixesByFirstChar[firstChar];
+                bucket = bucket == null ? new Prefix[1] : Arrays.copyOf(bucket, bucket.length + 1);
+                bucket[bucket.length - 1] = prefix;
+                prefixesByFirstChar[firstChar] = bucket;
             }
+            prefixesWithOtherFirstChar = otherPrefixes.toArray(new Prefix[0]);
         }
-    }
 
-    /**
-     * Checks for invalid prefixes, i.e., prefixes other than {@code e/} or {@code n/}  or {@code d/}
-     * in the provided arguments string.
-     * Throws a ParseException if any prefix other than {@code e/} or {@code n/} or {@code d/} is found.
-     *
-     * @param argsString The arguments string to check for invalid prefixes.
-     * @throws ParseException If an invalid prefix is found.
-     */
-    public static void checkInvalidPrefixesForEditEvent(String argsString) throws ParseException {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString);
-        List<Prefix> validPrefixes = List.of(PREFIX_EVENT, PREFIX_NAME, PREFIX_DATETIME);
-
-        for (PrefixPosition position : positions) {
-            Prefix prefix = position.getPrefix();
-            if (!validPrefixes.contains(prefix)) {
-                throw new ParseException(String.format(INVALID_PREFIXES_MESSAGE, validPrefixes));
+        /**
+         * Returns the longest prefix starting at {@code position} of {@code argsString}, or null if there is none.
+         */
+        Prefix match(String argsString, int position) {
+            char firstChar = argsString.charAt(position);
+            if (firstChar >= TABLE_SIZE) {
+                return longestMatch(prefixesWithOtherFirstChar, argsString, position);
             }
-        }
-    }
 
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
+            Prefix[] bucket = prefixesByFirstChar[firstChar];
+            return bucket == null ? null : longestMatch(bucket, argsString, position);
+        }
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        private static Prefix longestMatch(Prefix[] candidates, String argsString, int position) {
+            Prefix longest = null;
+            for (Prefix candidate : candidates) {
+                String candidateString = candidate.getPrefix();
+                if (argsString.startsWith(candidateString, position)
+                        && (longest == null || candidateString.length() > longest.getPrefix().length())) {
+                    longest = candidate;
+                }
+            }
+            return longest;
         }
 
-        int getStartPosition() {
-            return startPosition;
+        boolean contains(Prefix prefix) {
+            return prefixes.contains(prefix);
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        boolean isCoveredBy(Collection<Prefix> otherPrefixes) {
+            return otherPrefixes.containsAll(prefixes);
         }
     }
 
@@ -17,7 +17,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_DATETIME = new Prefix("d/");
     public static final Prefix PREFIX_EVENT = new Prefix("e/");
+    public static final Prefix PREFIX_COHORT = new Prefix("co/");
+    public static final Prefix PREFIX_MODE = new Prefix("m/");
 
     public static final Set<Prefix> PREFIX_LIST = Set.of(PREFIX_PID, PREFIX_NAME, PREFIX_PREFERRED_NAME,
-            PREFIX_FOOD_PREFERENCE, PREFIX_FAMILY_CONDITION, PREFIX_HOBBY, PREFIX_TAG, PREFIX_DATETIME, PREFIX_EVENT);
+            PREFIX_FOOD_PREFERENCE, PREFIX_FAMILY_CONDITION, PREFIX_HOBBY, PREFIX_TAG, PREFIX_DATETIME, PREFIX_EVENT,
+            PREFIX_COHORT, PREFIX_MODE);
 }
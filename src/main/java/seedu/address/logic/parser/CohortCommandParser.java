@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.CohortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.patient.query.PatientQuery;
+
+/**
+ * Parses input arguments and creates a new CohortCommand object
+ */
+public class CohortCommandParser implements Parser<CohortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CohortCommand
+     * and returns a CohortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CohortCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] nameAndQuery = args.trim().split("\\s+", 2);
+        if (nameAndQuery[0].isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CohortCommand.MESSAGE_USAGE));
+        }
+
+        String cohortName = ParserUtil.parseCohortName(nameAndQuery[0]);
+        PatientQuery query = nameAndQuery.length == 2 ? QueryCommandParser.parseQuery(nameAndQuery[1]) : null;
+        return new CohortCommand(cohortName, query);
+    }
+}
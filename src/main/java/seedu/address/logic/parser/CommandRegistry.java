@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps command words to the parsers of their commands.
+ * Parsers are stateless, so a single instance of each is shared by every command parsed.
+ */
+public class CommandRegistry {
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+    /**
+     * Registers {@code parser} as the parser for commands starting with {@code commandWord}.
+     * @throws IllegalArgumentException if another parser is already registered for {@code commandWord}.
+     */
+    public CommandRegistry register(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        if (parsers.putIfAbsent(commandWord, parser) != null) {
+            throw new IllegalArgumentException("Command word already registered: " + commandWord);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+
+    /**
+     * Returns all registered command words in alphabetical order.
+     */
+    public Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(new TreeSet<>(parsers.keySet()));
+    }
+}
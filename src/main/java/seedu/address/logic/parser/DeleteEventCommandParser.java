@@ -19,6 +19,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class DeleteEventCommandParser implements Parser<DeleteEventCommand> {
 
     private static final Logger logger = LogsCenter.getLogger(DeleteEventCommandParser.class);
+    private static final ArgumentTokenizer.Prefixes PREFIXES = new ArgumentTokenizer.Prefixes(PREFIX_EVENT);
 
     /**
      * @throws ParseException if the user input does not conform to the expected format
@@ -27,7 +28,7 @@ public class DeleteEventCommandParser implements Parser<DeleteEventCommand> {
         logger.info("Received arguments: " + args + " for DeleteEventCommand; Attempting to parse..");
 
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EVENT);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_EVENT) || argMultimap.getPreamble().isEmpty()) {
             logger.log(Level.WARNING, "Invalid command format!");
@@ -2,7 +2,6 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.parser.ArgumentTokenizer.checkInvalidPrefixesForTags;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.ParserUtil.arePrefixesPresent;
 
@@ -11,7 +10,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.AddTagsCommand;
 import seedu.address.logic.commands.DeleteTagsCommand;
@@ -23,6 +22,7 @@ import seedu.address.model.tag.Tag;
  */
 public class DeleteTagsCommandParser implements Parser<DeleteTagsCommand> {
     private static final Logger logger = LogsCenter.getLogger(DeleteTagsCommandParser.class);
+    private static final ArgumentTokenizer.Prefixes PREFIXES = new ArgumentTokenizer.Prefixes(PREFIX_TAG);
 
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteTagsCommand
@@ -33,26 +33,25 @@ public class DeleteTagsCommandParser implements Parser<DeleteTagsCommand> {
         requireNonNull(args);
         logger.log(Level.INFO, "Parsing DeleteTagsCommand: " + args);
 
+        ArgumentMultimap argMultimap;
         try {
-            checkInvalidPrefixesForTags(args);
+            argMultimap = ArgumentTokenizer.tokenizeAllowingOnly(args, PREFIXES);
         } catch (ParseException pe) {
             logger.log(Level.WARNING, "Invalid prefixes provided in DeleteTagsCommand: " + args);
             throw new ParseException(pe.getMessage(), pe);
         }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
-
         if (!arePrefixesPresent(argMultimap, PREFIX_TAG) || argMultimap.getPreamble().isEmpty()) {
             logger.log(Level.WARNING, "Invalid command format for DeleteTagsCommand: " + args);
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     DeleteTagsCommand.MESSAGE_USAGE));
         }
 
-        Index index;
+        IndexSelection indexes;
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            indexes = ParserUtil.parseIndexSelection(argMultimap.getPreamble());
         } catch (IllegalValueException ive) {
-            logger.log(Level.WARNING, "Index is not a non-zero unsigned integer in DeleteTagsCommand: " + args);
+            logger.log(Level.WARNING, "Invalid indexes in DeleteTagsCommand: " + args);
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddTagsCommand.MESSAGE_USAGE), ive);
         }
 
@@ -64,8 +63,9 @@ public class DeleteTagsCommandParser implements Parser<DeleteTagsCommand> {
             throw new ParseException(pe.getMessage(), pe);
         }
 
-        logger.log(Level.INFO, "Successfully parsed DeleteTagsCommand with index " + index + " and tags " + tagList);
+        logger.log(Level.INFO, "Successfully parsed DeleteTagsCommand with indexes " + indexes
+                + " and tags " + tagList);
 
-        return new DeleteTagsCommand(index, tagList);
+        return new DeleteTagsCommand(indexes, tagList);
     }
 }
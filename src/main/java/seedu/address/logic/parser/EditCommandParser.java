@@ -32,6 +32,9 @@ import seedu.address.model.tag.Tag;
  */
 public class EditCommandParser implements Parser<EditCommand> {
     private static final Logger logger = LogsCenter.getLogger(EditCommandParser.class);
+    private static final ArgumentTokenizer.Prefixes PREFIXES = new ArgumentTokenizer.Prefixes(
+            PREFIX_PID, PREFIX_NAME, PREFIX_PREFERRED_NAME, PREFIX_FOOD_PREFERENCE, PREFIX_FAMILY_CONDITION,
+            PREFIX_HOBBY, PREFIX_TAG);
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
@@ -42,9 +45,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         logger.log(Level.INFO, "Received arguments: " + args + " for EditCommand; Attempting to parse..");
         requireNonNull(args);
 
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_PID, PREFIX_NAME, PREFIX_PREFERRED_NAME, PREFIX_FOOD_PREFERENCE,
-                    PREFIX_FAMILY_CONDITION, PREFIX_HOBBY, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PID, PREFIX_NAME, PREFIX_PREFERRED_NAME);
 
@@ -2,7 +2,6 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.parser.ArgumentTokenizer.checkInvalidPrefixesForEditEvent;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -22,6 +21,8 @@ import seedu.address.model.patient.Event;
  */
 public class EditEventCommandParser implements Parser<EditEventCommand> {
     private static final Logger logger = LogsCenter.getLogger(EditEventCommandParser.class);
+    private static final ArgumentTokenizer.Prefixes PREFIXES = new ArgumentTokenizer.Prefixes(
+            PREFIX_EVENT, PREFIX_NAME, PREFIX_DATETIME);
     /**
      * Returns a new EditEventCommand instance.
      * @param args User's input.
@@ -31,9 +32,7 @@ public class EditEventCommandParser implements Parser<EditEventCommand> {
     public EditEventCommand parse(String args) throws ParseException {
         logger.log(Level.INFO, "Received arguments: " + args + " for EditEventCommand; Attempting to parse..");
         requireNonNull(args);
-        checkInvalidPrefixesForEditEvent(args);
-
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EVENT, PREFIX_NAME, PREFIX_DATETIME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizeAllowingOnly(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_EVENT, PREFIX_NAME, PREFIX_DATETIME)
                 || argMultimap.getPreamble().isEmpty()) {
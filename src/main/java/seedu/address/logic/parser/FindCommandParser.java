@@ -1,24 +1,30 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 
 import java.util.Arrays;
+import java.util.List;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
+import seedu.address.logic.commands.PhoneticFindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.patient.NameContainsKeywordsPredicate;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand, FuzzyFindCommand or PhoneticFindCommand object
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand object, or a FuzzyFindCommand or PhoneticFindCommand object if a mode prefix before
+     * the keywords selects fuzzy or phonetic matching, for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
@@ -27,7 +33,22 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (!nameKeywords[0].startsWith(PREFIX_MODE.getPrefix())) {
+            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        }
+
+        String mode = nameKeywords[0].substring(PREFIX_MODE.getPrefix().length());
+        if (nameKeywords.length == 1) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        List<String> keywords = Arrays.asList(nameKeywords).subList(1, nameKeywords.length);
+        if (mode.equalsIgnoreCase(FindCommand.FUZZY_MODE)) {
+            return new FuzzyFindCommand(keywords);
+        } else if (mode.equalsIgnoreCase(FindCommand.PHONETIC_MODE)) {
+            return new PhoneticFindCommand(keywords);
+        }
+        throw new ParseException(String.format(FindCommand.MESSAGE_UNKNOWN_MODE, mode));
     }
 
 }
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PID;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    private static final ArgumentTokenizer.Prefixes PREFIXES = new ArgumentTokenizer.Prefixes(PREFIX_PID);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * Arguments other than a range of hospital IDs are ignored, so that e.g. "list 123" lists all patients.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PID);
+
+        Optional<String> idRange = argMultimap.getValue(PREFIX_PID);
+        if (idRange.isEmpty()) {
+            return new ListCommand();
+        }
+        return new ListCommand(ParserUtil.parseHospitalIdRange(idRange.get()));
+    }
+}
@@ -3,14 +3,17 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.patient.Event;
@@ -20,6 +23,7 @@ import seedu.address.model.patient.Hobby;
 import seedu.address.model.patient.Name;
 import seedu.address.model.patient.PatientHospitalId;
 import seedu.address.model.patient.PreferredName;
+import seedu.address.model.patient.query.HospitalIdRangeQuery;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -27,7 +31,18 @@ import seedu.address.model.tag.Tag;
  */
 public class ParserUtil {
 
+    /** Selects every patient in the last patient listing. */
+    public static final String KEYWORD_ALL_SHOWN = "all";
+
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_SELECTION = "Indexes should be non-zero unsigned integers or "
+            + "ranges of them, separated by commas, e.g. 1-200,305, or \"" + KEYWORD_ALL_SHOWN + "\".";
+    public static final String MESSAGE_INVALID_COHORT_NAME =
+            "Cohort names should only contain alphanumeric characters, and they should not be blank";
+    public static final String MESSAGE_INVALID_VIEW_NAME =
+            "View names should only contain alphanumeric characters, and they should not be blank";
+    public static final String MESSAGE_INVALID_ID_RANGE =
+            "Hospital IDs should be given as ID or FIRST_ID-LAST_ID, with FIRST_ID not more than LAST_ID";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -42,6 +57,42 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes} into an {@code IndexSelection} and returns it. The indexes can be given as a
+     * comma-separated list of one-based indexes and ranges of them, e.g. {@code 1-200,305}, or as
+     * {@value #KEYWORD_ALL_SHOWN} to select every displayed item. Whitespaces around each index will be trimmed.
+     * @throws ParseException if any of the indexes or ranges is invalid.
+     */
+    public static IndexSelection parseIndexSelection(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        String trimmedIndexes = oneBasedIndexes.trim();
+        if (trimmedIndexes.equalsIgnoreCase(KEYWORD_ALL_SHOWN)) {
+            return IndexSelection.allShown();
+        }
+
+        List<IndexSelection> partSelections = new ArrayList<>();
+        for (String part : trimmedIndexes.split(",", -1)) {
+            partSelections.add(parseIndexRange(part.trim()));
+        }
+        return IndexSelection.unionOf(partSelections);
+    }
+
+    private static IndexSelection parseIndexRange(String indexRange) throws ParseException {
+        int separatorPosition = indexRange.indexOf('-');
+        String first = separatorPosition == -1 ? indexRange : indexRange.substring(0, separatorPosition).trim();
+        String last = separatorPosition == -1 ? indexRange : indexRange.substring(separatorPosition + 1).trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(first) || !StringUtil.isNonZeroUnsignedInteger(last)) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_SELECTION);
+        }
+
+        Index firstIndex = Index.fromOneBased(Integer.parseInt(first));
+        Index lastIndex = Index.fromOneBased(Integer.parseInt(last));
+        if (lastIndex.getZeroBased() < firstIndex.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_SELECTION);
+        }
+        return IndexSelection.ofRange(firstIndex, lastIndex);
+    }
+
     /**
      * Parses a {@code String patientHospitalId} into a {@code PatientHospitalId}.
      * Leading and trailing whitespaces will be trimmed.
@@ -196,6 +247,61 @@ public class ParserUtil {
         return new Tag(parsedTag);
     }
 
+    /**
+     * Parses a {@code String cohortName} into the name of a cohort, in lower case so that cohort names are
+     * case-insensitive. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code cohortName} is invalid.
+     */
+    public static String parseCohortName(String cohortName) throws ParseException {
+        requireNonNull(cohortName);
+        String trimmedCohortName = cohortName.trim();
+        if (!trimmedCohortName.matches("\\p{Alnum}+")) {
+            throw new ParseException(MESSAGE_INVALID_COHORT_NAME);
+        }
+        return trimmedCohortName.toLowerCase();
+    }
+
+    /**
+     * Parses a {@code String viewName} into the name of a saved view, in lower case so that view names are
+     * case-insensitive. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code viewName} is invalid.
+     */
+    public static String parseViewName(String viewName) throws ParseException {
+        requireNonNull(viewName);
+        String trimmedViewName = viewName.trim();
+        if (!trimmedViewName.matches("\\p{Alnum}+")) {
+            throw new ParseException(MESSAGE_INVALID_VIEW_NAME);
+        }
+        return trimmedViewName.toLowerCase();
+    }
+
+    /**
+     * Parses {@code String idRange} of the form {@code ID} or {@code FIRST_ID-LAST_ID} into a
+     * {@code HospitalIdRangeQuery}. Leading and trailing whitespaces of each ID will be trimmed.
+     *
+     * @throws ParseException if the given {@code idRange} is invalid.
+     */
+    public static HospitalIdRangeQuery parseHospitalIdRange(String idRange) throws ParseException {
+        requireNonNull(idRange);
+        String[] ids = idRange.split("-", -1);
+        if (ids.length > 2) {
+            throw new ParseException(MESSAGE_INVALID_ID_RANGE);
+        }
+
+        String first = ids[0].trim();
+        String last = ids[ids.length - 1].trim();
+        if (!PatientHospitalId.isValidPatientHospitalId(first) || !PatientHospitalId.isValidPatientHospitalId(last)) {
+            throw new ParseException(MESSAGE_INVALID_ID_RANGE);
+        }
+        try {
+            return new HospitalIdRangeQuery(new PatientHospitalId(first), new PatientHospitalId(last));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(MESSAGE_INVALID_ID_RANGE, e);
+        }
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>}.
      */
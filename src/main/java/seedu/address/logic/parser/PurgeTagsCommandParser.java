@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.ParserUtil.arePrefixesPresent;
+
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.PurgeTagsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new PurgeTagsCommand object
+ */
+public class PurgeTagsCommandParser implements Parser<PurgeTagsCommand> {
+
+    private static final Logger logger = LogsCenter.getLogger(PurgeTagsCommandParser.class);
+    private static final ArgumentTokenizer.Prefixes PREFIXES = new ArgumentTokenizer.Prefixes(PREFIX_TAG);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PurgeTagsCommand
+     * and returns a PurgeTagsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PurgeTagsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        logger.log(Level.INFO, "Parsing PurgeTagsCommand: " + args);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizeAllowingOnly(args, PREFIXES);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_TAG) || !argMultimap.getPreamble().isEmpty()) {
+            logger.log(Level.WARNING, "Invalid command format for PurgeTagsCommand: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PurgeTagsCommand.MESSAGE_USAGE));
+        }
+
+        Set<Tag> tagsToPurge = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+
+        return new PurgeTagsCommand(tagsToPurge);
+    }
+}
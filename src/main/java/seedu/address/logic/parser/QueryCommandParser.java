@@ -0,0 +1,366 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COHORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FAMILY_CONDITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FOOD_PREFERENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOBBY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREFERRED_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.patient.Event;
+import seedu.address.model.patient.query.AndQuery;
+import seedu.address.model.patient.query.CohortQuery;
+import seedu.address.model.patient.query.EventDateQuery;
+import seedu.address.model.patient.query.FieldContainsWordsQuery;
+import seedu.address.model.patient.query.FieldContainsWordsQuery.Field;
+import seedu.address.model.patient.query.NotQuery;
+import seedu.address.model.patient.query.OrQuery;
+import seedu.address.model.patient.query.PatientQuery;
+import seedu.address.model.patient.query.TagQuery;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ *
+ * A query is parsed with the following grammar, where conditions next to each other are combined with {@code AND}:
+ * <pre>
+ *     query       := conjunction (OR conjunction)*
+ *     conjunction := unary ([AND] unary)*
+ *     unary       := NOT unary | ( query ) | condition
+ *     condition   := PREFIX VALUE
+ * </pre>
+ * The operators must be in upper case, so that words such as "and" can still be used in values.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+    public static final String OPEN_PARENTHESIS = "(";
+    public static final String CLOSE_PARENTHESIS = ")";
+
+    public static final String KEYWORD_TODAY = "today";
+    public static final String KEYWORD_THIS_WEEK = "this week";
+    public static final String DATE_RANGE_SEPARATOR = " to ";
+
+    public static final String MESSAGE_UNEXPECTED_TOKEN =
+            "Expected a condition, %1$s or %2$s in the query, but found %3$s";
+    public static final String MESSAGE_UNEXPECTED_END = "The query ended unexpectedly";
+    public static final String MESSAGE_MISSING_VALUE = "The condition %1$s needs a value";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "Event dates should be given as DD-MM-YYYY, "
+            + "DD-MM-YYYY to DD-MM-YYYY with the first date not after the last, " + KEYWORD_TODAY + " or "
+            + KEYWORD_THIS_WEEK;
+
+    private static final Logger logger = LogsCenter.getLogger(QueryCommandParser.class);
+
+    private static final Map<Prefix, Field> TEXT_FIELDS = Map.of(
+            PREFIX_NAME, Field.NAME,
+            PREFIX_PREFERRED_NAME, Field.PREFERRED_NAME,
+            PREFIX_FOOD_PREFERENCE, Field.FOOD_PREFERENCE,
+            PREFIX_FAMILY_CONDITION, Field.FAMILY_CONDITION,
+            PREFIX_HOBBY, Field.HOBBY);
+    private static final List<Prefix> CONDITION_PREFIXES = List.of(PREFIX_PID, PREFIX_NAME, PREFIX_PREFERRED_NAME,
+            PREFIX_FOOD_PREFERENCE, PREFIX_FAMILY_CONDITION, PREFIX_HOBBY, PREFIX_TAG, PREFIX_DATETIME, PREFIX_COHORT);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(Event.DATE_PATTERN);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        return new QueryCommand(parseQuery(args));
+    }
+
+    /**
+     * Parses a non-blank query expression into a {@code PatientQuery}.
+     * @throws ParseException if {@code query} is not a valid query
+     */
+    public static PatientQuery parseQuery(String query) throws ParseException {
+        QueryReader reader = new QueryReader(tokenize(query));
+        PatientQuery parsedQuery = reader.readQuery();
+        if (reader.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, OPERATOR_OR, OPERATOR_AND,
+                    reader.peek()));
+        }
+        logger.fine("Parsed query: " + parsedQuery);
+        return parsedQuery;
+    }
+
+    /**
+     * Splits {@code args} into operators, parentheses and conditions. The words after a condition's prefix, up to the
+     * next operator, grouping parenthesis or condition, form its value. A parenthesis in a value only groups
+     * conditions if it opens before a condition or {@code NOT}, or closes with none left open in the value, so that
+     * values such as "Diabetes (type 2)" can be queried.
+     */
+    private static List<Token> tokenize(String args) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        Token condition = null;
+        int openInValue = 0;
+        int position = 0;
+        while (position < args.length()) {
+            char c = args.charAt(position);
+            if (Character.isWhitespace(c)) {
+                position++;
+                continue;
+            }
+            if (c == '(' && (condition == null || startsGroup(args, position + 1))
+                    || c == ')' && (condition == null || openInValue == 0)) {
+                tokens.add(new Token(String.valueOf(c), null, null));
+                condition = null;
+                position++;
+                continue;
+            }
+
+            String word = readWord(args, position);
+            Prefix prefix = findConditionPrefix(word);
+            if (isOperator(word)) {
+                tokens.add(new Token(word, null, null));
+                condition = null;
+                position += word.length();
+                continue;
+            } else if (prefix != null) {
+                condition = new Token(null, prefix, new StringBuilder());
+                tokens.add(condition);
+                openInValue = 0;
+                position += prefix.getPrefix().length();
+            } else if (condition == null) {
+                throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, OPERATOR_NOT, OPEN_PARENTHESIS,
+                        word));
+            } else if (condition.value.length() > 0) {
+                condition.value.append(' ');
+            }
+
+            // Reads the rest of the word into the value, up to a parenthesis that groups conditions
+            for (; position < args.length() && !Character.isWhitespace(args.charAt(position)); position++) {
+                char valueChar = args.charAt(position);
+                if (valueChar == '(' && startsGroup(args, position + 1) || valueChar == ')' && openInValue == 0) {
+                    break;
+                }
+                if (valueChar == '(') {
+                    openInValue++;
+                } else if (valueChar == ')') {
+                    openInValue--;
+                }
+                condition.value.append(valueChar);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the word of {@code args} at {@code start}, which ends at a whitespace or a parenthesis.
+     */
+    private static String readWord(String args, int start) {
+        int end = start;
+        while (end < args.length() && !Character.isWhitespace(args.charAt(end)) && args.charAt(end) != '('
+                && args.charAt(end) != ')') {
+            end++;
+        }
+        return args.substring(start, end);
+    }
+
+    /**
+     * Returns true if a parenthesis before {@code start} of {@code args} opens a group, as a condition or {@code NOT},
+     * possibly in further groups, starts at {@code start}.
+     */
+    private static boolean startsGroup(String args, int start) {
+        int wordStart = start;
+        while (wordStart < args.length() && args.charAt(wordStart) == '(') {
+            wordStart++;
+        }
+        String word = readWord(args, wordStart);
+        return word.equals(OPERATOR_NOT) || findConditionPrefix(args.substring(wordStart)) != null;
+    }
+
+    private static boolean isOperator(String word) {
+        return Arrays.asList(OPERATOR_AND, OPERATOR_OR, OPERATOR_NOT, OPEN_PARENTHESIS, CLOSE_PARENTHESIS)
+                .contains(word);
+    }
+
+    private static Prefix findConditionPrefix(String word) {
+        for (Prefix prefix : CONDITION_PREFIXES) {
+            if (word.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses a condition into the query for it.
+     */
+    private static PatientQuery parseCondition(Prefix prefix, String value) throws ParseException {
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_VALUE, prefix));
+        }
+
+        Field field = TEXT_FIELDS.get(prefix);
+        if (field != null) {
+            return new FieldContainsWordsQuery(field, Arrays.asList(value.split(" ")));
+        }
+        if (prefix.equals(PREFIX_TAG)) {
+            return new TagQuery(ParserUtil.parseTag(value));
+        }
+        if (prefix.equals(PREFIX_PID)) {
+            return ParserUtil.parseHospitalIdRange(value);
+        }
+        if (prefix.equals(PREFIX_COHORT)) {
+            return new CohortQuery(ParserUtil.parseCohortName(value));
+        }
+        assert prefix.equals(PREFIX_DATETIME);
+        return parseEventDateRange(value);
+    }
+
+    /**
+     * Parses {@code value} of the form {@code DATE}, {@code FIRST_DATE to LAST_DATE}, {@code today} or
+     * {@code this week} into an {@code EventDateQuery}. Weeks start on Monday.
+     */
+    private static EventDateQuery parseEventDateRange(String value) throws ParseException {
+        String lowerCaseValue = value.toLowerCase();
+        LocalDate today = LocalDate.now();
+        if (lowerCaseValue.equals(KEYWORD_TODAY)) {
+            return new EventDateQuery(today, today);
+        }
+        if (lowerCaseValue.equals(KEYWORD_THIS_WEEK)) {
+            LocalDate monday = today.with(DayOfWeek.MONDAY);
+            return new EventDateQuery(monday, monday.plusDays(6));
+        }
+
+        String[] dates = lowerCaseValue.split(DATE_RANGE_SEPARATOR, -1);
+        if (dates.length > 2) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        try {
+            LocalDate first = LocalDate.parse(dates[0].trim(), DATE_FORMATTER);
+            LocalDate last = LocalDate.parse(dates[dates.length - 1].trim(), DATE_FORMATTER);
+            return new EventDateQuery(first, last);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE, e);
+        }
+    }
+
+    /**
+     * An operator, a parenthesis, or a condition with its prefix and value.
+     */
+    private static class Token {
+        private final String operator;
+        private final Prefix prefix;
+        private final StringBuilder value;
+
+        Token(String operator, Prefix prefix, StringBuilder value) {
+            this.operator = operator;
+            this.prefix = prefix;
+            this.value = value;
+        }
+
+        boolean isOperator(String operator) {
+            return operator.equals(this.operator);
+        }
+
+        @Override
+        public String toString() {
+            return operator != null ? operator : prefix + value.toString();
+        }
+    }
+
+    /**
+     * Reads a query from a list of tokens by recursive descent.
+     */
+    private static class QueryReader {
+        private final List<Token> tokens;
+        private int position = 0;
+
+        QueryReader(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        Token peek() {
+            return tokens.get(position);
+        }
+
+        private boolean nextIs(String operator) {
+            return hasNext() && peek().isOperator(operator);
+        }
+
+        private boolean nextStartsUnary() {
+            return hasNext() && (peek().prefix != null || peek().isOperator(OPERATOR_NOT)
+                    || peek().isOperator(OPEN_PARENTHESIS));
+        }
+
+        PatientQuery readQuery() throws ParseException {
+            List<PatientQuery> operands = new ArrayList<>();
+            operands.add(readConjunction());
+            while (nextIs(OPERATOR_OR)) {
+                position++;
+                operands.add(readConjunction());
+            }
+            return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+        }
+
+        private PatientQuery readConjunction() throws ParseException {
+            List<PatientQuery> operands = new ArrayList<>();
+            operands.add(readUnary());
+            while (nextIs(OPERATOR_AND) || nextStartsUnary()) {
+                if (nextIs(OPERATOR_AND)) {
+                    position++;
+                }
+                operands.add(readUnary());
+            }
+            return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+        }
+
+        private PatientQuery readUnary() throws ParseException {
+            if (!hasNext()) {
+                throw new ParseException(MESSAGE_UNEXPECTED_END);
+            }
+
+            Token token = tokens.get(position++);
+            if (token.isOperator(OPERATOR_NOT)) {
+                return new NotQuery(readUnary());
+            }
+            if (token.isOperator(OPEN_PARENTHESIS)) {
+                PatientQuery query = readQuery();
+                if (!nextIs(CLOSE_PARENTHESIS)) {
+                    throw hasNext()
+                            ? new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, OPERATOR_OR,
+                                    CLOSE_PARENTHESIS, peek()))
+                            : new ParseException(MESSAGE_UNEXPECTED_END);
+                }
+                position++;
+                return query;
+            }
+            if (token.prefix == null) {
+                throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, OPERATOR_NOT, OPEN_PARENTHESIS,
+                        token));
+            }
+            return parseCondition(token.prefix, token.value.toString());
+        }
+    }
+}
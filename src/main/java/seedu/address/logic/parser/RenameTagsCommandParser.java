@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.ParserUtil.arePrefixesPresent;
+
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.RenameTagsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new RenameTagsCommand object
+ */
+public class RenameTagsCommandParser implements Parser<RenameTagsCommand> {
+
+    private static final Logger logger = LogsCenter.getLogger(RenameTagsCommandParser.class);
+    private static final ArgumentTokenizer.Prefixes PREFIXES = new ArgumentTokenizer.Prefixes(PREFIX_TAG, PREFIX_NAME);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RenameTagsCommand
+     * and returns a RenameTagsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RenameTagsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        logger.log(Level.INFO, "Parsing RenameTagsCommand: " + args);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizeAllowingOnly(args, PREFIXES);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_TAG, PREFIX_NAME) || !argMultimap.getPreamble().isEmpty()) {
+            logger.log(Level.WARNING, "Invalid command format for RenameTagsCommand: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RenameTagsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME);
+
+        Set<Tag> tagsToRename = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Tag newTag = ParserUtil.parseTag(argMultimap.getValue(PREFIX_NAME).get());
+
+        return new RenameTagsCommand(tagsToRename, newTag);
+    }
+}
@@ -2,24 +2,30 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.model.patient.comparators.NameComparator.NAME_COMPARATOR;
+import static seedu.address.model.patient.comparators.PatientHospitalIdComparator.PATIENT_HOSPITAL_ID_COMPARATOR;
 import static seedu.address.model.patient.comparators.PreferredNameComparator.PREFERRED_NAME_COMPARATOR;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.patient.comparators.MultiKeyComparator;
+import seedu.address.model.patient.comparators.PatientComparator;
 
 /**
  * Parses the user's input argument and creates a new SortCommand
  */
 public class SortCommandParser implements Parser<SortCommand> {
     private static final Logger logger = LogsCenter.getLogger(SortCommandParser.class);
-    private static final List<String> VALID_SORT_ATTRIBUTES_LIST = new ArrayList<>(Arrays.asList("n", "p"));
+    private static final Map<String, PatientComparator> VALID_SORT_ATTRIBUTES = Map.of(
+            "n", NAME_COMPARATOR,
+            "p", PREFERRED_NAME_COMPARATOR,
+            "id", PATIENT_HOSPITAL_ID_COMPARATOR);
 
     /**
      * @throws ParseException if the user input does not conform to the expected format
@@ -28,49 +34,54 @@ public class SortCommandParser implements Parser<SortCommand> {
         logger.log(Level.INFO, "Received arguments: " + args + "for SortCommand"
                 + "\nAttempting to parse sortCommand...");
 
-        String sortAttribute = parseSortAttribute(args);
+        List<String> sortAttributes = parseSortAttributes(args);
 
-        switch (sortAttribute) {
-        case "":
-            logger.log(Level.INFO, "Sorting Attribute: not specified, patient "
-                    + sortAttribute
-                    + " will be used as"
+        if (sortAttributes.isEmpty()) {
+            logger.log(Level.INFO, "Sorting Attribute: not specified, patient name will be used as"
                     + " the sorting attribute");
             return new SortCommand(NAME_COMPARATOR);
-        case "n":
-            logger.log(Level.INFO, "Sorting Attribute: Patient " + sortAttribute);
-            return new SortCommand(NAME_COMPARATOR);
-        case "p":
-            logger.log(Level.INFO, "Sorting Attribute: Patient's " + sortAttribute);
-            return new SortCommand(PREFERRED_NAME_COMPARATOR);
-        default:
-            throw new AssertionError("Code should not reach here\n"
-                    + "Invalid sort attribute: "
-                    + sortAttribute);
         }
+
+        List<PatientComparator> comparators = new ArrayList<>();
+        for (String sortAttribute : sortAttributes) {
+            comparators.add(VALID_SORT_ATTRIBUTES.get(sortAttribute));
+        }
+        logger.log(Level.INFO, "Sorting Attributes: " + sortAttributes);
+
+        if (comparators.size() == 1) {
+            return new SortCommand(comparators.get(0));
+        }
+        return new SortCommand(new MultiKeyComparator(comparators));
     }
 
     /**
-     * Parses the {@code args} to check for valid sort attribute
+     * Parses the {@code args} to check for valid sort attributes, separated by whitespace
      *
      * @param args
-     * @return the parsed valid sort attribute
+     * @return the parsed valid sort attributes, in order of priority
      * @throws ParseException if the user input does not conform to the expected format
      */
-    public String parseSortAttribute(String args) throws ParseException {
-        String trimmedSortAttribute = args.trim().toLowerCase();
-        logger.log(Level.INFO, "trimmed sort attribute: " + trimmedSortAttribute);
+    public List<String> parseSortAttributes(String args) throws ParseException {
+        String trimmedSortAttributes = args.trim().toLowerCase();
+        logger.log(Level.INFO, "trimmed sort attributes: " + trimmedSortAttributes);
 
-        if (trimmedSortAttribute.length() > 1) {
-            logger.log(Level.WARNING, "Invalid sort attribute length (> 1) received.");
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        List<String> sortAttributes = new ArrayList<>();
+        if (trimmedSortAttributes.isEmpty()) {
+            return sortAttributes;
         }
 
-        if (!trimmedSortAttribute.isEmpty() && !VALID_SORT_ATTRIBUTES_LIST.contains(trimmedSortAttribute)) {
-            logger.log(Level.WARNING, "Invalid sort attribute received!");
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        for (String sortAttribute : trimmedSortAttributes.split("\\s+")) {
+            if (!VALID_SORT_ATTRIBUTES.containsKey(sortAttribute)) {
+                logger.log(Level.WARNING, "Invalid sort attribute received!");
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
+            if (sortAttributes.contains(sortAttribute)) {
+                logger.log(Level.WARNING, "Repeated sort attribute received!");
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
+            sortAttributes.add(sortAttribute);
         }
 
-        return trimmedSortAttribute;
+        return sortAttributes;
     }
 }
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.patient.query.PatientQuery;
+
+/**
+ * Parses input arguments and creates a new ViewCommand object
+ */
+public class ViewCommandParser implements Parser<ViewCommand> {
+
+    public static final String MESSAGE_COHORT_IN_VIEW = "Views cannot refer to cohorts, as the patients in a view are "
+            + "kept up to date by testing each changed patient against the query alone";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ViewCommand
+     * and returns a ViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ViewCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] nameAndQuery = args.trim().split("\\s+", 2);
+        if (nameAndQuery[0].isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        }
+
+        String viewName = ParserUtil.parseViewName(nameAndQuery[0]);
+        PatientQuery query = nameAndQuery.length == 2 ? QueryCommandParser.parseQuery(nameAndQuery[1]) : null;
+        if (query != null && query.refersToCohort()) {
+            throw new ParseException(MESSAGE_COHORT_IN_VIEW);
+        }
+        return new ViewCommand(viewName, query);
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.management;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StatsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Offers the metrics of a {@code Logic} to JMX clients, through the platform MBean server.
+ * Counts of patients, events and tags are read from the latest snapshot of the address book, so they never wait for
+ * a command. The other metrics, and saving, wait for the command being executed, if any.
+ */
+public class AppMetrics implements AppMetricsMXBean {
+
+    /** Name the metrics are registered under. */
+    public static final String OBJECT_NAME = "seedu.address:type=AppMetrics";
+
+    public static final String MESSAGE_SAVED = "Saved to %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(AppMetrics.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Logic logic;
+
+    /**
+     * Creates the metrics of {@code logic}.
+     */
+    public AppMetrics(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server, replacing any metrics registered before.
+     *
+     * @throws JMException if the metrics cannot be registered.
+     */
+    public void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+        logger.info("Registered metrics as " + OBJECT_NAME);
+    }
+
+    @Override
+    public int getPatientCount() {
+        return logic.getAddressBookSnapshot().getPatientList().size();
+    }
+
+    @Override
+    public int getEventCount() {
+        return logic.getAddressBookSnapshot().getPatientList().stream()
+                .mapToInt(patient -> patient.getEvents().size())
+                .sum();
+    }
+
+    @Override
+    public int getTagCount() {
+        return (int) logic.getAddressBookSnapshot().getPatientList().stream()
+                .flatMap(patient -> patient.getTags().stream())
+                .distinct()
+                .count();
+    }
+
+    @Override
+    public int getDisplayedPatientCount() {
+        return logic.getStatus().getDisplayedPatientCount();
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return logic.getStatus().isInTransaction();
+    }
+
+    @Override
+    public boolean isUnsavedChanges() {
+        return logic.getStatus().hasUnsavedChanges();
+    }
+
+    @Override
+    public double getLastSaveDurationMillis() {
+        long lastSaveNanos = logic.getStatus().getLastSaveNanos();
+        return lastSaveNanos < 0 ? -1 : lastSaveNanos / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getLastSaveSizeBytes() {
+        return logic.getStatus().getLastSaveSize();
+    }
+
+    @Override
+    public Map<String, Long> getCommandCounts() {
+        return logic.getStatus().getCommandCounts();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the data cannot be saved, as JMX clients cannot load a
+     *     {@code CommandException}.
+     */
+    @Override
+    public String save() {
+        try {
+            logic.save();
+        } catch (CommandException e) {
+            throw new IllegalStateException(e.getMessage());
+        }
+        return String.format(MESSAGE_SAVED, logic.getAddressBookFilePath());
+    }
+
+    @Override
+    public String dumpStats() {
+        return StatsCenter.logReport();
+    }
+}
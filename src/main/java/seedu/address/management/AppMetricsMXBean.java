@@ -0,0 +1,53 @@
+package seedu.address.management;
+
+import java.util.Map;
+
+/**
+ * The metrics and operations of a running PatientSync that are offered to JMX clients, such as JConsole.
+ * Only standard types are used, so clients do not need any PatientSync class.
+ */
+public interface AppMetricsMXBean {
+
+    int getPatientCount();
+
+    int getEventCount();
+
+    /**
+     * Returns the number of distinct tags on all patients.
+     */
+    int getTagCount();
+
+    /**
+     * Returns the number of patients that match the current filter, and are displayed.
+     */
+    int getDisplayedPatientCount();
+
+    boolean isInTransaction();
+
+    boolean isUnsavedChanges();
+
+    /**
+     * Returns how long the last save took, in milliseconds, or -1 if nothing was saved yet.
+     */
+    double getLastSaveDurationMillis();
+
+    /**
+     * Returns the size of the data file after the last save, in bytes, or -1 if nothing was saved yet.
+     */
+    long getLastSaveSizeBytes();
+
+    /**
+     * Returns the number of times each command was executed, by command word.
+     */
+    Map<String, Long> getCommandCounts();
+
+    /**
+     * Saves the data now, and returns a message saying where to.
+     */
+    String save();
+
+    /**
+     * Logs the stats of the {@code stats} command, and returns them.
+     */
+    String dumpStats();
+}
@@ -2,12 +2,21 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientHospitalId;
+import seedu.address.model.patient.PatientListChanges;
+import seedu.address.model.patient.SavedView;
 import seedu.address.model.patient.UniquePatientList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -57,6 +66,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPatients(newData.getPatientList());
     }
 
+    /**
+     * Keeps the patient list sorted by {@code comparator}, re-ordering the existing patients once.
+     * Patients added or edited afterwards are inserted at their sorted position.
+     */
+    public void setPatientComparator(Comparator<Patient> comparator) {
+        patients.setComparator(comparator);
+    }
+
+    /**
+     * Returns the order the patient list is kept in, if any.
+     */
+    public Optional<Comparator<Patient>> getPatientComparator() {
+        return patients.getComparator();
+    }
+
     //// patient-level operations
 
     /**
@@ -87,6 +111,108 @@ public class AddressBook implements ReadOnlyAddressBook {
         patients.setPatient(target, editedPatient);
     }
 
+    /**
+     * Replaces each patient in {@code targets} with the patient at the same position of {@code editedPatients}.
+     * Every patient in {@code targets} must exist in the address book.
+     * The patient identity of each edited patient must not be the same as another patient in the address book.
+     */
+    public void setPatients(List<Patient> targets, List<Patient> editedPatients) {
+        patients.setPatients(targets, editedPatients);
+    }
+
+    /**
+     * Replaces every tag in {@code tagsToMerge} with {@code mergedTag} for every patient that has any of them.
+     *
+     * @return the number of patients that were changed.
+     */
+    public int mergeTags(Set<Tag> tagsToMerge, Tag mergedTag) {
+        return patients.mergeTags(tagsToMerge, mergedTag);
+    }
+
+    /**
+     * Removes every tag in {@code tagsToRemove} from every patient that has any of them.
+     *
+     * @return the number of patients that were changed.
+     */
+    public int removeTags(Set<Tag> tagsToRemove) {
+        return patients.removeTags(tagsToRemove);
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients that have {@code tag}.
+     */
+    public Set<Patient> getPatientsWithTag(Tag tag) {
+        return patients.getPatientsWithTag(tag);
+    }
+
+    /**
+     * Returns the patients whose name, preferred name or tags closely match any of {@code keywords}, each mapped to
+     * the rank of its best match. A lower rank is a closer match.
+     */
+    public Map<Patient, Integer> findPatientsFuzzy(List<String> keywords) {
+        return patients.findFuzzy(keywords);
+    }
+
+    /**
+     * Returns the patients whose name or preferred name sounds like any of {@code keywords}, each mapped to the rank
+     * of its best match. A lower rank is a closer match.
+     */
+    public Map<Patient, Integer> findPatientsPhonetic(List<String> keywords) {
+        return patients.findPhonetic(keywords);
+    }
+
+    /**
+     * Returns at most {@code limit} patients with any of the words in {@code keywords} in any of their text fields,
+     * from the most to the least relevant.
+     */
+    public List<Patient> searchPatients(List<String> keywords, int limit) {
+        return patients.search(keywords, limit);
+    }
+
+    /**
+     * Returns the patients with a hospital ID from {@code first} to {@code last}, both inclusive, in hospital ID
+     * order.
+     */
+    public List<Patient> getPatientsInHospitalIdRange(PatientHospitalId first, PatientHospitalId last) {
+        return patients.getPatientsInHospitalIdRange(first, last);
+    }
+
+    /**
+     * Returns the changes made to the patient list since the last time this method was called.
+     */
+    public PatientListChanges takeChanges() {
+        return patients.takeChanges();
+    }
+
+    /**
+     * Reverts {@code changes}, which must be the last changes made to the patient list, or changes re-applied since.
+     */
+    public void revert(PatientListChanges changes) {
+        patients.revert(changes);
+    }
+
+    /**
+     * Applies {@code changes} again, which must have been the last changes reverted.
+     */
+    public void reapply(PatientListChanges changes) {
+        patients.reapply(changes);
+    }
+
+    /**
+     * Saves {@code filter} as the view {@code name}, replacing any view with that name, and returns the view with the
+     * patients that match {@code filter}. The patients in the view are kept up to date as patients change.
+     */
+    public SavedView saveView(String name, Predicate<Patient> filter) {
+        return patients.saveView(name, filter);
+    }
+
+    /**
+     * Returns the view saved as {@code name}, if there is one.
+     */
+    public Optional<SavedView> getSavedView(String name) {
+        return patients.getSavedView(name);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
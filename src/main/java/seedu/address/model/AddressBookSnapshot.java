@@ -0,0 +1,53 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Patient;
+
+/**
+ * An address book as it was when a version of the model was committed, which never changes afterwards.
+ * Snapshots can be read from any thread, such as by exports and reports running in the background, while commands
+ * change the model, and always hold the patients as they were between two commands.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Patient> patients;
+    private final long version;
+
+    /**
+     * Creates a snapshot of {@code patients}, which must not be changed afterwards.
+     *
+     * @param version number that is larger for every later snapshot of the same model
+     */
+    AddressBookSnapshot(List<Patient> patients, long version) {
+        requireNonNull(patients);
+        this.patients = FXCollections.unmodifiableObservableList(FXCollections.observableList(List.copyOf(patients)));
+        this.version = version;
+    }
+
+    @Override
+    public ObservableList<Patient> getPatientList() {
+        return patients;
+    }
+
+    /**
+     * Returns a number that is larger for every later snapshot of the same model, so that readers can tell whether
+     * the address book changed between two snapshots.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("patients", patients.size())
+                .toString();
+    }
+}
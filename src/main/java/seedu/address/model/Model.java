@@ -1,12 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientHospitalId;
+import seedu.address.model.patient.SavedView;
+import seedu.address.model.patient.query.Cohort;
+import seedu.address.model.patient.query.PatientBitmapIndex;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -78,6 +87,138 @@ public interface Model {
      */
     void setPatient(Patient target, Patient editedPatient);
 
+    /**
+     * Replaces each patient in {@code targets} with the patient at the same position of {@code editedPatients},
+     * as a single update of the patient list.
+     * Every patient in {@code targets} must exist in the address book.
+     * The patient identity of each edited patient must not be the same as another patient in the address book.
+     */
+    void setPatients(List<Patient> targets, List<Patient> editedPatients);
+
+    /**
+     * Replaces every tag in {@code tagsToMerge} with {@code mergedTag} for every patient that has any of them.
+     * Renaming a tag is merging it alone into the new tag.
+     *
+     * @return the number of patients that were changed.
+     */
+    int mergeTags(Set<Tag> tagsToMerge, Tag mergedTag);
+
+    /**
+     * Removes every tag in {@code tagsToRemove} from every patient that has any of them.
+     *
+     * @return the number of patients that were changed.
+     */
+    int removeTags(Set<Tag> tagsToRemove);
+
+    /**
+     * Returns an unmodifiable view of the patients in the address book that have {@code tag}, found without scanning
+     * every patient.
+     */
+    Set<Patient> getPatientsWithTag(Tag tag);
+
+    /**
+     * Returns the patients in the address book whose name, preferred name or tags have a word that is equal to, starts
+     * with, or is a few typos away from any of {@code keywords}, ignoring case. Each patient is mapped to the rank of
+     * its best match, where a lower rank is a closer match.
+     */
+    Map<Patient, Integer> findPatientsFuzzy(List<String> keywords);
+
+    /**
+     * Returns the patients in the address book whose name or preferred name has a word that sounds like any of
+     * {@code keywords}. Each patient is mapped to the rank of its best match, where a lower rank is a closer match.
+     */
+    Map<Patient, Integer> findPatientsPhonetic(List<String> keywords);
+
+    /**
+     * Returns at most {@code limit} patients in the address book with any of the words in {@code keywords} in their
+     * name, preferred name, food preferences, family conditions, hobbies, event names or tags, ignoring case, from the
+     * most to the least relevant.
+     * {@code limit} must be positive.
+     */
+    List<Patient> searchPatients(List<String> keywords, int limit);
+
+    /**
+     * Returns the patients in the address book with a hospital ID numerically from {@code first} to {@code last},
+     * both inclusive, in hospital ID order.
+     */
+    List<Patient> getPatientsInHospitalIdRange(PatientHospitalId first, PatientHospitalId last);
+
+    /**
+     * Saves {@code filter} as the view {@code name}, replacing any view with the same name, and returns the view.
+     * The patients in the view are kept up to date as patients are added, edited and deleted, without testing the
+     * other patients against {@code filter} again.
+     * {@code filter} must be able to test a patient on its own.
+     */
+    SavedView saveView(String name, Predicate<Patient> filter);
+
+    /**
+     * Returns the view saved as {@code name}, if any.
+     */
+    Optional<SavedView> getSavedView(String name);
+
+    /**
+     * Returns a bitmap index of the current patient list. The index follows the changes made to the patient list.
+     */
+    PatientBitmapIndex getPatientBitmapIndex();
+
+    /**
+     * Saves {@code cohort} under {@code name}, replacing any cohort with the same name.
+     */
+    void setCohort(String name, Cohort cohort);
+
+    /**
+     * Returns the cohort saved under {@code name}, if any.
+     */
+    Optional<Cohort> getCohort(String name);
+
+    /**
+     * Records the changes made to the address book since the last version, if any, as a new version that can be
+     * undone, together with the filter and display order of the filtered patient list. Called after every command.
+     */
+    void commitVersion();
+
+    /**
+     * Reverts the address book to the version before the latest version, and restores the filter and display order
+     * the filtered patient list had then.
+     * @return false if there is no version to undo.
+     */
+    boolean undo();
+
+    /**
+     * Applies the version that was undone last again, and restores the filter and display order the filtered patient
+     * list had after it.
+     * @return false if there is no version to redo.
+     */
+    boolean redo();
+
+    /**
+     * Returns the address book as of the latest committed version, outside of any transaction in progress.
+     * Unlike the other methods, this can be called from any thread while the model is changed.
+     */
+    AddressBookSnapshot getSnapshot();
+
+    /**
+     * Starts a transaction. Changes made to the address book from then on are not committed as versions until the
+     * transaction is committed, and can all be rolled back together. The model must not be in a transaction.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the current transaction, so that the changes made in it are committed as a single version.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the current transaction by reverting the changes made in it, and restores the filter and display order
+     * the filtered patient list had when it began.
+     */
+    void rollBackTransaction();
+
+    /**
+     * Returns true if the model is in a transaction.
+     */
+    boolean isInTransaction();
+
     /** Returns an unmodifiable view of the filtered patient list */
     ObservableList<Patient> getFilteredPatientList();
 
@@ -90,10 +231,28 @@ public interface Model {
      */
     void updateFilteredPatientList(Predicate<Patient> predicate);
 
+    /**
+     * Updates the filter of the filtered patient list to filter by the given {@code predicate}, and shows the
+     * filtered patients in {@code displayOrder} instead of the order of the patient list.
+     * @throws NullPointerException if {@code predicate} or {@code displayOrder} is null.
+     */
+    void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> displayOrder);
+
     /**
      * Replaces the current patient list with {@code updatedPatientList}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updatePatientList(List<Patient> updatedPatientList);
 
+    /**
+     * Sorts the patient list by {@code comparator} and keeps it in that order as patients are added or edited.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void sortPatientList(Comparator<Patient> comparator);
+
+    /**
+     * Returns the order the patient list is currently kept in, if any.
+     */
+    Optional<Comparator<Patient>> getPatientComparator();
+
 }
@@ -4,25 +4,77 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StatsCenter;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientHospitalId;
+import seedu.address.model.patient.PatientListChanges;
+import seedu.address.model.patient.SavedView;
+import seedu.address.model.patient.query.Cohort;
+import seedu.address.model.patient.query.PatientBitmapIndex;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    /**
+     * Number of patients from which a new filter is evaluated on all patients in parallel before it is given to the
+     * filtered list, as the filtered list would otherwise test every patient one by one on the UI thread.
+     */
+    static final int PARALLEL_FILTER_THRESHOLD = 1 << 13;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final String FILTER_EVALUATIONS_STAT = "filter evaluations";
+    private static final String FILTER_CACHE_HITS_STAT = "filter cache hits";
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Patient> filteredPatients;
+    private final SortedList<Patient> displayedPatients;
+    private final Map<String, Cohort> cohorts = new HashMap<>();
+
+    private final QueryCache queryCache = new QueryCache();
+    private final VersionHistory versionHistory = new VersionHistory();
+
+    /** Bitmap index of the patient list, or null if the list changed since it was last built. */
+    private PatientBitmapIndex patientBitmapIndex;
+    /**
+     * Number of times the patient list or a cohort has changed, so that filter results computed before are not
+     * reused.
+     */
+    private long generation;
+
+    /** Filter and display order last given to the filtered patient list. A null display order is the list order. */
+    private Predicate<Patient> currentFilter = PREDICATE_SHOW_ALL_PATIENTS;
+    private Comparator<Patient> currentDisplayOrder;
+    /** Filter and display order of the filtered patient list when the latest version was committed. */
+    private Predicate<Patient> committedFilter = PREDICATE_SHOW_ALL_PATIENTS;
+    private Comparator<Patient> committedDisplayOrder;
+    private boolean isInTransaction;
+
+    /**
+     * The address book as of the latest committed version. It is replaced, rather than changed, when a version that
+     * changed the patient list is committed, so readers on other threads never see a command half-way.
+     */
+    private volatile AddressBookSnapshot snapshot;
+    private boolean isSnapshotStale;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,6 +87,15 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPatients = new FilteredList<>(this.addressBook.getPatientList());
+        displayedPatients = new SortedList<>(filteredPatients);
+        this.addressBook.getPatientList().addListener((ListChangeListener<Patient>) change -> {
+            updatePatientBitmapIndex(change);
+            generation++;
+            isSnapshotStale = true;
+        });
+        // Loading the address book is not a change that can be undone
+        this.addressBook.takeChanges();
+        snapshot = new AddressBookSnapshot(this.addressBook.getPatientList(), 0);
     }
 
     public ModelManager() {
@@ -110,6 +171,20 @@ public class ModelManager implements Model {
         addressBook.setPatients(updatedPatientList);
     }
 
+    @Override
+    public void sortPatientList(Comparator<Patient> comparator) {
+        requireNonNull(comparator);
+        PatientListEvent event = new PatientListEvent(PatientListEvent.SORT);
+        event.begin();
+        addressBook.setPatientComparator(comparator);
+        commit(event);
+    }
+
+    @Override
+    public Optional<Comparator<Patient>> getPatientComparator() {
+        return addressBook.getPatientComparator();
+    }
+
     @Override
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
@@ -117,11 +192,225 @@ public class ModelManager implements Model {
         addressBook.setPatient(target, editedPatient);
     }
 
+    @Override
+    public void setPatients(List<Patient> targets, List<Patient> editedPatients) {
+        requireAllNonNull(targets, editedPatients);
+
+        addressBook.setPatients(targets, editedPatients);
+    }
+
+    @Override
+    public int mergeTags(Set<Tag> tagsToMerge, Tag mergedTag) {
+        requireAllNonNull(tagsToMerge, mergedTag);
+
+        return addressBook.mergeTags(tagsToMerge, mergedTag);
+    }
+
+    @Override
+    public int removeTags(Set<Tag> tagsToRemove) {
+        requireNonNull(tagsToRemove);
+
+        return addressBook.removeTags(tagsToRemove);
+    }
+
+    @Override
+    public Set<Patient> getPatientsWithTag(Tag tag) {
+        requireNonNull(tag);
+
+        return addressBook.getPatientsWithTag(tag);
+    }
+
+    @Override
+    public Map<Patient, Integer> findPatientsFuzzy(List<String> keywords) {
+        requireNonNull(keywords);
+
+        return addressBook.findPatientsFuzzy(keywords);
+    }
+
+    @Override
+    public Map<Patient, Integer> findPatientsPhonetic(List<String> keywords) {
+        requireNonNull(keywords);
+
+        return addressBook.findPatientsPhonetic(keywords);
+    }
+
+    @Override
+    public List<Patient> searchPatients(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+
+        return addressBook.searchPatients(keywords, limit);
+    }
+
+    @Override
+    public List<Patient> getPatientsInHospitalIdRange(PatientHospitalId first, PatientHospitalId last) {
+        requireAllNonNull(first, last);
+
+        return addressBook.getPatientsInHospitalIdRange(first, last);
+    }
+
+    @Override
+    public SavedView saveView(String name, Predicate<Patient> filter) {
+        requireAllNonNull(name, filter);
+
+        return addressBook.saveView(name, filter);
+    }
+
+    @Override
+    public Optional<SavedView> getSavedView(String name) {
+        requireNonNull(name);
+
+        return addressBook.getSavedView(name);
+    }
+
+    @Override
+    public PatientBitmapIndex getPatientBitmapIndex() {
+        if (patientBitmapIndex == null) {
+            patientBitmapIndex = new PatientBitmapIndex(addressBook.getPatientList());
+        }
+        return patientBitmapIndex;
+    }
+
+    /**
+     * Removes the patients removed by {@code change} from the bitmap index, if it has been built, and adds the
+     * patients it added. Patients keep their ordinals when the list is re-ordered, so permutations leave the index
+     * as it is. An index that keeps more removed patients than patients in the list is dropped, to be rebuilt when
+     * it is next used.
+     */
+    private void updatePatientBitmapIndex(ListChangeListener.Change<? extends Patient> change) {
+        if (patientBitmapIndex == null) {
+            return;
+        }
+
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(patientBitmapIndex::remove);
+            change.getAddedSubList().forEach(patientBitmapIndex::add);
+        }
+        if (patientBitmapIndex.shouldRebuild()) {
+            patientBitmapIndex = null;
+        }
+    }
+
+    @Override
+    public void setCohort(String name, Cohort cohort) {
+        requireAllNonNull(name, cohort);
+        cohorts.put(name, cohort);
+        generation++;
+    }
+
+    @Override
+    public Optional<Cohort> getCohort(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(cohorts.get(name));
+    }
+
     @Override
     public ObservableList<Patient> getFullPatientList() {
         return this.addressBook.getPatientList();
     };
 
+    //=========== Versions ===================================================================================
+
+    @Override
+    public void commitVersion() {
+        if (isInTransaction) {
+            // The changes stay with the patient list until the transaction ends
+            return;
+        }
+
+        PatientListChanges changes = addressBook.takeChanges();
+        if (!changes.isEmpty()) {
+            versionHistory.add(new VersionHistory.Version(changes, committedFilter, committedDisplayOrder,
+                    currentFilter, currentDisplayOrder));
+        }
+        committedFilter = currentFilter;
+        committedDisplayOrder = currentDisplayOrder;
+
+        if (isSnapshotStale) {
+            snapshot = new AddressBookSnapshot(addressBook.getPatientList(), snapshot.getVersion() + 1);
+            isSnapshotStale = false;
+        }
+    }
+
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public boolean undo() {
+        assert !isInTransaction : "Versions cannot be undone in a transaction";
+        commitVersion();
+        Optional<VersionHistory.Version> version = versionHistory.undo();
+        if (version.isEmpty()) {
+            return false;
+        }
+
+        addressBook.revert(version.get().changes);
+        showPatients(version.get().filterBefore, version.get().displayOrderBefore);
+        logger.fine("Undid " + version.get().changes.size() + " change(s) to the patient list");
+        return true;
+    }
+
+    @Override
+    public boolean redo() {
+        assert !isInTransaction : "Versions cannot be redone in a transaction";
+        commitVersion();
+        Optional<VersionHistory.Version> version = versionHistory.redo();
+        if (version.isEmpty()) {
+            return false;
+        }
+
+        addressBook.reapply(version.get().changes);
+        showPatients(version.get().filterAfter, version.get().displayOrderAfter);
+        logger.fine("Redid " + version.get().changes.size() + " change(s) to the patient list");
+        return true;
+    }
+
+    @Override
+    public void beginTransaction() {
+        assert !isInTransaction : "Transactions cannot be nested";
+        commitVersion();
+        isInTransaction = true;
+    }
+
+    @Override
+    public void commitTransaction() {
+        assert isInTransaction : "There is no transaction to commit";
+        isInTransaction = false;
+    }
+
+    @Override
+    public void rollBackTransaction() {
+        assert isInTransaction : "There is no transaction to roll back";
+        PatientListChanges changes = addressBook.takeChanges();
+        addressBook.revert(changes);
+        showPatients(committedFilter, committedDisplayOrder);
+        isInTransaction = false;
+        logger.fine("Rolled back " + changes.size() + " change(s) to the patient list");
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return isInTransaction;
+    }
+
+    /**
+     * Restores {@code filter} and {@code displayOrder} as the filter and display order of the filtered patient list
+     * of the current version.
+     */
+    private void showPatients(Predicate<Patient> filter, Comparator<Patient> displayOrder) {
+        if (displayOrder == null) {
+            updateFilteredPatientList(filter);
+        } else {
+            updateFilteredPatientList(filter, displayOrder);
+        }
+        committedFilter = filter;
+        committedDisplayOrder = displayOrder;
+    }
+
     //=========== Filtered Patient List Accessors =============================================================
 
     /**
@@ -130,13 +419,88 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Patient> getFilteredPatientList() {
-        return filteredPatients;
+        return displayedPatients;
     }
 
     @Override
     public void updateFilteredPatientList(Predicate<Patient> predicate) {
         requireNonNull(predicate);
-        filteredPatients.setPredicate(predicate);
+        PatientListEvent event = new PatientListEvent(PatientListEvent.FILTER);
+        event.begin();
+        filteredPatients.setPredicate(precompute(predicate));
+        displayedPatients.setComparator(null);
+        currentFilter = predicate;
+        currentDisplayOrder = null;
+        commit(event);
+    }
+
+    @Override
+    public void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> displayOrder) {
+        requireAllNonNull(predicate, displayOrder);
+        PatientListEvent event = new PatientListEvent(PatientListEvent.FILTER);
+        event.begin();
+        filteredPatients.setPredicate(precompute(predicate));
+        displayedPatients.setComparator(displayOrder);
+        currentFilter = predicate;
+        currentDisplayOrder = displayOrder;
+        commit(event);
+    }
+
+    /**
+     * Commits {@code event} with the sizes of the patient list and of the displayed patients, if it is recorded.
+     */
+    private void commit(PatientListEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.patientCount = addressBook.getPatientList().size();
+            event.displayedCount = displayedPatients.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns a predicate that matches the same patients as {@code predicate}, for the filtered list.
+     * If an equal filter was applied to the current model recently, its cached result is reused. Otherwise,
+     * on a large address book, or if the result can be cached, {@code predicate} is first tested on every patient,
+     * in parallel on a large address book, so that the filtered list only has to look up the results when it is
+     * updated. Patients added or edited afterwards are tested directly.
+     */
+    private Predicate<Patient> precompute(Predicate<Patient> predicate) {
+        if (predicate == PREDICATE_SHOW_ALL_PATIENTS || predicate instanceof Cohort
+                || predicate instanceof SavedView) {
+            return predicate;
+        }
+
+        Optional<Cohort> cachedMatches = queryCache.get(predicate, generation);
+        if (cachedMatches.isPresent()) {
+            StatsCenter.count(FILTER_CACHE_HITS_STAT, 1);
+            return lookUpOrTest(getPatientBitmapIndex(), cachedMatches.get(), predicate);
+        }
+
+        // Either the filtered list or the precomputation tests every patient
+        StatsCenter.count(FILTER_EVALUATIONS_STAT, addressBook.getPatientList().size());
+        boolean isLarge = addressBook.getPatientList().size() >= PARALLEL_FILTER_THRESHOLD;
+        if (!isLarge && !QueryCache.isCacheable(predicate)) {
+            return predicate;
+        }
+        PatientBitmapIndex index = getPatientBitmapIndex();
+        Cohort matches = isLarge
+                ? Cohort.matching(index, predicate)
+                : Cohort.of(index, addressBook.getPatientList().stream()
+                        .filter(predicate)
+                        .collect(Collectors.toList()));
+        queryCache.put(predicate, generation, matches);
+        return lookUpOrTest(index, matches, predicate);
+    }
+
+    private static Predicate<Patient> lookUpOrTest(PatientBitmapIndex index, Cohort matches,
+            Predicate<Patient> predicate) {
+        // The index follows the list, so only the patients in it when the matches were found are looked up
+        BitSet patientsMatched = index.getPatientsInList();
+        return patient -> {
+            int ordinal = index.getOrdinal(patient);
+            return ordinal >= 0 && patientsMatched.get(ordinal) ? matches.test(patient) : predicate.test(patient);
+        };
     }
 
     @Override
@@ -153,7 +517,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPatients.equals(otherModelManager.filteredPatients);
+                && displayedPatients.equals(otherModelManager.displayedPatients);
     }
 
 }
@@ -0,0 +1,34 @@
+package seedu.address.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for filtering or sorting the patient list.
+ * While no recording is enabled, beginning and committing it does nothing.
+ */
+@Name("seedu.address.PatientList")
+@Label("Patient List Update")
+@Category({"PatientSync", "Model"})
+@Description("Filtering the displayed patients, or sorting the patient list")
+class PatientListEvent extends Event {
+
+    static final String FILTER = "filter";
+    static final String SORT = "sort";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Patients")
+    int patientCount;
+
+    @Label("Displayed Patients")
+    int displayedCount;
+
+    PatientListEvent(String operation) {
+        this.operation = operation;
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.query.Cohort;
+
+/**
+ * Remembers the patients matched by the most recently used filters, so that applying a filter again to an unchanged
+ * model only looks up its result.
+ * Each result is stored with the generation of the model it was computed on, a number that the model raises
+ * whenever the patient list or a cohort changes, and a result of an older generation is never returned.
+ * Filters are looked up by {@code equals} and {@code hashCode}, so only filters that override both, such as
+ * {@code NameContainsKeywordsPredicate}, are cached.
+ */
+class QueryCache {
+
+    /** Number of results kept by default. */
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<Predicate<Patient>, Entry> entries;
+
+    QueryCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache that keeps the results of the {@code capacity} most recently used filters.
+     */
+    QueryCache(int capacity) {
+        checkArgument(capacity > 0, "The capacity of a query cache must be positive");
+        entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Patient>, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the patients matched by {@code predicate} on the model of generation {@code generation}, if they are
+     * cached. A result of another generation is forgotten.
+     */
+    Optional<Cohort> get(Predicate<Patient> predicate, long generation) {
+        requireNonNull(predicate);
+        Entry entry = entries.get(predicate);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.generation != generation) {
+            entries.remove(predicate);
+            return Optional.empty();
+        }
+        return Optional.of(entry.matches);
+    }
+
+    /**
+     * Caches {@code matches} as the patients matched by {@code predicate} on the model of generation
+     * {@code generation}, if {@code predicate} can be looked up by {@code equals} and {@code hashCode}.
+     */
+    void put(Predicate<Patient> predicate, long generation, Cohort matches) {
+        requireAllNonNull(predicate, matches);
+        if (isCacheable(predicate)) {
+            entries.put(predicate, new Entry(generation, matches));
+        }
+    }
+
+    /**
+     * Returns the number of cached results, including results of older generations that have not been looked up
+     * since.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns true if the class of {@code predicate} overrides {@code equals} and {@code hashCode}, so that an equal
+     * filter built by another command finds its result. Lambdas and other predicates compared by identity would only
+     * fill the cache.
+     */
+    static boolean isCacheable(Predicate<Patient> predicate) {
+        try {
+            Class<?> predicateClass = predicate.getClass();
+            return predicateClass.getMethod("equals", Object.class).getDeclaringClass() != Object.class
+                    && predicateClass.getMethod("hashCode").getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * A cached result and the generation of the model it was computed on.
+     */
+    private static class Entry {
+        private final long generation;
+        private final Cohort matches;
+
+        Entry(long generation, Cohort matches) {
+            this.generation = generation;
+            this.matches = matches;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientListChanges;
+
+/**
+ * The versions of the address book that can be undone and redone.
+ * A version is not a copy of the address book, but the changes a command made to the patient list, with the filter
+ * and display order of the patient list before and after the command. Only the most recent versions are kept, so
+ * the oldest version is forgotten when a new version would exceed the capacity.
+ */
+class VersionHistory {
+
+    /** Number of versions kept by default. */
+    static final int DEFAULT_CAPACITY = 50;
+
+    private final int capacity;
+    private final Deque<Version> undoableVersions = new ArrayDeque<>();
+    private final Deque<Version> redoableVersions = new ArrayDeque<>();
+
+    VersionHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a history that keeps at most {@code capacity} versions that can be undone.
+     */
+    VersionHistory(int capacity) {
+        checkArgument(capacity > 0, "The capacity of a version history must be positive");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds {@code version} as the latest version. Versions that were undone can no longer be redone.
+     */
+    void add(Version version) {
+        requireNonNull(version);
+        redoableVersions.clear();
+        if (undoableVersions.size() == capacity) {
+            undoableVersions.removeLast();
+        }
+        undoableVersions.push(version);
+    }
+
+    /**
+     * Returns the latest version, which can be redone from then on, or an empty {@code Optional} if there is none.
+     */
+    Optional<Version> undo() {
+        Version version = undoableVersions.poll();
+        if (version != null) {
+            redoableVersions.push(version);
+        }
+        return Optional.ofNullable(version);
+    }
+
+    /**
+     * Returns the version that was undone last, which can be undone again from then on, or an empty
+     * {@code Optional} if there is none.
+     */
+    Optional<Version> redo() {
+        Version version = redoableVersions.poll();
+        if (version != null) {
+            undoableVersions.push(version);
+        }
+        return Optional.ofNullable(version);
+    }
+
+    int getUndoableCount() {
+        return undoableVersions.size();
+    }
+
+    int getRedoableCount() {
+        return redoableVersions.size();
+    }
+
+    /**
+     * The changes made by a command, and the filter and display order of the patient list before and after them.
+     * A display order is null if the filtered patients are shown in the order of the patient list.
+     */
+    static class Version {
+        final PatientListChanges changes;
+        final Predicate<Patient> filterBefore;
+        final Comparator<Patient> displayOrderBefore;
+        final Predicate<Patient> filterAfter;
+        final Comparator<Patient> displayOrderAfter;
+
+        Version(PatientListChanges changes, Predicate<Patient> filterBefore, Comparator<Patient> displayOrderBefore,
+                Predicate<Patient> filterAfter, Comparator<Patient> displayOrderAfter) {
+            requireNonNull(changes);
+            requireNonNull(filterBefore);
+            requireNonNull(filterAfter);
+            this.changes = changes;
+            this.filterBefore = filterBefore;
+            this.displayOrderBefore = displayOrderBefore;
+            this.filterAfter = filterAfter;
+            this.displayOrderAfter = displayOrderAfter;
+        }
+    }
+}
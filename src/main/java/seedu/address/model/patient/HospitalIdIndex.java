@@ -0,0 +1,127 @@
+package seedu.address.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps patients sorted by the numeric value of their hospital IDs, so that the patients in a range of IDs, or all
+ * patients in ID order, can be found without sorting or scanning every patient.
+ * The numeric keys of the IDs are held in a sorted {@code long[]} that is binary searched, with the patients in a
+ * parallel array. IDs too large for a {@code long} share the largest key and are ordered among themselves by
+ * {@link PatientHospitalId#compareTo(PatientHospitalId)}.
+ */
+class HospitalIdIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Patient[] patients = new Patient[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Indexes {@code patient} at the position of its hospital ID.
+     */
+    void add(Patient patient) {
+        requireNonNull(patient);
+        PatientHospitalId id = patient.getPatientHospitalId();
+        int position = findPositionAfter(id);
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            patients = Arrays.copyOf(patients, size * 2);
+        }
+        System.arraycopy(keys, position, keys, position + 1, size - position);
+        System.arraycopy(patients, position, patients, position + 1, size - position);
+        keys[position] = id.getNumericKey();
+        patients[position] = patient;
+        size++;
+    }
+
+    /**
+     * Removes {@code patient} from the index, if it is indexed.
+     */
+    void remove(Patient patient) {
+        requireNonNull(patient);
+        PatientHospitalId id = patient.getPatientHospitalId();
+        int end = findPositionAfter(id);
+        for (int position = findPositionOf(id); position < end; position++) {
+            if (patients[position] == patient) {
+                System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+                System.arraycopy(patients, position + 1, patients, position, size - position - 1);
+                patients[--size] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code patients}, sorting them once.
+     */
+    void setAll(List<Patient> newPatients) {
+        requireNonNull(newPatients);
+        Patient[] sorted = newPatients.toArray(new Patient[0]);
+        Arrays.sort(sorted, Comparator.comparing(Patient::getPatientHospitalId));
+
+        int capacity = Math.max(INITIAL_CAPACITY, sorted.length);
+        keys = new long[capacity];
+        patients = Arrays.copyOf(sorted, capacity);
+        size = sorted.length;
+        for (int i = 0; i < size; i++) {
+            keys[i] = sorted[i].getPatientHospitalId().getNumericKey();
+        }
+    }
+
+    /**
+     * Returns the patients with a hospital ID from {@code first} to {@code last}, both inclusive, in ID order.
+     */
+    List<Patient> getPatientsInRange(PatientHospitalId first, PatientHospitalId last) {
+        requireAllNonNull(first, last);
+        int start = findPositionOf(first);
+        int end = Math.max(start, findPositionAfter(last));
+        return List.of(Arrays.copyOfRange(patients, start, end));
+    }
+
+    /**
+     * Returns every indexed patient in ID order.
+     */
+    List<Patient> getPatientsInOrder() {
+        return List.of(Arrays.copyOf(patients, size));
+    }
+
+    /**
+     * Returns the position of the first patient whose ID is not before {@code id}.
+     */
+    private int findPositionOf(PatientHospitalId id) {
+        return search(id, false);
+    }
+
+    /**
+     * Returns the position of the first patient whose ID is after {@code id}.
+     */
+    private int findPositionAfter(PatientHospitalId id) {
+        return search(id, true);
+    }
+
+    private int search(PatientHospitalId id, boolean isAfterEqualIds) {
+        long key = id.getNumericKey();
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = Long.compare(keys[mid], key);
+            if (comparison == 0) {
+                // Only IDs too large for a long, or with leading zeros, share a key with another ID
+                comparison = patients[mid].getPatientHospitalId().compareTo(id);
+            }
+            if (comparison < 0 || (isAfterEqualIds && comparison == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -7,7 +7,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  * Represents a Patient ID in hospital in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPatientHospitalId(String)}
  */
-public class PatientHospitalId {
+public class PatientHospitalId implements Comparable<PatientHospitalId> {
 
     public static final String MESSAGE_CONSTRAINTS =
         "Patient Hospital ID should only contain numeric characters, and it should not be blank";
@@ -18,8 +18,14 @@ public class PatientHospitalId {
      */
     public static final String VALIDATION_REGEX = "^[0-9]+$";
 
+    /** Largest number of significant digits whose value always fits in a {@code long}. */
+    private static final int MAX_DIGITS_OF_LONG = 18;
+
     public final String patientHospitalId;
 
+    /** Numeric value of the ID, or {@code Long.MAX_VALUE} if it does not fit in a {@code long}. */
+    private final long numericKey;
+
     /**
      * Constructs a {@code id}.
      *
@@ -29,6 +35,15 @@ public class PatientHospitalId {
         requireNonNull(id);
         checkArgument(isValidPatientHospitalId(id), MESSAGE_CONSTRAINTS);
         patientHospitalId = id;
+        numericKey = toNumericKey(id);
+    }
+
+    private static long toNumericKey(String id) {
+        int start = indexOfFirstSignificantDigit(id);
+        if (id.length() - start > MAX_DIGITS_OF_LONG) {
+            return Long.MAX_VALUE;
+        }
+        return Long.parseLong(id.substring(start));
     }
 
     /**
@@ -38,6 +53,54 @@ public class PatientHospitalId {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the numeric value of this ID as a {@code long}, or {@code Long.MAX_VALUE} if the value is too large.
+     * Comparing keys orders IDs the same way as {@link #compareTo(PatientHospitalId)}, except that IDs with equal
+     * keys may still differ.
+     */
+    public long getNumericKey() {
+        return numericKey;
+    }
+
+    /**
+     * Compares hospital IDs by their numeric value, so "900" comes before "1000".
+     * IDs of any length are supported: IDs that fit in a {@code long} are compared by their numeric keys, and other
+     * IDs by their digits.
+     */
+    @Override
+    public int compareTo(PatientHospitalId other) {
+        if (numericKey != other.numericKey) {
+            return Long.compare(numericKey, other.numericKey);
+        }
+
+        String thisId = patientHospitalId;
+        String otherId = other.patientHospitalId;
+        int thisStart = indexOfFirstSignificantDigit(thisId);
+        int otherStart = indexOfFirstSignificantDigit(otherId);
+
+        int lengthDifference = (thisId.length() - thisStart) - (otherId.length() - otherStart);
+        if (lengthDifference != 0) {
+            return lengthDifference;
+        }
+
+        for (int i = thisStart, j = otherStart; i < thisId.length(); i++, j++) {
+            int digitDifference = thisId.charAt(i) - otherId.charAt(j);
+            if (digitDifference != 0) {
+                return digitDifference;
+            }
+        }
+
+        // Same value, e.g. "007" and "7": fall back to the raw string so the ordering is consistent with equals
+        return thisId.compareTo(otherId);
+    }
+
+    private static int indexOfFirstSignificantDigit(String id) {
+        int index = 0;
+        while (index < id.length() - 1 && id.charAt(index) == '0') {
+            index++;
+        }
+        return index;
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,232 @@
+package seedu.address.model.patient;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The changes made to a {@code UniquePatientList} over a period of time, which can be reverted and applied again.
+ * Each change only refers to the patients it added, removed or replaced, and to their positions, so the changes
+ * of a command take space in proportion to the number of patients it changed. Only changes that replace the whole
+ * list, such as clearing it, or that re-order it refer to every patient in the list.
+ * The patients are shared with the list, as patients are immutable.
+ */
+public class PatientListChanges {
+
+    private final List<Edit> edits;
+
+    PatientListChanges(List<Edit> edits) {
+        requireNonNull(edits);
+        this.edits = List.copyOf(edits);
+    }
+
+    /**
+     * Returns true if no change was made.
+     */
+    public boolean isEmpty() {
+        return edits.isEmpty();
+    }
+
+    /**
+     * Returns the number of changes made.
+     */
+    public int size() {
+        return edits.size();
+    }
+
+    /**
+     * Reverts the changes on {@code list}, from the last to the first. {@code list} must be in the state the changes
+     * left it in.
+     */
+    void revert(UniquePatientList list) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).revert(list);
+        }
+    }
+
+    /**
+     * Applies the changes to {@code list} again, from the first to the last. {@code list} must be in the state the
+     * changes were first made on.
+     */
+    void reapply(UniquePatientList list) {
+        edits.forEach(edit -> edit.apply(list));
+    }
+
+    /**
+     * A single change to a {@code UniquePatientList}.
+     */
+    interface Edit {
+        void apply(UniquePatientList list);
+
+        void revert(UniquePatientList list);
+    }
+
+    /**
+     * Inserting a patient at a position.
+     */
+    static class Insertion implements Edit {
+        private final int position;
+        private final Patient patient;
+
+        Insertion(int position, Patient patient) {
+            this.position = position;
+            this.patient = patient;
+        }
+
+        @Override
+        public void apply(UniquePatientList list) {
+            list.insertAt(position, patient);
+        }
+
+        @Override
+        public void revert(UniquePatientList list) {
+            list.removeAt(position);
+        }
+    }
+
+    /**
+     * Removing the patient at a position.
+     */
+    static class Removal implements Edit {
+        private final int position;
+        private final Patient patient;
+
+        Removal(int position, Patient patient) {
+            this.position = position;
+            this.patient = patient;
+        }
+
+        @Override
+        public void apply(UniquePatientList list) {
+            list.removeAt(position);
+        }
+
+        @Override
+        public void revert(UniquePatientList list) {
+            list.insertAt(position, patient);
+        }
+    }
+
+    /**
+     * Replacing the patient at a position.
+     */
+    static class Replacement implements Edit {
+        private final int position;
+        private final Patient target;
+        private final Patient replacement;
+
+        Replacement(int position, Patient target, Patient replacement) {
+            this.position = position;
+            this.target = target;
+            this.replacement = replacement;
+        }
+
+        @Override
+        public void apply(UniquePatientList list) {
+            list.replaceAt(position, replacement);
+        }
+
+        @Override
+        public void revert(UniquePatientList list) {
+            list.replaceAt(position, target);
+        }
+    }
+
+    /**
+     * Replacing several patients as a single change to the list. If the list is sorted, the replacement may also
+     * re-order the list, so the orders before and after are kept. Otherwise, the positions of the patients are.
+     */
+    static class BulkReplacement implements Edit {
+        private final Patient[] targets;
+        private final Patient[] replacements;
+        private final int[] positions;
+        private final List<Patient> orderBefore;
+        private final List<Patient> orderAfter;
+
+        BulkReplacement(Patient[] targets, Patient[] replacements, int[] positions) {
+            this(targets, replacements, positions, null, null);
+        }
+
+        BulkReplacement(Patient[] targets, Patient[] replacements, List<Patient> orderBefore,
+                List<Patient> orderAfter) {
+            this(targets, replacements, null, orderBefore, orderAfter);
+        }
+
+        private BulkReplacement(Patient[] targets, Patient[] replacements, int[] positions, List<Patient> orderBefore,
+                List<Patient> orderAfter) {
+            this.targets = targets;
+            this.replacements = replacements;
+            this.positions = positions;
+            this.orderBefore = orderBefore;
+            this.orderAfter = orderAfter;
+        }
+
+        @Override
+        public void apply(UniquePatientList list) {
+            list.replaceEach(targets, replacements, positions, orderAfter);
+        }
+
+        @Override
+        public void revert(UniquePatientList list) {
+            list.replaceEach(replacements, targets, positions, orderBefore);
+        }
+    }
+
+    /**
+     * Replacing every patient in the list, and the order the list is kept in.
+     */
+    static class Reset implements Edit {
+        private final List<Patient> patientsBefore;
+        private final Comparator<Patient> comparatorBefore;
+        private final List<Patient> patientsAfter;
+        private final Comparator<Patient> comparatorAfter;
+
+        Reset(List<Patient> patientsBefore, Comparator<Patient> comparatorBefore, List<Patient> patientsAfter,
+                Comparator<Patient> comparatorAfter) {
+            this.patientsBefore = patientsBefore;
+            this.comparatorBefore = comparatorBefore;
+            this.patientsAfter = patientsAfter;
+            this.comparatorAfter = comparatorAfter;
+        }
+
+        @Override
+        public void apply(UniquePatientList list) {
+            list.resetTo(patientsAfter, comparatorAfter);
+        }
+
+        @Override
+        public void revert(UniquePatientList list) {
+            list.resetTo(patientsBefore, comparatorBefore);
+        }
+    }
+
+    /**
+     * Changing the order the list is kept in, which may re-order the patients without changing them. The orders are
+     * null if the patients are not re-ordered.
+     */
+    static class Reordering implements Edit {
+        private final List<Patient> orderBefore;
+        private final Comparator<Patient> comparatorBefore;
+        private final List<Patient> orderAfter;
+        private final Comparator<Patient> comparatorAfter;
+
+        Reordering(List<Patient> orderBefore, Comparator<Patient> comparatorBefore, List<Patient> orderAfter,
+                Comparator<Patient> comparatorAfter) {
+            this.orderBefore = orderBefore;
+            this.comparatorBefore = comparatorBefore;
+            this.orderAfter = orderAfter;
+            this.comparatorAfter = comparatorAfter;
+        }
+
+        @Override
+        public void apply(UniquePatientList list) {
+            list.reorder(orderAfter, comparatorAfter);
+        }
+
+        @Override
+        public void revert(UniquePatientList list) {
+            list.reorder(orderBefore, comparatorBefore);
+        }
+    }
+}
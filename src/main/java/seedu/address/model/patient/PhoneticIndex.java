@@ -0,0 +1,156 @@
+package seedu.address.model.patient;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.PhoneticUtil;
+
+/**
+ * Indexes the words of the names and preferred names of patients by their phonetic keys (see
+ * {@link PhoneticUtil#getPhoneticKeys(String)}), so that names that sound like a keyword can be found by looking up
+ * the keys of the keyword only.
+ * The keys of a word are computed once, when the first patient with the word is added, and kept until no patient has
+ * the word any more.
+ * Patients are tracked by identity, as the index is kept in step with a {@code UniquePatientList} that holds the
+ * same {@code Patient} instances.
+ */
+class PhoneticIndex {
+
+    /** Rank of a patient with a word equal to a keyword. */
+    static final int RANK_EXACT = 0;
+    /** Rank of a patient with a word whose primary key is the primary key of a keyword. */
+    static final int RANK_PRIMARY = 1;
+    /** Rank of a patient with a word whose primary key is the alternate key of a keyword, or the other way round. */
+    static final int RANK_ALTERNATE = 2;
+    /** Rank of a patient with a word whose alternate key is the alternate key of a keyword. */
+    static final int RANK_BOTH_ALTERNATE = 3;
+
+    private final Map<String, Set<Patient>> patientsByWord = new HashMap<>();
+    private final Map<String, List<String>> keysByWord = new HashMap<>();
+    private final Map<String, Set<String>> wordsByPrimaryKey = new HashMap<>();
+    private final Map<String, Set<String>> wordsByAlternateKey = new HashMap<>();
+
+    /**
+     * Indexes the words of {@code patient}.
+     */
+    void add(Patient patient) {
+        requireNonNull(patient);
+        for (String word : getWords(patient)) {
+            patientsByWord.computeIfAbsent(word, this::addWord).add(patient);
+        }
+    }
+
+    /**
+     * Removes {@code patient} from the index. Words that no patient has any more are forgotten.
+     */
+    void remove(Patient patient) {
+        requireNonNull(patient);
+        for (String word : getWords(patient)) {
+            Set<Patient> patients = patientsByWord.get(word);
+            if (patients == null) {
+                continue;
+            }
+            patients.remove(patient);
+            if (patients.isEmpty()) {
+                patientsByWord.remove(word);
+                removeWord(word);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code patients}.
+     */
+    void setAll(Iterable<Patient> patients) {
+        patientsByWord.clear();
+        keysByWord.clear();
+        wordsByPrimaryKey.clear();
+        wordsByAlternateKey.clear();
+        patients.forEach(this::add);
+    }
+
+    /**
+     * Returns the patients with a word that sounds like any of {@code keywords}, ignoring case. Each patient is
+     * mapped to the rank of its best match, from {@link #RANK_EXACT} to {@link #RANK_BOTH_ALTERNATE}, so a lower
+     * rank is a closer match.
+     */
+    Map<Patient, Integer> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Patient, Integer> ranks = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            String key = keyword.toLowerCase();
+            List<String> keywordKeys = PhoneticUtil.getPhoneticKeys(key);
+            String primaryKey = keywordKeys.get(0);
+            String alternateKey = keywordKeys.get(1);
+            if (primaryKey.isEmpty()) {
+                continue;
+            }
+
+            rankWords(ranks, key, wordsByPrimaryKey.get(primaryKey), RANK_PRIMARY);
+            rankWords(ranks, key, wordsByAlternateKey.get(primaryKey), RANK_ALTERNATE);
+            rankWords(ranks, key, wordsByPrimaryKey.get(alternateKey), RANK_ALTERNATE);
+            rankWords(ranks, key, wordsByAlternateKey.get(alternateKey), RANK_BOTH_ALTERNATE);
+        }
+        return ranks;
+    }
+
+    /**
+     * Gives the patients with any of {@code words} the rank {@code rank}, or {@link #RANK_EXACT} for a word equal to
+     * {@code key}, unless they already have a lower rank.
+     */
+    private void rankWords(Map<Patient, Integer> ranks, String key, Set<String> words, int rank) {
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            int wordRank = word.equals(key) ? RANK_EXACT : rank;
+            for (Patient patient : patientsByWord.get(word)) {
+                ranks.merge(patient, wordRank, Math::min);
+            }
+        }
+    }
+
+    private Set<Patient> addWord(String word) {
+        List<String> keys = PhoneticUtil.getPhoneticKeys(word);
+        keysByWord.put(word, keys);
+        wordsByPrimaryKey.computeIfAbsent(keys.get(0), unused -> new HashSet<>()).add(word);
+        wordsByAlternateKey.computeIfAbsent(keys.get(1), unused -> new HashSet<>()).add(word);
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private void removeWord(String word) {
+        List<String> keys = keysByWord.remove(word);
+        removeFrom(wordsByPrimaryKey, keys.get(0), word);
+        removeFrom(wordsByAlternateKey, keys.get(1), word);
+    }
+
+    private static void removeFrom(Map<String, Set<String>> wordsByKey, String key, String word) {
+        Set<String> words = wordsByKey.get(key);
+        if (words != null) {
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct lower case words of the name and preferred name of {@code patient}.
+     */
+    private static Set<String> getWords(Patient patient) {
+        Set<String> words = new HashSet<>();
+        Stream.of(patient.getName().fullName, patient.getPreferredName().preferredName)
+                .flatMap(value -> Stream.of(value.split("\\s+")))
+                .filter(word -> !word.isEmpty())
+                .forEach(word -> words.add(word.toLowerCase()));
+        return words;
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.patient;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Patient's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPreferredName(String)}
@@ -20,6 +24,9 @@ public class PreferredName {
 
     public final String preferredName;
 
+    /** Sort key for this name, computed once so that sorts on several threads can share it. */
+    private final CollationKey collationKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +36,7 @@ public class PreferredName {
         requireNonNull(name);
         checkArgument(isValidPreferredName(name), MESSAGE_CONSTRAINTS);
         preferredName = name;
+        collationKey = StringUtil.getCollationKey(name);
     }
 
     /**
@@ -38,6 +46,12 @@ public class PreferredName {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the locale-aware, case-insensitive sort key of this name.
+     */
+    public CollationKey getCollationKey() {
+        return collationKey;
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,85 @@
+package seedu.address.model.patient;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A filter saved under a name, together with the patients that match it.
+ * The matching patients are kept in step with every change to the {@code UniquePatientList} the view is saved in,
+ * by testing only the patients that are added or edited, so a view can be used as the predicate of a filtered
+ * patient list without testing any patient against the filter again.
+ * Patients are tracked by identity, as the view holds the same {@code Patient} instances as the list.
+ */
+public class SavedView implements Predicate<Patient> {
+
+    private final Predicate<Patient> filter;
+    private final Set<Patient> members = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a view of the patients that match {@code filter}, with no patients yet.
+     * {@code filter} must be able to test a patient on its own, without looking up anything in the model.
+     */
+    SavedView(Predicate<Patient> filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    /**
+     * Adds {@code patient} to the view if it matches the filter.
+     */
+    void add(Patient patient) {
+        requireNonNull(patient);
+        if (filter.test(patient)) {
+            members.add(patient);
+        }
+    }
+
+    /**
+     * Removes {@code patient} from the view, if it is in the view.
+     */
+    void remove(Patient patient) {
+        requireNonNull(patient);
+        members.remove(patient);
+    }
+
+    /**
+     * Replaces the patients in the view with those of {@code patients} that match the filter.
+     */
+    void setAll(Iterable<Patient> patients) {
+        members.clear();
+        patients.forEach(this::add);
+    }
+
+    /**
+     * Returns true if {@code patient} is in the view. Only looks up the patient.
+     */
+    @Override
+    public boolean test(Patient patient) {
+        return members.contains(patient);
+    }
+
+    /**
+     * Returns the number of patients in the view.
+     */
+    public int size() {
+        return members.size();
+    }
+
+    public Predicate<Patient> getFilter() {
+        return filter;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filter", filter)
+                .add("size", members.size())
+                .toString();
+    }
+}
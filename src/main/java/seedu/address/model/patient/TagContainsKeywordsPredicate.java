@@ -49,6 +49,11 @@ public class TagContainsKeywordsPredicate implements Predicate<Patient> {
         return keywords.equals(otherTagContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
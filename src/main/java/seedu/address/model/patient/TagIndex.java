@@ -0,0 +1,74 @@
+package seedu.address.model.patient;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Maps each tag to the patients that have it, so that the patients with a tag can be found without scanning every
+ * patient.
+ * Patients are tracked by identity, as the index is kept in step with a {@code UniquePatientList} that holds the
+ * same {@code Patient} instances.
+ */
+class TagIndex {
+
+    private final Map<Tag, Set<Patient>> patientsByTag = new HashMap<>();
+
+    /**
+     * Indexes {@code patient} under each of its tags.
+     */
+    void add(Patient patient) {
+        requireNonNull(patient);
+        for (Tag tag : patient.getTags()) {
+            patientsByTag.computeIfAbsent(tag, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(patient);
+        }
+    }
+
+    /**
+     * Removes {@code patient} from the index. Tags that no patient has any more are forgotten.
+     */
+    void remove(Patient patient) {
+        requireNonNull(patient);
+        for (Tag tag : patient.getTags()) {
+            Set<Patient> patients = patientsByTag.get(tag);
+            if (patients == null) {
+                continue;
+            }
+            patients.remove(patient);
+            if (patients.isEmpty()) {
+                patientsByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code patients}.
+     */
+    void setAll(Iterable<Patient> patients) {
+        patientsByTag.clear();
+        patients.forEach(this::add);
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients that have {@code tag}.
+     */
+    Set<Patient> getPatientsWith(Tag tag) {
+        requireNonNull(tag);
+        Set<Patient> patients = patientsByTag.get(tag);
+        return patients == null ? Collections.emptySet() : Collections.unmodifiableSet(patients);
+    }
+
+    /**
+     * Returns an unmodifiable view of every tag that at least one patient has.
+     */
+    Set<Tag> getTags() {
+        return Collections.unmodifiableSet(patientsByTag.keySet());
+    }
+}
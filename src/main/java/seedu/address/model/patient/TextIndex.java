@@ -0,0 +1,182 @@
+package seedu.address.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * An inverted index of the words in every text field of patients, with the number of times each patient has each
+ * word, so that patients can be ranked by relevance to a search without reading their fields again.
+ * Patients are scored with Okapi BM25, which rewards patients that have a searched word many times and words that
+ * few patients have, and does not let patients with a lot of text outrank patients with little text just by length.
+ * Patients are tracked by identity, as the index is kept in step with a {@code UniquePatientList} that holds the
+ * same {@code Patient} instances.
+ */
+class TextIndex {
+
+    /** How quickly more occurrences of a word stop raising the score. */
+    static final double TERM_FREQUENCY_SATURATION = 1.2;
+    /** How much the score is normalised by the amount of text a patient has, from 0 (not at all) to 1 (fully). */
+    static final double LENGTH_NORMALISATION = 0.75;
+
+    /**
+     * Orders scored patients from the least to the most relevant, with patients of equal score ordered by decreasing
+     * hospital ID, so that the top results are the same whatever order the patients were indexed in.
+     */
+    private static final Comparator<Map.Entry<Patient, Double>> BY_RELEVANCE =
+            Comparator.<Map.Entry<Patient, Double>>comparingDouble(Map.Entry::getValue)
+                    .thenComparing(entry -> entry.getKey().getPatientHospitalId(), Comparator.reverseOrder());
+
+    private final Map<String, Map<Patient, Integer>> countsByWord = new HashMap<>();
+    private final Map<Patient, Integer> lengths = new IdentityHashMap<>();
+    private long totalLength;
+
+    /**
+     * Indexes the words of {@code patient}.
+     */
+    void add(Patient patient) {
+        requireNonNull(patient);
+        int length = 0;
+        for (Map.Entry<String, Integer> wordCount : countWords(patient).entrySet()) {
+            countsByWord.computeIfAbsent(wordCount.getKey(), unused -> new IdentityHashMap<>())
+                    .put(patient, wordCount.getValue());
+            length += wordCount.getValue();
+        }
+        lengths.put(patient, length);
+        totalLength += length;
+    }
+
+    /**
+     * Removes {@code patient} from the index. Words that no patient has any more are forgotten.
+     */
+    void remove(Patient patient) {
+        requireNonNull(patient);
+        Integer length = lengths.remove(patient);
+        if (length == null) {
+            return;
+        }
+        totalLength -= length;
+        for (String word : countWords(patient).keySet()) {
+            Map<Patient, Integer> counts = countsByWord.get(word);
+            if (counts == null) {
+                continue;
+            }
+            counts.remove(patient);
+            if (counts.isEmpty()) {
+                countsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code patients}.
+     */
+    void setAll(Iterable<Patient> patients) {
+        countsByWord.clear();
+        lengths.clear();
+        totalLength = 0;
+        patients.forEach(this::add);
+    }
+
+    /**
+     * Returns at most {@code limit} patients with any of the words in {@code keywords}, ignoring case, from the most
+     * to the least relevant.
+     */
+    List<Patient> search(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        checkArgument(limit > 0, "The number of results must be positive");
+
+        Map<Patient, Double> scores = new IdentityHashMap<>();
+        int patientCount = lengths.size();
+        double averageLength = patientCount == 0 ? 0 : (double) totalLength / patientCount;
+        for (String word : getDistinctWords(keywords.stream())) {
+            Map<Patient, Integer> counts = countsByWord.get(word);
+            if (counts == null) {
+                continue;
+            }
+
+            double inverseDocumentFrequency =
+                    Math.log(1 + (patientCount - counts.size() + 0.5) / (counts.size() + 0.5));
+            for (Map.Entry<Patient, Integer> count : counts.entrySet()) {
+                double lengthRatio = lengths.get(count.getKey()) / averageLength;
+                double termFrequency = count.getValue();
+                double score = inverseDocumentFrequency * termFrequency * (TERM_FREQUENCY_SATURATION + 1)
+                        / (termFrequency + TERM_FREQUENCY_SATURATION
+                                * (1 - LENGTH_NORMALISATION + LENGTH_NORMALISATION * lengthRatio));
+                scores.merge(count.getKey(), score, Double::sum);
+            }
+        }
+        return getMostRelevant(scores, limit);
+    }
+
+    /**
+     * Returns the {@code limit} patients with the highest scores, from the highest to the lowest, keeping only that
+     * many patients in a heap instead of sorting every scored patient.
+     */
+    private static List<Patient> getMostRelevant(Map<Patient, Double> scores, int limit) {
+        // The least relevant of the patients kept so far is at the head of the heap
+        PriorityQueue<Map.Entry<Patient, Double>> mostRelevant = new PriorityQueue<>(limit, BY_RELEVANCE);
+        for (Map.Entry<Patient, Double> score : scores.entrySet()) {
+            if (mostRelevant.size() < limit) {
+                mostRelevant.add(score);
+            } else if (BY_RELEVANCE.compare(score, mostRelevant.peek()) > 0) {
+                mostRelevant.poll();
+                mostRelevant.add(score);
+            }
+        }
+
+        List<Patient> patients = new ArrayList<>(mostRelevant.size());
+        while (!mostRelevant.isEmpty()) {
+            patients.add(mostRelevant.poll().getKey());
+        }
+        Collections.reverse(patients);
+        return patients;
+    }
+
+    /**
+     * Returns the number of times each lower case word occurs in the text fields of {@code patient}.
+     */
+    private static Map<String, Integer> countWords(Patient patient) {
+        Map<String, Integer> counts = new HashMap<>();
+        getTextFields(patient)
+                .flatMap(TextIndex::splitIntoWords)
+                .forEach(word -> counts.merge(word, 1, Integer::sum));
+        return counts;
+    }
+
+    private static Set<String> getDistinctWords(Stream<String> texts) {
+        Set<String> words = new LinkedHashSet<>();
+        texts.flatMap(TextIndex::splitIntoWords).forEach(words::add);
+        return words;
+    }
+
+    private static Stream<String> getTextFields(Patient patient) {
+        return Stream.of(
+                Stream.of(patient.getName().fullName, patient.getPreferredName().preferredName),
+                patient.getFoodPreferences().stream().map(foodPreference -> foodPreference.foodPreference),
+                patient.getFamilyConditions().stream().map(familyCondition -> familyCondition.familyCondition),
+                patient.getHobbies().stream().map(hobby -> hobby.hobby),
+                patient.getEvents().stream().map(event -> event.name),
+                patient.getTags().stream().map(tag -> tag.tagName))
+                .flatMap(fields -> fields);
+    }
+
+    /**
+     * Splits {@code text} into lower case words made of letters and digits.
+     */
+    private static Stream<String> splitIntoWords(String text) {
+        return Stream.of(text.toLowerCase().split("[^\\p{Alnum}]+"))
+                .filter(word -> !word.isEmpty());
+    }
+}
@@ -0,0 +1,197 @@
+package seedu.address.model.patient;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Indexes the words of the names, preferred names and tags of patients by their trigrams, the overlapping sequences
+ * of three characters in each word, so that words similar to a misspelt keyword can be found without comparing the
+ * keyword to every word.
+ * Words are padded with {@link #PADDING} before being split into trigrams, so that the start and end of a word are
+ * trigrams too, e.g. "john" has the trigrams "$$j", "$jo", "joh", "ohn" and "hn$".
+ * Patients are tracked by identity, as the index is kept in step with a {@code UniquePatientList} that holds the
+ * same {@code Patient} instances.
+ */
+class TrigramIndex {
+
+    /** Rank of a patient with a word equal to a keyword. */
+    static final int RANK_EXACT = 0;
+    /** Rank of a patient with a word starting with a keyword. */
+    static final int RANK_PREFIX = 1;
+
+    private static final char PADDING = '$';
+
+    private final Map<String, Set<Patient>> patientsByWord = new HashMap<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Indexes the words of {@code patient}.
+     */
+    void add(Patient patient) {
+        requireNonNull(patient);
+        for (String word : getWords(patient)) {
+            patientsByWord.computeIfAbsent(word, this::addWord).add(patient);
+        }
+    }
+
+    /**
+     * Removes {@code patient} from the index. Words that no patient has any more are forgotten.
+     */
+    void remove(Patient patient) {
+        requireNonNull(patient);
+        for (String word : getWords(patient)) {
+            Set<Patient> patients = patientsByWord.get(word);
+            if (patients == null) {
+                continue;
+            }
+            patients.remove(patient);
+            if (patients.isEmpty()) {
+                patientsByWord.remove(word);
+                removeWord(word);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code patients}.
+     */
+    void setAll(Iterable<Patient> patients) {
+        patientsByWord.clear();
+        wordsByTrigram.clear();
+        patients.forEach(this::add);
+    }
+
+    /**
+     * Returns the patients with a word that is equal to, starts with, or is within the maximum edit distance of
+     * (see {@link #getMaxEditDistance(int)}) any of {@code keywords}, ignoring case. Each patient is mapped to the
+     * rank of its best match: {@link #RANK_EXACT}, {@link #RANK_PREFIX}, or {@code RANK_PREFIX} plus the edit
+     * distance, so a lower rank is a closer match.
+     */
+    Map<Patient, Integer> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Patient, Integer> ranks = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            String key = keyword.toLowerCase();
+            for (String candidate : findCandidateWords(key)) {
+                int rank = rank(key, candidate);
+                if (rank < 0) {
+                    continue;
+                }
+                for (Patient patient : patientsByWord.get(candidate)) {
+                    ranks.merge(patient, rank, Math::min);
+                }
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the maximum number of typos tolerated in a keyword of {@code length} characters. Short keywords must
+     * match exactly or as a prefix, as a single typo already makes them similar to too many words.
+     */
+    static int getMaxEditDistance(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the words sharing a trigram with {@code key}, which include every word that {@code key} can match.
+     * A word within the maximum edit distance of a keyword of at least three characters always shares a trigram with
+     * it, and a word starting with a keyword has all the trigrams of the keyword's padded start.
+     */
+    private Set<String> findCandidateWords(String key) {
+        Set<String> candidates = new LinkedHashSet<>();
+        int maxEditDistance = getMaxEditDistance(key.length());
+        List<String> trigrams = maxEditDistance == 0 ? getPrefixTrigrams(key) : getTrigrams(key);
+        for (String trigram : trigrams) {
+            candidates.addAll(wordsByTrigram.getOrDefault(trigram, Collections.emptySet()));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the rank of {@code word} as a match for {@code key}, or -1 if it does not match.
+     */
+    private static int rank(String key, String word) {
+        if (word.equals(key)) {
+            return RANK_EXACT;
+        }
+        if (word.startsWith(key)) {
+            return RANK_PREFIX;
+        }
+        int maxEditDistance = getMaxEditDistance(key.length());
+        if (maxEditDistance == 0 || Math.abs(word.length() - key.length()) > maxEditDistance) {
+            return -1;
+        }
+        int editDistance = StringUtil.getEditDistance(key, word, maxEditDistance);
+        return editDistance <= maxEditDistance ? RANK_PREFIX + editDistance : -1;
+    }
+
+    private Set<Patient> addWord(String word) {
+        for (String trigram : getTrigrams(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private void removeWord(String word) {
+        for (String trigram : getTrigrams(word)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            if (words != null) {
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the trigrams of {@code word}, padded at both ends.
+     */
+    static List<String> getTrigrams(String word) {
+        return splitIntoTrigrams("" + PADDING + PADDING + word + PADDING);
+    }
+
+    /**
+     * Returns the trigrams of {@code prefix} padded at its start only, which every word starting with it has.
+     */
+    static List<String> getPrefixTrigrams(String prefix) {
+        return splitIntoTrigrams("" + PADDING + PADDING + prefix);
+    }
+
+    private static List<String> splitIntoTrigrams(String paddedWord) {
+        String[] trigrams = new String[paddedWord.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = paddedWord.substring(i, i + 3);
+        }
+        return List.of(trigrams);
+    }
+
+    /**
+     * Returns the distinct lower case words of the name, preferred name and tags of {@code patient}.
+     */
+    private static Set<String> getWords(Patient patient) {
+        Set<String> words = new HashSet<>();
+        Stream.concat(
+                Stream.of(patient.getName().fullName, patient.getPreferredName().preferredName),
+                patient.getTags().stream().map(tag -> tag.tagName))
+                .flatMap(value -> Stream.of(value.split("\\s+")))
+                .filter(word -> !word.isEmpty())
+                .forEach(word -> words.add(word.toLowerCase()));
+        return words;
+    }
+}
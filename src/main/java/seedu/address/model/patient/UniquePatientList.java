@@ -2,14 +2,28 @@ package seedu.address.model.patient;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.patient.comparators.PatientHospitalIdComparator.PATIENT_HOSPITAL_ID_COMPARATOR;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.patient.exceptions.DuplicatePatientException;
 import seedu.address.model.patient.exceptions.PatientNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of patients that enforces uniqueness between its elements and does not allow nulls.
@@ -21,14 +35,60 @@ import seedu.address.model.patient.exceptions.PatientNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The list may optionally be kept in a persistent sort order (see {@link #setComparator(Comparator)}). While a
+ * comparator is set, added and edited patients are placed at their sorted position by binary search, so the
+ * order never has to be re-established by sorting the whole list again.
+ *
+ * The list also keeps an index of its patients by tag, so that tag-wide operations such as
+ * {@link #mergeTags(Set, Tag)} only have to visit the patients that have the tags, an index of the words of
+ * their names and tags by trigram, so that {@link #findFuzzy(List)} does not compare keywords to every word, an
+ * index of the words of their names by phonetic key, so that {@link #findPhonetic(List)} does not encode every word,
+ * an inverted index of the words in all their text fields, so that {@link #search(List, int)} does not read
+ * every patient, and an index of their hospital IDs in numeric order, so that ranges of IDs are found by binary
+ * search and sorting the list by ID does not need to compare patients.
+ * The patients matching each saved view (see {@link #saveView(String, Predicate)}) are kept in step in the same way,
+ * so that only added and edited patients are tested against the filters of the views.
+ *
+ * Every change to the list is recorded, so that the changes made by a command can be taken with
+ * {@link #takeChanges()}, and later reverted or applied again.
+ *
  * @see Patient#isSamePatient(Patient)
  */
 public class UniquePatientList implements Iterable<Patient> {
 
+    /** Lists at least this long are sorted with {@link Arrays#parallelSort}; smaller ones are not worth the forking. */
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     private final ObservableList<Patient> internalList = FXCollections.observableArrayList();
     private final ObservableList<Patient> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Patients in this list by tag, kept in step with every change to the list. */
+    private final TagIndex tagIndex = new TagIndex();
+
+    /** Patients in this list by the trigrams of their names and tags, kept in step with every change to the list. */
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    /** Patients in this list by the phonetic keys of their names, kept in step with every change to the list. */
+    private final PhoneticIndex phoneticIndex = new PhoneticIndex();
+    /** Patients in this list by the words in all their text fields, kept in step with every change to the list. */
+    private final TextIndex textIndex = new TextIndex();
+    /** Patients in this list in hospital ID order, kept in step with every change to the list. */
+    private final HospitalIdIndex hospitalIdIndex = new HospitalIdIndex();
+    /** Saved views by name, kept in step with every change to the list. */
+    private final Map<String, SavedView> savedViews = new HashMap<>();
+
+    /**
+     * Positions of the patients in the list by identity, kept in step with replacements and with patients added at
+     * or removed from the end, or null until they are next needed after patients were moved.
+     */
+    private Map<Patient, Integer> patientPositions;
+
+    /** Changes made to the list that have not been taken by {@link #takeChanges()} yet. */
+    private final List<PatientListChanges.Edit> edits = new ArrayList<>();
+
+    /** The order the list is kept in, or null if patients are kept in insertion order. */
+    private Comparator<Patient> comparator;
+
     /**
      * Returns true if the list contains an equivalent patient as the given argument.
      */
@@ -46,7 +106,10 @@ public class UniquePatientList implements Iterable<Patient> {
         if (contains(toAdd)) {
             throw new DuplicatePatientException();
         }
-        internalList.add(toAdd);
+
+        int position = comparator == null ? internalList.size() : findInsertionIndex(toAdd);
+        insertAt(position, toAdd);
+        edits.add(new PatientListChanges.Insertion(position, toAdd));
     }
 
     /**
@@ -57,7 +120,7 @@ public class UniquePatientList implements Iterable<Patient> {
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PatientNotFoundException();
         }
@@ -66,7 +129,197 @@ public class UniquePatientList implements Iterable<Patient> {
             throw new DuplicatePatientException();
         }
 
-        internalList.set(index, editedPatient);
+        if (comparator == null || isInSortedPosition(index, editedPatient)) {
+            edits.add(new PatientListChanges.Replacement(index, internalList.get(index), editedPatient));
+            replaceAt(index, editedPatient);
+            return;
+        }
+        edits.add(new PatientListChanges.Removal(index, removeAt(index)));
+        int position = findInsertionIndex(editedPatient);
+        insertAt(position, editedPatient);
+        edits.add(new PatientListChanges.Insertion(position, editedPatient));
+    }
+
+    /**
+     * Replaces each patient in {@code targets} with the patient at the same position of {@code editedPatients},
+     * as a single change to the list.
+     * Every patient in {@code targets} must exist in the list.
+     * The patient identity of each edited patient must not be the same as another patient in the resulting list.
+     */
+    public void setPatients(List<Patient> targets, List<Patient> editedPatients) {
+        requireAllNonNull(targets, editedPatients);
+        if (targets.size() != editedPatients.size()) {
+            throw new IllegalArgumentException("Every target patient must have exactly one edited patient");
+        }
+
+        // Each target is replaced once, by the last edited patient given for it
+        TreeMap<Integer, Patient> replacements = new TreeMap<>();
+        boolean hasIdentityChange = false;
+        for (int i = 0; i < targets.size(); i++) {
+            Patient target = requireNonNull(targets.get(i));
+            Patient editedPatient = requireNonNull(editedPatients.get(i));
+            int position = positionOf(target);
+            if (position == -1) {
+                throw new PatientNotFoundException();
+            }
+            replacements.put(position, editedPatient);
+            hasIdentityChange |= !target.isSamePatient(editedPatient);
+        }
+        if (hasIdentityChange && hasDuplicateIdAfter(replacements)) {
+            throw new DuplicatePatientException();
+        }
+        if (replacements.isEmpty()) {
+            // Recording an empty change would make an undo that does nothing
+            return;
+        }
+
+        int replacedCount = replacements.size();
+        Patient[] replacedTargets = new Patient[replacedCount];
+        Patient[] replacedPatients = new Patient[replacedCount];
+        int[] positions = new int[replacedCount];
+        int i = 0;
+        for (Map.Entry<Integer, Patient> replacement : replacements.entrySet()) {
+            positions[i] = replacement.getKey();
+            replacedTargets[i] = internalList.get(positions[i]);
+            replacedPatients[i] = replacement.getValue();
+            i++;
+        }
+
+        if (comparator == null || isInSortedPositions(positions, replacedPatients)) {
+            edits.add(new PatientListChanges.BulkReplacement(replacedTargets, replacedPatients, positions));
+            replaceEach(replacedTargets, replacedPatients, positions, null);
+            return;
+        }
+        Patient[] updated = internalList.toArray(new Patient[0]);
+        for (int j = 0; j < replacedCount; j++) {
+            updated[positions[j]] = replacedPatients[j];
+        }
+        List<Patient> orderBefore = List.copyOf(internalList);
+        List<Patient> orderAfter = sortedCopyOf(Arrays.asList(updated));
+        edits.add(new PatientListChanges.BulkReplacement(replacedTargets, replacedPatients, orderBefore, orderAfter));
+        replaceEach(replacedTargets, replacedPatients, null, orderAfter);
+    }
+
+    /**
+     * Replaces every tag in {@code tagsToMerge} with {@code mergedTag}, for every patient that has any of them.
+     * Renaming a tag is merging it alone into the new tag.
+     * Only the affected patients, found through the tag index, are rebuilt.
+     *
+     * @return the number of patients that were changed.
+     */
+    public int mergeTags(Set<Tag> tagsToMerge, Tag mergedTag) {
+        requireAllNonNull(tagsToMerge, mergedTag);
+        return replaceTags(tagsToMerge, mergedTag);
+    }
+
+    /**
+     * Removes every tag in {@code tagsToRemove} from every patient that has any of them.
+     * Only the affected patients, found through the tag index, are rebuilt.
+     *
+     * @return the number of patients that were changed.
+     */
+    public int removeTags(Set<Tag> tagsToRemove) {
+        requireAllNonNull(tagsToRemove);
+        return replaceTags(tagsToRemove, null);
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients in the list that have {@code tag}.
+     */
+    public Set<Patient> getPatientsWithTag(Tag tag) {
+        return tagIndex.getPatientsWith(tag);
+    }
+
+    /**
+     * Returns the patients in the list whose name, preferred name or tags have a word that is equal to, starts with,
+     * or is a few typos away from any of {@code keywords}, ignoring case. Each patient is mapped to the rank of its
+     * best match, where a lower rank is a closer match: exact matches come first, then prefix matches, then matches
+     * with more and more typos.
+     */
+    public Map<Patient, Integer> findFuzzy(List<String> keywords) {
+        return trigramIndex.search(keywords);
+    }
+
+    /**
+     * Returns the patients in the list whose name or preferred name has a word that sounds like any of
+     * {@code keywords}. Each patient is mapped to the rank of its best match, where a lower rank is a closer match:
+     * exact matches come first, then words pronounced the same way, then words with another common pronunciation
+     * that is the same.
+     */
+    public Map<Patient, Integer> findPhonetic(List<String> keywords) {
+        return phoneticIndex.search(keywords);
+    }
+
+    /**
+     * Returns at most {@code limit} patients in the list with any of the words in {@code keywords} in any of their
+     * text fields, ignoring case, from the most to the least relevant.
+     */
+    public List<Patient> search(List<String> keywords, int limit) {
+        return textIndex.search(keywords, limit);
+    }
+
+    /**
+     * Returns the patients in the list with a hospital ID from {@code first} to {@code last}, both inclusive, in
+     * hospital ID order.
+     */
+    public List<Patient> getPatientsInHospitalIdRange(PatientHospitalId first, PatientHospitalId last) {
+        return hospitalIdIndex.getPatientsInRange(first, last);
+    }
+
+    /**
+     * Returns the changes made to the list since the last time this method was called, and starts recording changes
+     * afresh. Changes made by {@link #revert(PatientListChanges)} and {@link #reapply(PatientListChanges)} are not
+     * recorded.
+     */
+    public PatientListChanges takeChanges() {
+        PatientListChanges changes = new PatientListChanges(edits);
+        edits.clear();
+        return changes;
+    }
+
+    /**
+     * Reverts {@code changes}, which must be the last changes made to the list, or changes re-applied since.
+     */
+    public void revert(PatientListChanges changes) {
+        requireNonNull(changes);
+        assert edits.isEmpty() : "Changes not taken yet would be reverted out of order";
+        changes.revert(this);
+    }
+
+    /**
+     * Applies {@code changes} again, which must have been the last changes reverted.
+     */
+    public void reapply(PatientListChanges changes) {
+        requireNonNull(changes);
+        assert edits.isEmpty() : "Changes not taken yet would be reapplied out of order";
+        changes.reapply(this);
+    }
+
+    /**
+     * Saves {@code filter} as the view {@code name}, replacing any view with that name, and returns the view with the
+     * patients in the list that match {@code filter}. {@code filter} must be able to test a patient on its own.
+     */
+    public SavedView saveView(String name, Predicate<Patient> filter) {
+        requireAllNonNull(name, filter);
+        SavedView view = new SavedView(filter);
+        view.setAll(internalList);
+        savedViews.put(name, view);
+        return view;
+    }
+
+    /**
+     * Returns the view saved as {@code name}, if there is one.
+     */
+    public Optional<SavedView> getSavedView(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(savedViews.get(name));
+    }
+
+    /**
+     * Returns an unmodifiable view of every tag that at least one patient in the list has.
+     */
+    public Set<Tag> getTags() {
+        return tagIndex.getTags();
     }
 
     /**
@@ -75,14 +328,17 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void remove(Patient toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PatientNotFoundException();
         }
+
+        edits.add(new PatientListChanges.Removal(index, removeAt(index)));
     }
 
     public void setPatients(UniquePatientList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(sortedCopyOf(replacement.internalList));
     }
 
     /**
@@ -95,7 +351,32 @@ public class UniquePatientList implements Iterable<Patient> {
             throw new DuplicatePatientException();
         }
 
-        internalList.setAll(patients);
+        replaceAll(sortedCopyOf(patients));
+    }
+
+    /**
+     * Keeps this list sorted by {@code comparator} from now on, re-ordering the existing patients once.
+     * Patients that compare equal keep their current relative order.
+     * A null {@code comparator} keeps the current order and reverts to appending new patients at the end.
+     */
+    public void setComparator(Comparator<Patient> comparator) {
+        Comparator<Patient> comparatorBefore = this.comparator;
+        this.comparator = comparator;
+        if (comparator == null) {
+            edits.add(new PatientListChanges.Reordering(null, comparatorBefore, null, null));
+            return;
+        }
+        List<Patient> orderBefore = List.copyOf(internalList);
+        List<Patient> orderAfter = sortedCopyOf(internalList);
+        edits.add(new PatientListChanges.Reordering(orderBefore, comparatorBefore, orderAfter, comparator));
+        internalList.setAll(orderAfter);
+    }
+
+    /**
+     * Returns the order this list is kept in, or an empty {@code Optional} if it is kept in insertion order.
+     */
+    public Optional<Comparator<Patient>> getComparator() {
+        return Optional.ofNullable(comparator);
     }
 
     /**
@@ -135,6 +416,288 @@ public class UniquePatientList implements Iterable<Patient> {
         return internalList.toString();
     }
 
+    /**
+     * Replaces every tag in {@code tagsToReplace} with {@code replacement}, or removes them if {@code replacement} is
+     * null, for every patient that has any of them.
+     */
+    private int replaceTags(Set<Tag> tagsToReplace, Tag replacement) {
+        Set<Patient> affectedPatients = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Tag tag : tagsToReplace) {
+            affectedPatients.addAll(tagIndex.getPatientsWith(tag));
+        }
+
+        List<Patient> targets = new ArrayList<>();
+        List<Patient> editedPatients = new ArrayList<>();
+        for (Patient patient : affectedPatients) {
+            Set<Tag> tags = new HashSet<>(patient.getTags());
+            tags.removeAll(tagsToReplace);
+            if (replacement != null) {
+                tags.add(replacement);
+            }
+            if (tags.equals(patient.getTags())) {
+                continue;
+            }
+
+            targets.add(patient);
+            editedPatients.add(new Patient(patient.getPatientHospitalId(), patient.getName(),
+                    patient.getPreferredName(), patient.getFoodPreferences(), patient.getFamilyConditions(),
+                    patient.getHobbies(), tags, patient.getEvents()));
+        }
+
+        if (!targets.isEmpty()) {
+            setPatients(targets, editedPatients);
+        }
+        return targets.size();
+    }
+
+    /**
+     * Inserts {@code patient} at {@code position}, without recording the change.
+     */
+    void insertAt(int position, Patient patient) {
+        addToIndexes(patient);
+        if (patientPositions != null && position == internalList.size()) {
+            patientPositions.put(patient, position);
+        } else {
+            patientPositions = null;
+        }
+        internalList.add(position, patient);
+    }
+
+    /**
+     * Removes and returns the patient at {@code position}, without recording the change.
+     */
+    Patient removeAt(int position) {
+        Patient removed = internalList.remove(position);
+        removeFromIndexes(removed);
+        if (patientPositions != null && position == internalList.size()) {
+            patientPositions.remove(removed);
+        } else {
+            patientPositions = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces the patient at {@code position} with {@code patient}, without recording the change.
+     */
+    void replaceAt(int position, Patient patient) {
+        Patient replaced = internalList.get(position);
+        removeFromIndexes(replaced);
+        addToIndexes(patient);
+        updatePosition(replaced, patient, position);
+        internalList.set(position, patient);
+    }
+
+    /**
+     * Replaces each of {@code targets} with the patient at the same position of {@code replacements}, without
+     * recording it. The replacements are put at {@code positions} one by one if {@code order} is null, so listeners
+     * of the list only see the replaced positions change. Otherwise, the list is set to {@code order} at once.
+     */
+    void replaceEach(Patient[] targets, Patient[] replacements, int[] positions, List<Patient> order) {
+        for (int i = 0; i < targets.length; i++) {
+            removeFromIndexes(targets[i]);
+            addToIndexes(replacements[i]);
+        }
+        if (order != null) {
+            patientPositions = null;
+            internalList.setAll(order);
+            return;
+        }
+        for (int i = 0; i < positions.length; i++) {
+            updatePosition(targets[i], replacements[i], positions[i]);
+            internalList.set(positions[i], replacements[i]);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with {@code patients}, which are already in the order of
+     * {@code comparator}, and keeps the list in that order, without recording the change.
+     */
+    void resetTo(List<Patient> patients, Comparator<Patient> comparator) {
+        this.comparator = comparator;
+        setSortedPatients(patients);
+    }
+
+    /**
+     * Re-orders the list to {@code order}, unless it is null, and keeps the list in the order of {@code comparator},
+     * without recording the change. {@code order} must have the same patients as the list.
+     */
+    void reorder(List<Patient> order, Comparator<Patient> comparator) {
+        this.comparator = comparator;
+        if (order != null) {
+            patientPositions = null;
+            internalList.setAll(order);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with {@code sortedPatients}, which are already in the order of the list, and
+     * records the change.
+     */
+    private void replaceAll(List<Patient> sortedPatients) {
+        edits.add(new PatientListChanges.Reset(List.copyOf(internalList), comparator, sortedPatients, comparator));
+        setSortedPatients(sortedPatients);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code sortedPatients}, which are already in the order of the list.
+     * The indexes are rebuilt first, so that listeners of the list, such as a filtered list showing a saved view,
+     * see the new patients in them.
+     */
+    private void setSortedPatients(List<Patient> sortedPatients) {
+        tagIndex.setAll(sortedPatients);
+        trigramIndex.setAll(sortedPatients);
+        phoneticIndex.setAll(sortedPatients);
+        textIndex.setAll(sortedPatients);
+        hospitalIdIndex.setAll(sortedPatients);
+        savedViews.values().forEach(view -> view.setAll(sortedPatients));
+        patientPositions = null;
+        internalList.setAll(sortedPatients);
+    }
+
+    /**
+     * Returns the position of {@code patient} in the list, or -1 if it is not in the list. The position of the very
+     * instance in the list is looked up, and the positions are found once after patients were moved. Otherwise, the
+     * list is searched for an equal patient.
+     */
+    private int positionOf(Patient patient) {
+        if (patientPositions == null) {
+            patientPositions = new IdentityHashMap<>(internalList.size());
+            for (int i = 0; i < internalList.size(); i++) {
+                patientPositions.put(internalList.get(i), i);
+            }
+        }
+        Integer position = patientPositions.get(patient);
+        return position != null ? position : internalList.indexOf(patient);
+    }
+
+    /**
+     * Records that {@code replacement} is at {@code position} instead of {@code replaced}.
+     */
+    private void updatePosition(Patient replaced, Patient replacement, int position) {
+        if (patientPositions != null) {
+            patientPositions.remove(replaced);
+            patientPositions.put(replacement, position);
+        }
+    }
+
+    /**
+     * Returns true if two patients would have the same hospital ID after the patients at the positions of
+     * {@code replacements} are replaced. Only the hospital IDs of the replacements are looked up.
+     */
+    private boolean hasDuplicateIdAfter(Map<Integer, Patient> replacements) {
+        Set<PatientHospitalId> replacementIds = new HashSet<>();
+        for (Patient replacement : replacements.values()) {
+            PatientHospitalId id = replacement.getPatientHospitalId();
+            if (!replacementIds.add(id)) {
+                return true;
+            }
+            for (Patient patient : hospitalIdIndex.getPatientsInRange(id, id)) {
+                if (patient.getPatientHospitalId().equals(id) && !replacements.containsKey(positionOf(patient))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void addToIndexes(Patient patient) {
+        tagIndex.add(patient);
+        trigramIndex.add(patient);
+        phoneticIndex.add(patient);
+        textIndex.add(patient);
+        hospitalIdIndex.add(patient);
+        savedViews.values().forEach(view -> view.add(patient));
+    }
+
+    private void removeFromIndexes(Patient patient) {
+        tagIndex.remove(patient);
+        trigramIndex.remove(patient);
+        phoneticIndex.remove(patient);
+        textIndex.remove(patient);
+        hospitalIdIndex.remove(patient);
+        savedViews.values().forEach(view -> view.remove(patient));
+    }
+
+    /**
+     * Returns a copy of {@code patients} ordered by the current comparator, if any.
+     */
+    private List<Patient> sortedCopyOf(List<Patient> patients) {
+        // Hospital IDs are unique, so the ID index already holds the only order by ID
+        if (comparator == PATIENT_HOSPITAL_ID_COMPARATOR && patients == internalList) {
+            return hospitalIdIndex.getPatientsInOrder();
+        }
+
+        Patient[] copy = patients.toArray(new Patient[0]);
+        if (comparator == null) {
+            return Arrays.asList(copy);
+        }
+
+        // Both sorts are stable, so patients that compare equal keep their relative order
+        if (copy.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(copy, comparator);
+        } else {
+            Arrays.sort(copy, comparator);
+        }
+        return Arrays.asList(copy);
+    }
+
+    /**
+     * Returns the index at which {@code patient} should be inserted to keep the list sorted.
+     * The index is after any patients that compare equal, so ties keep their insertion order.
+     */
+    private int findInsertionIndex(Patient patient) {
+        assert comparator != null;
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(internalList.get(mid), patient) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code patient} can replace the patient at {@code index} without breaking the sort order.
+     */
+    private boolean isInSortedPosition(int index, Patient patient) {
+        assert comparator != null;
+        boolean isAfterPrevious = index == 0 || comparator.compare(internalList.get(index - 1), patient) <= 0;
+        boolean isBeforeNext = index == internalList.size() - 1
+                || comparator.compare(patient, internalList.get(index + 1)) <= 0;
+        return isAfterPrevious && isBeforeNext;
+    }
+
+    /**
+     * Returns true if each of {@code replacements} can be put at the position at the same index of
+     * {@code positions}, which are in ascending order, without breaking the sort order. Neighbours that are replaced
+     * too are compared by their replacements.
+     */
+    private boolean isInSortedPositions(int[] positions, Patient[] replacements) {
+        assert comparator != null;
+        for (int i = 0; i < positions.length; i++) {
+            int position = positions[i];
+            if (position > 0) {
+                Patient previous = i > 0 && positions[i - 1] == position - 1
+                        ? replacements[i - 1]
+                        : internalList.get(position - 1);
+                if (comparator.compare(previous, replacements[i]) > 0) {
+                    return false;
+                }
+            }
+            boolean isNextReplaced = i < positions.length - 1 && positions[i + 1] == position + 1;
+            if (position < internalList.size() - 1 && !isNextReplaced
+                    && comparator.compare(replacements[i], internalList.get(position + 1)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns true if {@code patients} contains only unique patients.
      */
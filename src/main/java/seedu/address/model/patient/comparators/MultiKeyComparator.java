@@ -0,0 +1,70 @@
+package seedu.address.model.patient.comparators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.patient.Patient;
+
+/**
+ * Comparator for Patients in PatientSync that sorts by several attributes in turn,
+ * e.g. by preferred name, then by hospital ID for patients with the same preferred name.
+ */
+public class MultiKeyComparator implements PatientComparator {
+
+    private final PatientComparator[] comparators;
+
+    /**
+     * Creates a comparator that compares by each of {@code comparators} in order, until one of them differs.
+     */
+    public MultiKeyComparator(List<PatientComparator> comparators) {
+        requireNonNull(comparators);
+        assert !comparators.isEmpty() : "At least one sort attribute is required";
+        this.comparators = comparators.toArray(new PatientComparator[0]);
+    }
+
+    @Override
+    public int compare(Patient patientOne, Patient patientTwo) {
+        for (PatientComparator comparator : comparators) {
+            int result = comparator.compare(patientOne, patientTwo);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String getSortAttribute() {
+        return List.of(comparators).stream()
+                .map(PatientComparator::getSortAttribute)
+                .collect(Collectors.joining(", then "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MultiKeyComparator)) {
+            return false;
+        }
+
+        MultiKeyComparator otherComparator = (MultiKeyComparator) other;
+        return List.of(comparators).equals(List.of(otherComparator.comparators));
+    }
+
+    @Override
+    public int hashCode() {
+        return List.of(comparators).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Comparator for Patients by Patients' " + getSortAttribute() + ".";
+    }
+
+}
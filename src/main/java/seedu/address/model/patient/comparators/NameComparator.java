@@ -1,31 +1,24 @@
 package seedu.address.model.patient.comparators;
 
-import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-
-import java.util.Comparator;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.patient.Patient;
 
 // Solution below is adapted from https://www.geeksforgeeks.org/comparator-interface-java/
 /**
  * Comparator for Patient's name in PatientSync.
+ * Names are compared by their cached collation keys, so sorting does not re-collate the names on every comparison.
  */
-public class NameComparator implements Comparator<Patient> {
+public class NameComparator implements PatientComparator {
     public static final NameComparator NAME_COMPARATOR = new NameComparator();
-    private static final Logger logger = LogsCenter.getLogger(NameComparator.class);
 
     @Override
     public int compare(Patient patientOne, Patient patientTwo) {
-        logger.log(Level.INFO, "Attempting to compare patients by name");
-
-        requireAllNonNull(patientOne, patientTwo);
+        return patientOne.getName().getCollationKey()
+                .compareTo(patientTwo.getName().getCollationKey());
+    }
 
-        // Comparing patients via preferred name
-        return patientOne.getName().toString()
-                .compareToIgnoreCase(patientTwo.getName().toString());
+    @Override
+    public String getSortAttribute() {
+        return "name";
     }
 
     @Override
@@ -0,0 +1,17 @@
+package seedu.address.model.patient.comparators;
+
+import java.util.Comparator;
+
+import seedu.address.model.patient.Patient;
+
+/**
+ * Comparator for Patients in PatientSync that knows which attribute it sorts by.
+ * Implementations are used while sorting large patient lists, so {@code compare} should not log or allocate.
+ */
+public interface PatientComparator extends Comparator<Patient> {
+
+    /**
+     * Returns the user-facing description of the attribute(s) this comparator sorts by.
+     */
+    String getSortAttribute();
+}
@@ -0,0 +1,27 @@
+package seedu.address.model.patient.comparators;
+
+import seedu.address.model.patient.Patient;
+
+/**
+ * Comparator for a Patient's hospital ID in PatientSync, in numerical order.
+ */
+public class PatientHospitalIdComparator implements PatientComparator {
+    public static final PatientHospitalIdComparator PATIENT_HOSPITAL_ID_COMPARATOR =
+            new PatientHospitalIdComparator();
+
+    @Override
+    public int compare(Patient patientOne, Patient patientTwo) {
+        return patientOne.getPatientHospitalId().compareTo(patientTwo.getPatientHospitalId());
+    }
+
+    @Override
+    public String getSortAttribute() {
+        return "hospital ID";
+    }
+
+    @Override
+    public String toString() {
+        return "Comparator for Patients by Patients' hospital ID in numerical order.";
+    }
+
+}
@@ -0,0 +1,20 @@
+package seedu.address.model.patient.exceptions;
+
+/**
+ * Signals that the operation is unable to find the specified cohort.
+ */
+public class CohortNotFoundException extends RuntimeException {
+    private final String cohortName;
+
+    /**
+     * Creates an exception for the missing cohort named {@code cohortName}.
+     */
+    public CohortNotFoundException(String cohortName) {
+        super("Cohort not found: " + cohortName);
+        this.cohortName = cohortName;
+    }
+
+    public String getCohortName() {
+        return cohortName;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.model.patient.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Patient;
+
+/**
+ * A set of patients, stored as a bitmap of their ordinals in a {@code PatientBitmapIndex}.
+ * A cohort can be used as the predicate of a filtered patient list, and testing a patient only looks up its ordinal.
+ */
+public class Cohort implements Predicate<Patient> {
+
+    private final PatientBitmapIndex index;
+    private final long indexVersion;
+    private final BitSet members;
+
+    /**
+     * Creates a cohort of the patients in the list of {@code index} whose ordinals are set in {@code members}.
+     * {@code members} must not be modified afterwards.
+     */
+    Cohort(PatientBitmapIndex index, BitSet members) {
+        requireAllNonNull(index, members);
+        this.index = index;
+        this.indexVersion = index.getVersion();
+        this.members = members;
+    }
+
+    /**
+     * Creates a cohort of {@code patients}, which must all be in the list of {@code index}.
+     */
+    public static Cohort of(PatientBitmapIndex index, Collection<Patient> patients) {
+        requireAllNonNull(index, patients);
+        BitSet members = new BitSet(index.size());
+        for (Patient patient : patients) {
+            int ordinal = index.getOrdinal(patient);
+            assert ordinal >= 0 : "Patients of a cohort must be in its index";
+            members.set(ordinal);
+        }
+        return new Cohort(index, members);
+    }
+
+    /**
+     * Creates a cohort of the patients in the list of {@code index} that match {@code predicate}, testing the patients
+     * on all available cores. {@code predicate} must be safe to test from several threads at once.
+     */
+    public static Cohort matching(PatientBitmapIndex index, Predicate<Patient> predicate) {
+        requireAllNonNull(index, predicate);
+        return new Cohort(index, index.matchInParallel(predicate));
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        int ordinal = index.getOrdinal(patient);
+        return ordinal >= 0 && members.get(ordinal);
+    }
+
+    /**
+     * Returns the number of patients in the cohort.
+     */
+    public int size() {
+        return members.cardinality();
+    }
+
+    /**
+     * Returns the patients in the cohort, in the order they were first added to the index.
+     */
+    public List<Patient> getPatients() {
+        List<Patient> patients = new ArrayList<>(size());
+        for (int ordinal = members.nextSetBit(0); ordinal >= 0; ordinal = members.nextSetBit(ordinal + 1)) {
+            patients.add(index.getPatient(ordinal));
+        }
+        return patients;
+    }
+
+    /**
+     * Returns this cohort over the current list of {@code newIndex}. Patients are matched by hospital ID, so
+     * patients that were edited since this cohort was created stay in it, and patients that were deleted are left out.
+     */
+    public Cohort rebase(PatientBitmapIndex newIndex) {
+        if (newIndex == index && indexVersion == index.getVersion()) {
+            return this;
+        }
+
+        BitSet rebasedMembers = new BitSet(newIndex.size());
+        for (int ordinal = members.nextSetBit(0); ordinal >= 0; ordinal = members.nextSetBit(ordinal + 1)) {
+            int newOrdinal = newIndex.getOrdinal(index.getPatient(ordinal).getPatientHospitalId());
+            if (newOrdinal >= 0) {
+                rebasedMembers.set(newOrdinal);
+            }
+        }
+        return new Cohort(newIndex, rebasedMembers);
+    }
+
+    /**
+     * Returns a copy of the bitmap of the members of this cohort, which must be over {@code index}.
+     */
+    BitSet getMembers(PatientBitmapIndex index) {
+        return (BitSet) rebase(index).members.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Cohort)) {
+            return false;
+        }
+
+        Cohort otherCohort = (Cohort) other;
+        return getPatients().equals(otherCohort.getPatients());
+    }
+
+    @Override
+    public int hashCode() {
+        return getPatients().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("size", size()).toString();
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.patient.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Matches the patients in a named cohort. The cohort is looked up when the query is optimized.
+ */
+public class CohortQuery extends PatientQuery {
+
+    private final String cohortName;
+    private final Cohort cohort;
+
+    /**
+     * Creates a query for the patients in the cohort named {@code cohortName}.
+     */
+    public CohortQuery(String cohortName) {
+        this(cohortName, null);
+    }
+
+    private CohortQuery(String cohortName, Cohort cohort) {
+        requireNonNull(cohortName);
+        this.cohortName = cohortName;
+        this.cohort = cohort;
+    }
+
+    /**
+     * Tests {@code patient} against the cohort.
+     * @throws IllegalStateException if the query has not been optimized, so the cohort has not been looked up.
+     */
+    @Override
+    public boolean test(Patient patient) {
+        if (cohort == null) {
+            throw new IllegalStateException("The cohort " + cohortName + " has not been looked up");
+        }
+        return cohort.test(patient);
+    }
+
+    @Override
+    public double estimateSelectivity(QueryContext context) {
+        int patientCount = context.getPatientCount();
+        return patientCount == 0 ? 0 : (double) context.getCohort(cohortName).size() / patientCount;
+    }
+
+    @Override
+    public boolean refersToCohort() {
+        return true;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public BitSet toBitmap(QueryContext context) {
+        return (cohort == null ? context.getCohort(cohortName) : cohort).getMembers(context.getBitmapIndex());
+    }
+
+    /**
+     * Looks up the cohort in {@code context}, so that patients can be tested against it.
+     */
+    @Override
+    public PatientQuery optimize(QueryContext context) {
+        return new CohortQuery(cohortName, context.getCohort(cohortName).rebase(context.getBitmapIndex()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CohortQuery)) {
+            return false;
+        }
+
+        CohortQuery otherCohortQuery = (CohortQuery) other;
+        return cohortName.equals(otherCohortQuery.cohortName);
+    }
+
+    @Override
+    public int hashCode() {
+        return cohortName.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("cohortName", cohortName).toString();
+    }
+}
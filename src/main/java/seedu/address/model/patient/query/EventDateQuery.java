@@ -0,0 +1,85 @@
+package seedu.address.model.patient.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Event;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Matches the patients with an event on a date within a range, both ends inclusive.
+ */
+public class EventDateQuery extends PatientQuery {
+
+    /** Assumed fraction of patients with an event on a given day, as events are not indexed. */
+    static final double DEFAULT_SELECTIVITY_PER_DAY = 0.02;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(Event.DATE_PATTERN);
+
+    private final LocalDate first;
+    private final LocalDate last;
+
+    /**
+     * Creates a query for the patients with an event from {@code first} to {@code last}.
+     * @throws IllegalArgumentException if {@code last} is before {@code first}.
+     */
+    public EventDateQuery(LocalDate first, LocalDate last) {
+        requireAllNonNull(first, last);
+        checkArgument(!last.isBefore(first), "The last date of a range cannot be before its first date");
+        this.first = first;
+        this.last = last;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        for (Event event : patient.getEvents()) {
+            LocalDate date = LocalDate.parse(event.date, DATE_FORMATTER);
+            if (!date.isBefore(first) && !date.isAfter(last)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public double estimateSelectivity(QueryContext context) {
+        long days = last.toEpochDay() - first.toEpochDay() + 1;
+        return Math.min(1, days * DEFAULT_SELECTIVITY_PER_DAY);
+    }
+
+    @Override
+    public double getCost() {
+        // Parses the date of every event of the patient
+        return 8 * UNIT_COST;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventDateQuery)) {
+            return false;
+        }
+
+        EventDateQuery otherQuery = (EventDateQuery) other;
+        return first.equals(otherQuery.first) && last.equals(otherQuery.last);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, last);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("first", first).add("last", last).toString();
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.patient.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Matches the patients with a value of a text field that contains all the given words, ignoring case.
+ * For fields with several values, such as hobbies, all the words must be in the same value.
+ */
+public class FieldContainsWordsQuery extends PatientQuery {
+
+    /** Assumed fraction of patients matching a word. */
+    static final double DEFAULT_SELECTIVITY = 0.1;
+
+    /**
+     * The text fields of a patient that can be queried.
+     */
+    public enum Field {
+        NAME, PREFERRED_NAME, FOOD_PREFERENCE, FAMILY_CONDITION, HOBBY;
+
+        Stream<String> getValues(Patient patient) {
+            switch (this) {
+            case NAME:
+                return Stream.of(patient.getName().fullName);
+            case PREFERRED_NAME:
+                return Stream.of(patient.getPreferredName().preferredName);
+            case FOOD_PREFERENCE:
+                return patient.getFoodPreferences().stream().map(foodPreference -> foodPreference.foodPreference);
+            case FAMILY_CONDITION:
+                return patient.getFamilyConditions().stream().map(familyCondition -> familyCondition.familyCondition);
+            case HOBBY:
+                return patient.getHobbies().stream().map(hobby -> hobby.hobby);
+            default:
+                throw new AssertionError("Unknown field " + this);
+            }
+        }
+    }
+
+    private final Field field;
+    private final List<String> words;
+
+    /**
+     * Creates a query for the patients with a value of {@code field} containing all of {@code words}.
+     */
+    public FieldContainsWordsQuery(Field field, List<String> words) {
+        requireAllNonNull(field, words);
+        this.field = field;
+        this.words = List.copyOf(words);
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        return field.getValues(patient).anyMatch(value ->
+                words.stream().allMatch(word -> StringUtil.containsWordIgnoreCase(value, word)));
+    }
+
+    /**
+     * Returns true if the words of the field are indexed and a single word is matched. Several words could be in
+     * different values of the field, so they cannot be matched with the index alone.
+     */
+    @Override
+    public boolean isIndexed() {
+        return PatientBitmapIndex.isIndexed(field) && words.size() == 1;
+    }
+
+    @Override
+    public BitSet toBitmap(QueryContext context) {
+        return context.getBitmapIndex().getWordBitmap(field, words.get(0));
+    }
+
+    @Override
+    public double estimateSelectivity(QueryContext context) {
+        return Math.pow(DEFAULT_SELECTIVITY, words.size());
+    }
+
+    @Override
+    public double getCost() {
+        // Splits every value into words for each word matched
+        return 4 * UNIT_COST * words.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldContainsWordsQuery)) {
+            return false;
+        }
+
+        FieldContainsWordsQuery otherQuery = (FieldContainsWordsQuery) other;
+        return field == otherQuery.field && words.equals(otherQuery.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, words);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("words", words).toString();
+    }
+}
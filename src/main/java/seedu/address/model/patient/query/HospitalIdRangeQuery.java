@@ -0,0 +1,82 @@
+package seedu.address.model.patient.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientHospitalId;
+
+/**
+ * Matches the patients whose hospital ID is numerically within a range, both ends inclusive.
+ */
+public class HospitalIdRangeQuery extends PatientQuery {
+
+    /** Assumed fraction of patients in a range of IDs, as IDs are not indexed. */
+    static final double DEFAULT_SELECTIVITY = 0.25;
+
+    private final PatientHospitalId first;
+    private final PatientHospitalId last;
+
+    /**
+     * Creates a query for the patients with a hospital ID from {@code first} to {@code last}.
+     * @throws IllegalArgumentException if {@code last} is before {@code first}.
+     */
+    public HospitalIdRangeQuery(PatientHospitalId first, PatientHospitalId last) {
+        requireAllNonNull(first, last);
+        checkArgument(first.compareTo(last) <= 0, "The last ID of a range cannot be before its first ID");
+        this.first = first;
+        this.last = last;
+    }
+
+    public PatientHospitalId getFirst() {
+        return first;
+    }
+
+    public PatientHospitalId getLast() {
+        return last;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        PatientHospitalId id = patient.getPatientHospitalId();
+        return first.compareTo(id) <= 0 && id.compareTo(last) <= 0;
+    }
+
+    @Override
+    public double estimateSelectivity(QueryContext context) {
+        return first.equals(last) ? Math.min(1, 1.0 / Math.max(1, context.getPatientCount())) : DEFAULT_SELECTIVITY;
+    }
+
+    @Override
+    public double getCost() {
+        return 2 * UNIT_COST;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HospitalIdRangeQuery)) {
+            return false;
+        }
+
+        HospitalIdRangeQuery otherQuery = (HospitalIdRangeQuery) other;
+        return first.equals(otherQuery.first) && last.equals(otherQuery.last);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, last);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("first", first).add("last", last).toString();
+    }
+}
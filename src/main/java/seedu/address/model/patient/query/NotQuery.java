@@ -0,0 +1,102 @@
+package seedu.address.model.patient.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Matches the patients that do not match its operand.
+ */
+public class NotQuery extends PatientQuery {
+
+    private final PatientQuery operand;
+
+    /**
+     * Creates a query for the patients that do not match {@code operand}.
+     */
+    public NotQuery(PatientQuery operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        return !operand.test(patient);
+    }
+
+    @Override
+    public double estimateSelectivity(QueryContext context) {
+        return 1 - operand.estimateSelectivity(context);
+    }
+
+    @Override
+    public double getCost() {
+        return operand.getCost();
+    }
+
+    @Override
+    public boolean refersToCohort() {
+        return operand.refersToCohort();
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return operand.isIndexed();
+    }
+
+    @Override
+    public BitSet toBitmap(QueryContext context) {
+        BitSet bitmap = context.getBitmapIndex().getPatientsInList();
+        bitmap.andNot(operand.toBitmap(context));
+        return bitmap;
+    }
+
+    /**
+     * Complements the matches of the operand, which may be partly indexed.
+     */
+    @Override
+    protected BitSet match(QueryContext context) {
+        BitSet matches = context.getBitmapIndex().getPatientsInList();
+        matches.andNot(operand.match(context));
+        return matches;
+    }
+
+    /**
+     * Removes double negations.
+     */
+    @Override
+    public PatientQuery optimize(QueryContext context) {
+        if (operand instanceof NotQuery) {
+            return ((NotQuery) operand).operand.optimize(context);
+        }
+        return new NotQuery(operand.optimize(context));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherNotQuery = (NotQuery) other;
+        return operand.equals(otherNotQuery.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operand", operand).toString();
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.model.patient.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Matches the patients that match at least one of its operands.
+ */
+public class OrQuery extends PatientQuery {
+
+    private final List<PatientQuery> operands;
+
+    /**
+     * Creates a query for the patients that match any of {@code operands}, tested in the given order.
+     */
+    public OrQuery(List<PatientQuery> operands) {
+        requireNonNull(operands);
+        checkArgument(!operands.isEmpty(), "A query needs at least one operand");
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        for (PatientQuery operand : operands) {
+            if (operand.test(patient)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public double estimateSelectivity(QueryContext context) {
+        double nonSelectivity = 1;
+        for (PatientQuery operand : operands) {
+            nonSelectivity *= 1 - operand.estimateSelectivity(context);
+        }
+        return 1 - nonSelectivity;
+    }
+
+    @Override
+    public double getCost() {
+        return operands.stream().mapToDouble(PatientQuery::getCost).sum();
+    }
+
+    @Override
+    public boolean refersToCohort() {
+        return operands.stream().anyMatch(PatientQuery::refersToCohort);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return operands.stream().allMatch(PatientQuery::isIndexed);
+    }
+
+    @Override
+    public BitSet toBitmap(QueryContext context) {
+        BitSet bitmap = operands.get(0).toBitmap(context);
+        for (int i = 1; i < operands.size(); i++) {
+            bitmap.or(operands.get(i).toBitmap(context));
+        }
+        return bitmap;
+    }
+
+    /**
+     * Unites the bitmaps of the indexed operands, and only tests the patients outside the union against the other
+     * operands.
+     */
+    @Override
+    protected BitSet match(QueryContext context) {
+        List<PatientQuery> indexedOperands = new ArrayList<>();
+        List<PatientQuery> otherOperands = new ArrayList<>();
+        for (PatientQuery operand : operands) {
+            (operand.isIndexed() ? indexedOperands : otherOperands).add(operand);
+        }
+        if (indexedOperands.isEmpty() || otherOperands.isEmpty()) {
+            return super.match(context);
+        }
+
+        BitSet matches = new OrQuery(indexedOperands).toBitmap(context);
+        BitSet candidates = context.getBitmapIndex().getPatientsInList();
+        candidates.andNot(matches);
+        PatientQuery residual = otherOperands.size() == 1 ? otherOperands.get(0) : new OrQuery(otherOperands);
+        matches.or(residual.filter(candidates, context.getBitmapIndex()));
+        return matches;
+    }
+
+    /**
+     * Flattens nested {@code OR} queries and orders the operands so that the cheapest operands that accept the most
+     * patients are tested first.
+     */
+    @Override
+    public PatientQuery optimize(QueryContext context) {
+        List<PatientQuery> optimizedOperands = new ArrayList<>();
+        for (PatientQuery operand : operands) {
+            PatientQuery optimizedOperand = operand.optimize(context);
+            if (optimizedOperand instanceof OrQuery) {
+                optimizedOperands.addAll(((OrQuery) optimizedOperand).operands);
+            } else {
+                optimizedOperands.add(optimizedOperand);
+            }
+        }
+        if (optimizedOperands.size() == 1) {
+            return optimizedOperands.get(0);
+        }
+
+        // Cost per patient accepted: an operand that is cheap and often matches should be tested first
+        optimizedOperands.sort(Comparator.comparingDouble(operand ->
+                operand.getCost() / Math.max(Double.MIN_VALUE, operand.estimateSelectivity(context))));
+        return new OrQuery(optimizedOperands);
+    }
+
+    public List<PatientQuery> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        OrQuery otherOrQuery = (OrQuery) other;
+        return operands.equals(otherOrQuery.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
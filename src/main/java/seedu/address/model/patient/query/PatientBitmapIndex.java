@@ -0,0 +1,241 @@
+package seedu.address.model.patient.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientHospitalId;
+import seedu.address.model.patient.query.FieldContainsWordsQuery.Field;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of a patient list in which every patient has a dense ordinal, with a bitmap of ordinals for every tag and
+ * for every word of the food preferences and hobbies of the patients.
+ *
+ * Sets of patients in the same index are bitmaps too, so combining them with {@code AND}, {@code OR} and {@code NOT}
+ * only takes one bitwise operation per 64 patients. The index follows changes to the list through {@link #add} and
+ * {@link #remove}. A patient keeps its ordinal after it is removed, as patients are immutable and sets of patients
+ * made before may still refer to it, and gets it back if it is added again. Only the bitmap of the patients in the
+ * list changes when a patient is removed, so a change only indexes the patients it adds for the first time.
+ */
+public class PatientBitmapIndex {
+
+    /** Fields whose words are indexed. */
+    static final List<Field> INDEXED_FIELDS = List.of(Field.FOOD_PREFERENCE, Field.HOBBY);
+
+    /**
+     * Number of patients tested by each task when testing patients in parallel. It is a multiple of 64, the number
+     * of bits in a word of a {@code BitSet}, so that no two tasks set bits in the same word.
+     */
+    static final int PARALLEL_CHUNK_SIZE = 1 << 10;
+
+    /** Number of removed patients that an index keeps in any case before it should be rebuilt. */
+    static final int MIN_REMOVED_KEPT = 1 << 10;
+
+    private Patient[] patients;
+    private int ordinalCount;
+    private final BitSet patientsInList = new BitSet();
+    private int patientCount;
+    private long version;
+    private final Map<Patient, Integer> ordinals = new IdentityHashMap<>();
+    private final Map<PatientHospitalId, Integer> ordinalsById = new HashMap<>();
+    private final Map<Tag, BitSet> tagBitmaps = new HashMap<>();
+    private final Map<Field, Map<String, BitSet>> wordBitmaps = new EnumMap<>(Field.class);
+
+    /**
+     * Indexes {@code patients}, in their current order.
+     */
+    public PatientBitmapIndex(List<Patient> patients) {
+        requireNonNull(patients);
+        this.patients = new Patient[patients.size()];
+        for (Field field : INDEXED_FIELDS) {
+            wordBitmaps.put(field, new HashMap<>());
+        }
+        patients.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code patient}, which must not have the hospital ID of a patient in the list, to the patients in the
+     * list. A patient that was in the index before gets its ordinal back.
+     */
+    public void add(Patient patient) {
+        requireNonNull(patient);
+        Integer knownOrdinal = ordinals.get(patient);
+        int ordinal = knownOrdinal == null ? index(patient) : knownOrdinal;
+        assert !patientsInList.get(ordinal) : "A patient cannot be added twice";
+        patientsInList.set(ordinal);
+        ordinalsById.put(patient.getPatientHospitalId(), ordinal);
+        patientCount++;
+        version++;
+    }
+
+    /**
+     * Removes {@code patient} from the patients in the list. Its ordinal stays reserved for it.
+     */
+    public void remove(Patient patient) {
+        requireNonNull(patient);
+        Integer ordinal = ordinals.get(patient);
+        assert ordinal != null && patientsInList.get(ordinal) : "Only patients in the list can be removed";
+        patientsInList.clear(ordinal);
+        ordinalsById.remove(patient.getPatientHospitalId(), ordinal);
+        patientCount--;
+        version++;
+    }
+
+    /**
+     * Gives {@code patient} the next ordinal and sets it in the bitmaps of its tags and words.
+     */
+    private int index(Patient patient) {
+        if (ordinalCount == patients.length) {
+            patients = Arrays.copyOf(patients, Math.max(1, 2 * ordinalCount));
+        }
+        int ordinal = ordinalCount++;
+        patients[ordinal] = patient;
+        ordinals.put(patient, ordinal);
+        for (Tag tag : patient.getTags()) {
+            tagBitmaps.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+        }
+        for (Field field : INDEXED_FIELDS) {
+            Map<String, BitSet> bitmapsOfField = wordBitmaps.get(field);
+            field.getValues(patient)
+                    .flatMap(value -> Stream.of(value.split("\\s+")))
+                    .forEach(word -> bitmapsOfField.computeIfAbsent(toKey(word), unused -> new BitSet()).set(ordinal));
+        }
+        return ordinal;
+    }
+
+    /**
+     * Returns true if the index keeps more removed patients than patients in the list, so that rebuilding it would
+     * free more than it costs.
+     */
+    public boolean shouldRebuild() {
+        return ordinalCount - patientCount > Math.max(patientCount, MIN_REMOVED_KEPT);
+    }
+
+    /**
+     * Returns the number of ordinals given out, including those of removed patients. Ordinals range from 0 to this
+     * number, exclusive.
+     */
+    public int size() {
+        return ordinalCount;
+    }
+
+    /**
+     * Returns the number of patients in the list.
+     */
+    public int getPatientCount() {
+        return patientCount;
+    }
+
+    /**
+     * Returns a number that changes whenever a patient is added or removed.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the patient with {@code ordinal}, which may have been removed since.
+     */
+    public Patient getPatient(int ordinal) {
+        return patients[ordinal];
+    }
+
+    /**
+     * Returns the ordinal of {@code patient}, or -1 if this exact patient has never been in the index.
+     */
+    public int getOrdinal(Patient patient) {
+        Integer ordinal = ordinals.get(patient);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns the ordinal of the patient in the list with {@code id}, or -1 if there is no such patient.
+     */
+    public int getOrdinal(PatientHospitalId id) {
+        Integer ordinal = ordinalsById.get(id);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns a new bitmap of the patients in the list.
+     */
+    public BitSet getPatientsInList() {
+        return (BitSet) patientsInList.clone();
+    }
+
+    /**
+     * Returns the bitmap of the patients in the list that match {@code predicate}, testing chunks of patients in
+     * parallel on the common fork/join pool. {@code predicate} must be safe to test from several threads at once.
+     */
+    BitSet matchInParallel(Predicate<Patient> predicate) {
+        requireNonNull(predicate);
+        int chunkCount = (ordinalCount + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        return IntStream.range(0, chunkCount)
+                .parallel()
+                .mapToObj(chunk -> matchChunk(predicate, chunk))
+                .collect(() -> new BitSet(ordinalCount), BitSet::or, BitSet::or);
+    }
+
+    private BitSet matchChunk(Predicate<Patient> predicate, int chunk) {
+        int start = chunk * PARALLEL_CHUNK_SIZE;
+        int end = Math.min(ordinalCount, start + PARALLEL_CHUNK_SIZE);
+        BitSet matches = new BitSet(end);
+        for (int ordinal = patientsInList.nextSetBit(start); ordinal >= 0 && ordinal < end;
+                ordinal = patientsInList.nextSetBit(ordinal + 1)) {
+            if (predicate.test(patients[ordinal])) {
+                matches.set(ordinal);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a new bitmap of the patients in the list that have {@code tag}.
+     */
+    BitSet getTagBitmap(Tag tag) {
+        return inList(tagBitmaps.get(tag));
+    }
+
+    /**
+     * Returns true if the words of {@code field} are indexed.
+     */
+    static boolean isIndexed(Field field) {
+        return INDEXED_FIELDS.contains(field);
+    }
+
+    /**
+     * Returns a new bitmap of the patients in the list with a value of {@code field} containing {@code word},
+     * ignoring case.
+     */
+    BitSet getWordBitmap(Field field, String word) {
+        assert isIndexed(field);
+        return inList(wordBitmaps.get(field).get(toKey(word)));
+    }
+
+    /**
+     * Returns a new bitmap of the patients in {@code bitmap}, which may be null, that are in the list.
+     */
+    private BitSet inList(BitSet bitmap) {
+        if (bitmap == null) {
+            return new BitSet();
+        }
+        BitSet patientsInBitmap = (BitSet) bitmap.clone();
+        patientsInBitmap.and(patientsInList);
+        return patientsInBitmap;
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase();
+    }
+}
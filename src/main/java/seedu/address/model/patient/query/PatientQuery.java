@@ -0,0 +1,100 @@
+package seedu.address.model.patient.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.patient.Patient;
+
+/**
+ * A node of a compiled patient query, which tests a patient against a condition or combines other queries.
+ *
+ * Besides testing a patient, every query estimates how many patients it matches and how expensive it is to test, so
+ * that {@link #optimize(QueryContext)} can order the operands of {@code AND} and {@code OR} queries to stop as early
+ * as possible. Queries that can be answered from the bitmap index are evaluated with bitwise operations, and
+ * {@link #evaluate(QueryContext)} only tests patients one by one for the parts of a query that are not indexed.
+ */
+public abstract class PatientQuery implements Predicate<Patient> {
+
+    /** Cost of testing a patient against the cheapest queries, such as checking whether a patient has a tag. */
+    protected static final double UNIT_COST = 1;
+
+    /**
+     * Returns the estimated fraction of the patients in {@code context} that match this query, from 0 to 1.
+     */
+    public abstract double estimateSelectivity(QueryContext context);
+
+    /**
+     * Returns the estimated cost of testing one patient against this query, relative to {@link #UNIT_COST}.
+     */
+    public double getCost() {
+        return UNIT_COST;
+    }
+
+    /**
+     * Returns true if this query, or any query it combines, matches the patients in a cohort. Such a query can only
+     * test patients after it has been optimized with a context that has the cohort.
+     */
+    public boolean refersToCohort() {
+        return false;
+    }
+
+    /**
+     * Returns true if the matches of this query can be found with {@link #toBitmap(QueryContext)}.
+     */
+    public boolean isIndexed() {
+        return false;
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals of exactly the patients that match this query, computed from the bitmap
+     * index of {@code context} without testing patients one by one. Only supported if {@link #isIndexed()}.
+     */
+    public BitSet toBitmap(QueryContext context) {
+        throw new UnsupportedOperationException(this + " is not indexed");
+    }
+
+    /**
+     * Returns an equivalent query whose operands are ordered so that testing a patient stops as early as possible.
+     * Any cohort the query refers to is looked up in {@code context}.
+     */
+    public PatientQuery optimize(QueryContext context) {
+        return this;
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals of the patients in {@code context} that match this query, using the bitmap
+     * index for as much of the query as possible.
+     */
+    protected BitSet match(QueryContext context) {
+        if (isIndexed()) {
+            return toBitmap(context);
+        }
+
+        PatientBitmapIndex index = context.getBitmapIndex();
+        return filter(index.getPatientsInList(), index);
+    }
+
+    /**
+     * Clears the ordinals in {@code candidates} of the patients that do not match this query, by testing them one by
+     * one, and returns {@code candidates}.
+     */
+    protected BitSet filter(BitSet candidates, PatientBitmapIndex index) {
+        for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+            if (!test(index.getPatient(ordinal))) {
+                candidates.clear(ordinal);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the cohort of patients in {@code context} that match this query.
+     * The query is optimized first, then evaluated with the bitmap index where possible.
+     */
+    public final Cohort evaluate(QueryContext context) {
+        requireNonNull(context);
+        return new Cohort(context.getBitmapIndex(), optimize(context).match(context));
+    }
+}
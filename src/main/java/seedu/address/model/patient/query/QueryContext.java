@@ -0,0 +1,57 @@
+package seedu.address.model.patient.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.exceptions.CohortNotFoundException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The patients a {@code PatientQuery} is evaluated against, together with the indexes available over them and the
+ * named cohorts that queries can refer to.
+ */
+public class QueryContext {
+
+    private final PatientBitmapIndex bitmapIndex;
+    private final Function<Tag, Set<Patient>> tagIndex;
+    private final Function<String, Optional<Cohort>> cohorts;
+
+    /**
+     * Creates a context over the patients in {@code bitmapIndex}, where {@code tagIndex} returns the patients among
+     * them that have a tag and {@code cohorts} returns the cohort with a name.
+     */
+    public QueryContext(PatientBitmapIndex bitmapIndex, Function<Tag, Set<Patient>> tagIndex,
+                        Function<String, Optional<Cohort>> cohorts) {
+        requireAllNonNull(bitmapIndex, tagIndex, cohorts);
+        this.bitmapIndex = bitmapIndex;
+        this.tagIndex = tagIndex;
+        this.cohorts = cohorts;
+    }
+
+    public PatientBitmapIndex getBitmapIndex() {
+        return bitmapIndex;
+    }
+
+    public int getPatientCount() {
+        return bitmapIndex.getPatientCount();
+    }
+
+    /**
+     * Returns the patients that have {@code tag}, looked up in the tag index.
+     */
+    public Set<Patient> getPatientsWithTag(Tag tag) {
+        return tagIndex.apply(tag);
+    }
+
+    /**
+     * Returns the cohort named {@code name}.
+     * @throws CohortNotFoundException if there is no such cohort.
+     */
+    public Cohort getCohort(String name) {
+        return cohorts.apply(name).orElseThrow(() -> new CohortNotFoundException(name));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.patient.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Matches the patients that have a tag. Answered from the bitmap index.
+ */
+public class TagQuery extends PatientQuery {
+
+    private final Tag tag;
+
+    /**
+     * Creates a query for the patients that have {@code tag}.
+     */
+    public TagQuery(Tag tag) {
+        requireNonNull(tag);
+        this.tag = tag;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        return patient.getTags().contains(tag);
+    }
+
+    @Override
+    public double estimateSelectivity(QueryContext context) {
+        int patientCount = context.getPatientCount();
+        return patientCount == 0 ? 0 : (double) context.getPatientsWithTag(tag).size() / patientCount;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public BitSet toBitmap(QueryContext context) {
+        return context.getBitmapIndex().getTagBitmap(tag);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagQuery)) {
+            return false;
+        }
+
+        TagQuery otherTagQuery = (TagQuery) other;
+        return tag.equals(otherTagQuery.tag);
+    }
+
+    @Override
+    public int hashCode() {
+        return tag.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tag", tag).toString();
+    }
+}
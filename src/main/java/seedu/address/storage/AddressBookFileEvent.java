@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for reading or writing an address book file.
+ * While no recording is enabled, beginning and committing it does nothing.
+ */
+@Name("seedu.address.AddressBookFile")
+@Label("Address Book File")
+@Category({"PatientSync", "Storage"})
+@Description("Reading or writing an address book file")
+class AddressBookFileEvent extends Event {
+
+    static final String READ = "read";
+    static final String WRITE = "write";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Path")
+    String path;
+
+    @Label("Size")
+    @DataAmount(DataAmount.BYTES)
+    long size;
+
+    @Label("Patients")
+    int patientCount;
+
+    AddressBookFileEvent(String operation) {
+        this.operation = operation;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -45,6 +46,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
+        AddressBookFileEvent event = new AddressBookFileEvent(AddressBookFileEvent.READ);
+        event.begin();
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
         if (!jsonAddressBook.isPresent()) {
@@ -52,7 +55,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            ReadOnlyAddressBook addressBook = jsonAddressBook.get().toModelType();
+            commit(event, filePath, addressBook);
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +78,29 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        AddressBookFileEvent event = new AddressBookFileEvent(AddressBookFileEvent.WRITE);
+        event.begin();
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        commit(event, filePath, addressBook);
+    }
+
+    /**
+     * Commits {@code event} with the path and size of the file at {@code filePath} and the number of patients in
+     * {@code addressBook}, if it is recorded. The file is only looked up then.
+     */
+    private static void commit(AddressBookFileEvent event, Path filePath, ReadOnlyAddressBook addressBook) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = filePath.toString();
+            try {
+                event.size = Files.size(filePath);
+            } catch (IOException e) {
+                event.size = -1;
+            }
+            event.patientCount = addressBook.getPatientList().size();
+            event.commit();
+        }
     }
 
 }
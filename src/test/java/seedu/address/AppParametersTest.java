@@ -39,10 +39,50 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_headlessMode_success() {
+        parametersStub.namedParameters.put("mode", "headless");
+        parametersStub.namedParameters.put("output", "json");
+        expected.setHeadless(true);
+        expected.setJsonOutput(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_unknownMode_guiMode() {
+        parametersStub.namedParameters.put("mode", "server");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validPort_success() {
+        parametersStub.namedParameters.put("port", "8080");
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidPort_noApi() {
+        parametersStub.namedParameters.put("port", "65536");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        parametersStub.namedParameters.put("port", "http");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_sameAsNamedParameters() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--mode=headless",
+            "headless", "--=json"}));
+        assertEquals(new AppParameters(), AppParameters.parse(new String[0]));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", isHeadless=false, isJsonOutput=false, apiPort=null}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +106,21 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different mode -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setHeadless(true);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different output -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setJsonOutput(true);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different API port -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setApiPort(8080);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
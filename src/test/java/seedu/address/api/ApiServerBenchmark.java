@@ -0,0 +1,130 @@
+package seedu.address.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import seedu.address.commons.util.ExecutorUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Measures how many reads the API answers per second while many readers and writers send requests at once, with
+ * the executor the server uses for its requests, and with a single request thread and the bounded pool the executor
+ * falls back to without virtual threads for comparison.
+ * Each batch of commands is saved to a data file of {@value #PATIENT_COUNT} patients, so requests waiting for their
+ * commands block the threads answering them while the file is written. There are more writers than the bounded pool
+ * has threads on a small machine.
+ * Run with {@code java -cp <test and main classes> seedu.address.api.ApiServerBenchmark} on each JDK to compare; it
+ * is not run with the tests.
+ */
+public class ApiServerBenchmark {
+
+    private static final int PATIENT_COUNT = 2000;
+    private static final int READER_COUNT = 64;
+    private static final int READS_PER_READER = 20;
+    private static final int WRITER_COUNT = 32;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("Virtual threads: " + ExecutorUtil.hasVirtualThreads()
+                + ", processors: " + Runtime.getRuntime().availableProcessors());
+        double singleThreadRate = measureReadsPerSecond(Executors.newSingleThreadExecutor());
+        System.out.printf("Single request thread: %.0f reads/s%n", singleThreadRate);
+        double boundedPoolRate = measureReadsPerSecond(Executors.newFixedThreadPool(
+                ExecutorUtil.BLOCKING_THREADS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors()));
+        System.out.printf("Bounded pool: %.0f reads/s (%.1fx)%n", boundedPoolRate,
+                boundedPoolRate / singleThreadRate);
+        double blockingTaskRate = measureReadsPerSecond(ExecutorUtil.newBlockingTaskExecutor());
+        System.out.printf("Blocking task executor: %.0f reads/s (%.1fx)%n", blockingTaskRate,
+                blockingTaskRate / singleThreadRate);
+    }
+
+    private static double measureReadsPerSecond(ExecutorService requestPool) throws Exception {
+        Path folder = Files.createTempDirectory("apiServerBenchmark");
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < PATIENT_COUNT; i++) {
+            addressBook.addPatient(new PatientBuilder().withPatientHospitalId(String.valueOf(10000 + i))
+                    .withName("Patient " + i).withTags(i % 10 == 0 ? "diabetes" : "stable").build());
+        }
+        LogicManager logic = new LogicManager(new ModelManager(addressBook, new UserPrefs()), new StorageManager(
+                new JsonAddressBookStorage(folder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(folder.resolve("userPrefs.json"))));
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        ApiServer apiServer = new ApiServer(logic, writer, 0, requestPool);
+        apiServer.start();
+
+        AtomicBoolean isDone = new AtomicBoolean();
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            writers.add(start(() -> {
+                while (!isDone.get()) {
+                    request(apiServer, "POST", "/commands", "{\"commands\": [\"list\"]}");
+                }
+            }));
+        }
+
+        long startTime = System.nanoTime();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            readers.add(start(() -> {
+                for (int j = 0; j < READS_PER_READER; j++) {
+                    request(apiServer, "GET", "/patients?query=t%2Fdiabetes&limit=50", null);
+                }
+            }));
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        isDone.set(true);
+        for (Thread writerClient : writers) {
+            writerClient.join();
+        }
+        apiServer.stop();
+        writer.shutdown();
+        return READER_COUNT * READS_PER_READER / seconds;
+    }
+
+    private static Thread start(Runnable client) {
+        Thread thread = new Thread(client);
+        thread.start();
+        return thread;
+    }
+
+    private static void request(ApiServer apiServer, String method, String path, String requestBody) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + apiServer.getPort()
+                    + path).openConnection();
+            connection.setRequestMethod(method);
+            if (requestBody != null) {
+                connection.setRequestProperty("Content-Type", ApiServer.JSON_CONTENT_TYPE);
+                connection.setDoOutput(true);
+                try (OutputStream output = connection.getOutputStream()) {
+                    output.write(requestBody.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            try (InputStream input = connection.getInputStream()) {
+                input.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
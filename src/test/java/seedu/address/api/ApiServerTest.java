@@ -0,0 +1,230 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.BeginCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final int PATIENT_COUNT = getTypicalAddressBook().getPatientList().size();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LogicManager logic;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()),
+                new StorageManager(addressBookStorage, userPrefsStorage));
+        apiServer = new ApiServer(logic, Runnable::run, 0);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+    }
+
+    @Test
+    public void getPatients_page_returnsPageAndTotal() throws Exception {
+        JsonNode body = request("GET", "/patients?offset=1&limit=2", null, 200);
+        assertEquals(PATIENT_COUNT, body.get("total").asInt());
+        assertEquals(2, body.get("patients").size());
+        assertEquals("12235", body.get("patients").get(0).get("patientHospitalId").asText());
+
+        body = request("GET", "/patients", null, 200);
+        assertEquals(PATIENT_COUNT, body.get("patients").size());
+    }
+
+    @Test
+    public void getPatients_query_returnsMatchingPatients() throws Exception {
+        JsonNode body = request("GET", "/patients?query=t%2Fdiabetes", null, 200);
+        assertEquals(1, body.get("total").asInt());
+        assertEquals("Benson Meier", body.get("patients").get(0).get("name").asText());
+    }
+
+    @Test
+    public void getPatients_invalidLimit_badRequest() throws Exception {
+        JsonNode body = request("GET", "/patients?limit=-1", null, 400);
+        assertEquals(String.format(ApiServer.MESSAGE_INVALID_NUMBER, "limit", 0, ApiServer.MAX_PAGE_SIZE),
+                body.get("error").asText());
+    }
+
+    @Test
+    public void getEvents_dateRange_returnsEventsInOrder() throws Exception {
+        JsonNode body = request("GET", "/events?from=19-02-9999&to=20-02-9999", null, 200);
+        JsonNode events = body.get("events");
+        assertEquals(2, events.size());
+        assertEquals("12235", events.get(0).get("patientHospitalId").asText());
+        assertTrue(events.get(0).get("startTime").isNull());
+        assertEquals("12:12", events.get(1).get("startTime").asText());
+
+        body = request("GET", "/events?from=21-02-9999&to=21-02-9999", null, 200);
+        assertEquals(0, body.get("events").size());
+        request("GET", "/events?from=21-02-9999&to=20-02-9999", null, 400);
+        request("GET", "/events?from=9999-02-21", null, 400);
+    }
+
+    @Test
+    public void postCommands_severalCommands_resultsInOrderAndVisibleToReads() throws Exception {
+        JsonNode body = request("POST", "/commands", commands("delete 1", " ", "list", "delete 99"), 200);
+        JsonNode results = body.get("results");
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).get("success").asBoolean());
+        assertEquals("list", results.get(1).get("command").asText());
+        assertFalse(results.get(2).get("success").asBoolean());
+        assertEquals(MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX, results.get(2).get("error").asText());
+
+        assertEquals(PATIENT_COUNT - 1, request("GET", "/patients", null, 200).get("total").asInt());
+        request("POST", "/commands", commands(" "), 400);
+        request("POST", "/commands", "{\"commands\": \"list\"}", 400);
+        request("POST", "/commands", "list", 400);
+    }
+
+    @Test
+    public void postCommands_transactionOrUndoCommands_rejected() throws Exception {
+        JsonNode results = request("POST", "/commands",
+                commands("begin", "delete 1", "undo", "rollback", "run script.txt"), 200)
+                .get("results");
+        assertEquals(String.format(LogicManager.MESSAGE_NOT_ALLOWED_IN_BATCH, BeginCommand.COMMAND_WORD),
+                results.get(0).get("error").asText());
+        assertTrue(results.get(1).get("success").asBoolean());
+        assertEquals(String.format(LogicManager.MESSAGE_NOT_ALLOWED_IN_BATCH, UndoCommand.COMMAND_WORD),
+                results.get(2).get("error").asText());
+        assertEquals(String.format(LogicManager.MESSAGE_NOT_ALLOWED_IN_BATCH, RollbackCommand.COMMAND_WORD),
+                results.get(3).get("error").asText());
+        assertEquals(String.format(LogicManager.MESSAGE_NOT_ALLOWED_IN_BATCH, RunCommand.COMMAND_WORD),
+                results.get(4).get("error").asText());
+
+        // the deletion stays, as neither undo nor rollback ran
+        assertEquals(PATIENT_COUNT - 1, request("GET", "/patients", null, 200).get("total").asInt());
+    }
+
+    @Test
+    public void postCommands_inTransaction_refused() throws Exception {
+        logic.execute(BeginCommand.COMMAND_WORD);
+        JsonNode results = request("POST", "/commands", commands("delete 1", "list"), 200).get("results");
+        assertEquals(2, results.size());
+        for (JsonNode result : results) {
+            assertFalse(result.get("success").asBoolean());
+            assertEquals(LogicManager.MESSAGE_BATCH_IN_TRANSACTION, result.get("error").asText());
+        }
+
+        // nothing ran, so rolling back the user's transaction has nothing of the batch to discard
+        logic.execute(RollbackCommand.COMMAND_WORD);
+        assertEquals(PATIENT_COUNT, request("GET", "/patients", null, 200).get("total").asInt());
+        request("POST", "/commands", commands("delete 1"), 200);
+        assertEquals(PATIENT_COUNT - 1, request("GET", "/patients", null, 200).get("total").asInt());
+    }
+
+    @Test
+    public void request_unknownPathOrMethod_rejected() throws Exception {
+        request("GET", "/nurses", null, 404);
+        request("GET", "/commands", null, 405);
+        request("POST", "/patients", commands("list"), 405);
+    }
+
+    @Test
+    public void postCommands_notJson_unsupportedMediaType() throws Exception {
+        String body = "commands=delete+1";
+        assertEquals(415, rawRequest("POST /commands HTTP/1.1", "Host: 127.0.0.1",
+                "Content-Type: application/x-www-form-urlencoded", "Content-Length: " + body.length(), "", body));
+        assertEquals(415, rawRequest("POST /commands HTTP/1.1", "Host: 127.0.0.1", "Content-Type: text/plain",
+                "Content-Length: " + body.length(), "", body));
+        assertEquals(PATIENT_COUNT, request("GET", "/patients", null, 200).get("total").asInt());
+    }
+
+    @Test
+    public void request_fromWebPage_forbidden() throws Exception {
+        String body = commands("delete 1");
+        assertEquals(403, rawRequest("POST /commands HTTP/1.1", "Host: 127.0.0.1",
+                "Origin: http://example.com", "Content-Type: application/json", "Content-Length: " + body.length(),
+                "", body));
+        assertEquals(403, rawRequest("GET /patients HTTP/1.1", "Host: attacker.example.com", "", ""));
+        assertEquals(403, rawRequest("GET /patients HTTP/1.0", "", ""));
+        assertEquals(PATIENT_COUNT, request("GET", "/patients", null, 200).get("total").asInt());
+
+        assertEquals(200, rawRequest("GET /patients HTTP/1.1", "Host: localhost:8080", "", ""));
+        assertEquals(200, rawRequest("GET /patients HTTP/1.1", "Host: [::1]", "", ""));
+    }
+
+    private String commands(String... commandTexts) throws IOException {
+        return objectMapper.writeValueAsString(Map.of("commands", List.of(commandTexts)));
+    }
+
+    /**
+     * Sends the request made of {@code lines} as written, including headers that {@code HttpURLConnection} sets by
+     * itself, and returns the status code of the response.
+     */
+    private int rawRequest(String... lines) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), apiServer.getPort())) {
+            OutputStream output = socket.getOutputStream();
+            output.write(String.join("\r\n", lines).getBytes(StandardCharsets.UTF_8));
+            output.flush();
+            String statusLine = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.UTF_8)).readLine();
+            return Integer.parseInt(statusLine.split(" ")[1]);
+        }
+    }
+
+    private JsonNode request(String method, String path, String requestBody, int expectedStatus) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + apiServer.getPort() + path)
+                .openConnection();
+        connection.setRequestMethod(method);
+        if (requestBody != null) {
+            connection.setRequestProperty("Content-Type", ApiServer.JSON_CONTENT_TYPE);
+            connection.setDoOutput(true);
+            try (OutputStream output = connection.getOutputStream()) {
+                output.write(requestBody.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        assertEquals(expectedStatus, connection.getResponseCode());
+        try (InputStream input = expectedStatus < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            return objectMapper.readTree(input);
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
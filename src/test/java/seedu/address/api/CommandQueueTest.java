@@ -0,0 +1,90 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.CommandOutcome;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandQueueTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final List<Runnable> writerTasks = new ArrayList<>();
+    private int saveCount;
+
+    @Test
+    public void submit_whileWriterBusy_executedAndSavedTogether() throws Exception {
+        CommandQueue commandQueue = new CommandQueue(createLogic(false), writerTasks::add);
+        CompletableFuture<List<CommandOutcome>> first = commandQueue.submit(List.of("delete 1", "delete 99"));
+        CompletableFuture<List<CommandOutcome>> second = commandQueue.submit(List.of(ListCommand.COMMAND_WORD));
+        assertEquals(1, writerTasks.size());
+        assertFalse(first.isDone());
+
+        writerTasks.remove(0).run();
+        assertEquals(1, saveCount);
+        assertEquals(getTypicalAddressBook().getPatientList().size() - 1, model.getAddressBook().getPatientList().size());
+
+        List<CommandOutcome> firstOutcomes = first.get();
+        assertEquals(2, firstOutcomes.size());
+        assertTrue(firstOutcomes.get(0).isSuccess());
+        assertEquals(MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX, firstOutcomes.get(1).getError());
+        assertEquals(List.of(ListCommand.COMMAND_WORD),
+                List.of(second.get().get(0).getCommandText()));
+
+        // The next command schedules a batch of its own
+        commandQueue.submit(List.of(ListCommand.COMMAND_WORD));
+        assertEquals(1, writerTasks.size());
+    }
+
+    @Test
+    public void submit_saveFails_allRequestsFail() {
+        CommandQueue commandQueue = new CommandQueue(createLogic(true), writerTasks::add);
+        CompletableFuture<List<CommandOutcome>> first = commandQueue.submit(List.of("delete 1"));
+        CompletableFuture<List<CommandOutcome>> second = commandQueue.submit(List.of(ListCommand.COMMAND_WORD));
+
+        writerTasks.remove(0).run();
+        assertThrows(ExecutionException.class, () -> first.get());
+        assertThrows(ExecutionException.class, () -> second.get());
+    }
+
+    private LogicManager createLogic(boolean isSaveFailing) {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount++;
+                        if (isSaveFailing) {
+                            throw new IOException("dummy IO exception");
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        return new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ReplTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(new ModelManager(), new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void run_textOutput_writesFeedbackAndErrors() throws Exception {
+        StringWriter output = new StringWriter();
+        int failureCount = new Repl(logic, false).run(input("list", "", "  delete 9  ", "unknowncommand"),
+                new PrintWriter(output));
+
+        assertEquals(2, failureCount);
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS,
+                Repl.ERROR_PREFIX + MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX,
+                Repl.ERROR_PREFIX + MESSAGE_UNKNOWN_COMMAND), output.toString());
+    }
+
+    @Test
+    public void run_jsonOutput_writesOneObjectPerCommand() throws Exception {
+        StringWriter output = new StringWriter();
+        int failureCount = new Repl(logic, true).run(input("list", "delete 9"), new PrintWriter(output));
+
+        assertEquals(1, failureCount);
+        assertEquals(lines(
+                "{\"command\":\"list\",\"success\":true,\"feedback\":\"" + ListCommand.MESSAGE_SUCCESS + "\"}",
+                "{\"command\":\"delete 9\",\"success\":false,\"error\":\""
+                        + MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX + "\"}"), output.toString());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        StringWriter output = new StringWriter();
+        int failureCount = new Repl(logic, false).run(input(ExitCommand.COMMAND_WORD, "delete 9"),
+                new PrintWriter(output));
+
+        assertEquals(0, failureCount);
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), output.toString());
+    }
+
+    private static BufferedReader input(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+}
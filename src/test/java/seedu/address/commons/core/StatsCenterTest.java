@@ -0,0 +1,54 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StatsCenterTest {
+
+    @BeforeEach
+    public void setUp() {
+        StatsCenter.reset();
+    }
+
+    @Test
+    public void recordLatency_sameName_recordedInOneHistogram() {
+        StatsCenter.recordLatency("list parse", 1_000);
+        StatsCenter.recordLatency("list parse", 3_000);
+        assertEquals(2, StatsCenter.getLatency("list parse").getCount());
+        assertEquals(3_000, StatsCenter.getLatency("list parse").getMax());
+        assertNull(StatsCenter.getLatency("list save"));
+    }
+
+    @Test
+    public void count_sameName_added() {
+        assertEquals(0, StatsCenter.getCount("saves"));
+        StatsCenter.count("saves", 1);
+        StatsCenter.count("saves", 2);
+        assertEquals(3, StatsCenter.getCount("saves"));
+    }
+
+    @Test
+    public void getReport_rowsSortedByName() {
+        StatsCenter.recordLatency("list save", 2_500_000);
+        StatsCenter.recordLatency("delete execute", 1_000_000);
+        StatsCenter.count("saves", 4);
+
+        String report = StatsCenter.getReport();
+        assertTrue(report.indexOf("delete execute") < report.indexOf("list save"));
+        assertTrue(report.contains(String.format("%-24s %8d %10.3f", "list save", 1, 2.5)));
+        assertTrue(report.contains(String.format("%-24s %8d", "saves", 4)));
+    }
+
+    @Test
+    public void reset_forgetsEverything() {
+        StatsCenter.recordLatency("list parse", 1_000);
+        StatsCenter.count("saves", 1);
+        StatsCenter.reset();
+        assertNull(StatsCenter.getLatency("list parse"));
+        assertEquals(0, StatsCenter.getCount("saves"));
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSelectionTest {
+
+    @Test
+    public void ofRange_lastBeforeFirst_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> range(3, 2));
+    }
+
+    @Test
+    public void union_overlappingAndAdjacentRanges_merged() {
+        IndexSelection selection = range(5, 8).union(range(1, 2)).union(range(3, 4)).union(range(7, 10));
+        assertEquals(range(1, 10), selection);
+
+        IndexSelection disjoint = range(1, 2).union(range(4, 4));
+        assertArrayEquals(new int[] {0, 1, 3}, disjoint.getZeroBasedIndexes(5));
+        assertEquals(disjoint, range(4, 4).union(range(1, 2)));
+    }
+
+    @Test
+    public void unionOf_unsortedOverlappingRanges_mergedOnce() {
+        IndexSelection selection = IndexSelection.unionOf(
+                List.of(range(9, 9), range(5, 8), range(1, 2), range(3, 4), range(7, 10), range(12, 12)));
+        assertEquals(range(1, 10).union(range(12, 12)), selection);
+        assertTrue(IndexSelection.unionOf(List.of(range(1, 2), IndexSelection.allShown())).isAllShown());
+        assertThrows(IllegalArgumentException.class, () -> IndexSelection.unionOf(List.of()));
+    }
+
+    @Test
+    public void union_withAllShown_returnsAllShown() {
+        assertTrue(range(1, 2).union(IndexSelection.allShown()).isAllShown());
+        assertTrue(IndexSelection.allShown().union(range(1, 2)).isAllShown());
+    }
+
+    @Test
+    public void getSingleIndex() {
+        assertEquals(Optional.of(Index.fromOneBased(3)), IndexSelection.of(Index.fromOneBased(3)).getSingleIndex());
+        assertEquals(Optional.empty(), range(3, 4).getSingleIndex());
+        assertEquals(Optional.empty(), range(1, 1).union(range(3, 3)).getSingleIndex());
+        assertEquals(Optional.empty(), IndexSelection.allShown().getSingleIndex());
+    }
+
+    @Test
+    public void getZeroBasedIndexes() {
+        assertTrue(range(1, 3).isWithin(3));
+        assertFalse(range(1, 3).isWithin(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> range(1, 3).getZeroBasedIndexes(2));
+
+        assertArrayEquals(new int[] {0, 1, 2, 4}, range(1, 3).union(range(5, 5)).getZeroBasedIndexes(10));
+        assertArrayEquals(new int[] {0, 1, 2}, IndexSelection.allShown().getZeroBasedIndexes(3));
+        assertArrayEquals(new int[0], IndexSelection.allShown().getZeroBasedIndexes(0));
+    }
+
+    @Test
+    public void equals() {
+        IndexSelection selection = range(1, 3);
+
+        // same values -> returns true
+        assertTrue(selection.equals(range(1, 3)));
+        assertTrue(IndexSelection.allShown().equals(IndexSelection.allShown()));
+
+        // same object -> returns true
+        assertTrue(selection.equals(selection));
+
+        // null -> returns false
+        assertFalse(selection.equals(null));
+
+        // different types -> returns false
+        assertFalse(selection.equals(Index.fromOneBased(1)));
+
+        // different values -> returns false
+        assertFalse(selection.equals(range(1, 4)));
+        assertFalse(selection.equals(IndexSelection.allShown()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Index index = Index.fromOneBased(2);
+        assertEquals(index.toString(), IndexSelection.of(index).toString());
+        assertEquals(IndexSelection.class.getCanonicalName() + "{ranges=1-200,305}",
+                range(1, 200).union(range(305, 305)).toString());
+        assertEquals(IndexSelection.class.getCanonicalName() + "{allShown=true}",
+                IndexSelection.allShown().toString());
+    }
+
+    private static IndexSelection range(int oneBasedFirst, int oneBasedLast) {
+        return IndexSelection.ofRange(Index.fromOneBased(oneBasedFirst), Index.fromOneBased(oneBasedLast));
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ExecutorUtilTest {
+
+    @Test
+    public void hasVirtualThreads_matchesJavaVersion() {
+        assertEquals(Runtime.version().feature() >= 21, ExecutorUtil.hasVirtualThreads());
+    }
+
+    @Test
+    public void newBlockingTaskExecutor_blockedTasks_otherTasksStillRun() throws Exception {
+        ExecutorService executor = ExecutorUtil.newBlockingTaskExecutor();
+        int taskCount = ExecutorUtil.BLOCKING_THREADS_PER_PROCESSOR;
+        CountDownLatch allStarted = new CountDownLatch(taskCount);
+        try {
+            // Every task blocks until all of them have started, which needs them to run at the same time
+            for (int i = 0; i < taskCount; i++) {
+                executor.execute(() -> {
+                    allStarted.countDown();
+                    try {
+                        allStarted.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            assertTrue(allStarted.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PhoneticUtilTest {
+
+    @Test
+    public void getPhoneticKeys_soundAlikeSpellings_sameKeys() {
+        assertEquals(PhoneticUtil.getPhoneticKeys("Catherine"), PhoneticUtil.getPhoneticKeys("Kathryn"));
+        assertEquals(PhoneticUtil.getPhoneticKeys("meier"), PhoneticUtil.getPhoneticKeys("MEYER"));
+        assertEquals(PhoneticUtil.getPhoneticKeys("Smith"), PhoneticUtil.getPhoneticKeys("Smyth"));
+        assertEquals(PhoneticUtil.getPhoneticKeys("Stephen"), PhoneticUtil.getPhoneticKeys("Steven"));
+        assertEquals(PhoneticUtil.getPhoneticKeys("Philip"), PhoneticUtil.getPhoneticKeys("Filip"));
+        assertEquals(PhoneticUtil.getPhoneticKeys("Knight"), PhoneticUtil.getPhoneticKeys("Night")); // silent letters
+    }
+
+    @Test
+    public void getPhoneticKeys_twoPronunciations_differentAlternateKey() {
+        assertEquals(List.of("JRJ", "KRK"), PhoneticUtil.getPhoneticKeys("George"));
+        assertEquals(List.of("MXL", "MKL"), PhoneticUtil.getPhoneticKeys("Michael"));
+        assertEquals(List.of("0MS", "TMS"), PhoneticUtil.getPhoneticKeys("Thomas"));
+        assertEquals(List.of("TMS", "TMS"), PhoneticUtil.getPhoneticKeys("Tomas"));
+    }
+
+    @Test
+    public void getPhoneticKeys_longWord_truncatedToKeyLength() {
+        assertEquals(List.of("KRST", "KRST"), PhoneticUtil.getPhoneticKeys("Christopher"));
+    }
+
+    @Test
+    public void getPhoneticKeys_noLetters_emptyKeys() {
+        assertEquals(List.of("", ""), PhoneticUtil.getPhoneticKeys(""));
+        assertEquals(List.of("", ""), PhoneticUtil.getPhoneticKeys("123-!"));
+    }
+
+    @Test
+    public void getPhoneticKeys_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PhoneticUtil.getPhoneticKeys(null));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,28 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_withinMax_returnsDistance() {
+        assertEquals(0, StringUtil.getEditDistance("john", "john", 2));
+        assertEquals(1, StringUtil.getEditDistance("jon", "john", 2)); // insertion
+        assertEquals(1, StringUtil.getEditDistance("meyer", "meier", 2)); // substitution
+        assertEquals(1, StringUtil.getEditDistance("jhon", "john", 2)); // transposition
+        assertEquals(2, StringUtil.getEditDistance("", "ab", 2)); // empty string (boundary case)
+    }
+
+    @Test
+    public void getEditDistance_beyondMax_returnsMaxPlusOne() {
+        assertEquals(2, StringUtil.getEditDistance("alice", "benson", 1));
+        assertEquals(1, StringUtil.getEditDistance("abc", "abcde", 0)); // lengths too far apart
+    }
+
+    @Test
+    public void getEditDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc", 1));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
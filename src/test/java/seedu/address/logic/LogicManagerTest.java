@@ -1,7 +1,11 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_IN_TRANSACTION;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.FAMILY_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.FOOD_DESC_AMY;
@@ -14,15 +18,29 @@ import static seedu.address.testutil.TypicalPatients.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.commons.core.StatsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommitCommand;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -72,6 +90,72 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_recordsEachPhase() throws Exception {
+        StatsCenter.reset();
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertEquals(1, StatsCenter.getLatency(ListCommand.COMMAND_WORD + " parse").getCount());
+        assertEquals(1, StatsCenter.getLatency(ListCommand.COMMAND_WORD + " execute").getCount());
+        assertEquals(1, StatsCenter.getLatency(ListCommand.COMMAND_WORD + " save").getCount());
+        assertEquals(1, StatsCenter.getCount("saves"));
+        assertTrue(StatsCenter.getCount("bytes written") > 0);
+    }
+
+    @Test
+    public void execute_recording_phaseEventsCommitted() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandPhaseEvent.class);
+            recording.start();
+            logic.execute(ListCommand.COMMAND_WORD);
+            assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+            recording.stop();
+
+            Path recordingFile = temporaryFolder.resolve("recording.jfr");
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile);
+        }
+
+        List<String> phases = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (!event.getEventType().getName().equals("seedu.address.CommandPhase")) {
+                continue;
+            }
+            phases.add(event.getString("commandWord") + " " + event.getString("phase"));
+        }
+        assertEquals(List.of("list parse", "list execute", "list save", "(unknown) parse"), phases);
+    }
+
+    @Test
+    public void getStatus_changesSavedOrRolledBack_noUnsavedChanges() throws Exception {
+        assertFalse(logic.getStatus().hasUnsavedChanges());
+        assertEquals(-1, logic.getStatus().getLastSaveSize());
+
+        logic.execute(BeginCommand.COMMAND_WORD);
+        model.addPatient(AMY);
+        assertTrue(logic.getStatus().hasUnsavedChanges());
+        logic.execute(RollbackCommand.COMMAND_WORD);
+        assertFalse(logic.getStatus().hasUnsavedChanges());
+
+        model.addPatient(AMY);
+        model.commitVersion();
+        assertTrue(logic.getStatus().hasUnsavedChanges());
+        logic.save();
+        assertFalse(logic.getStatus().hasUnsavedChanges());
+        assertEquals(Files.size(temporaryFolder.resolve("addressBook.json")), logic.getStatus().getLastSaveSize());
+    }
+
+    @Test
+    public void execute_unknownCommand_recordsParseUnderSingleName() {
+        StatsCenter.reset();
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertThrows(ParseException.class, () -> logic.execute("mwoqcxazsd 1"));
+
+        assertEquals(2, StatsCenter.getLatency("(unknown) parse").getCount());
+        assertNull(StatsCenter.getLatency("(unknown) execute"));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -84,6 +168,118 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void executeScript_validScript_savesOnceAtEnd() throws Exception {
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(AddCommand.COMMAND_WORD + ID_DESC_AMY + NAME_DESC_AMY + PREFERRED_NAME_DESC_AMY
+                + FOOD_DESC_AMY + FAMILY_DESC_AMY + HOBBY_DESC_AMY, ListCommand.COMMAND_WORD, "delete 1"));
+
+        CommandResult result = logic.executeScript(script, false);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3, script), result.getFeedbackToUser());
+        assertEquals(1, saveCount[0]);
+        assertEquals(new ModelManager(), model);
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void executeBatch_someCommandsFail_runsAllAndSavesOnce() throws Exception {
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        String addCommand = AddCommand.COMMAND_WORD + ID_DESC_AMY + NAME_DESC_AMY + PREFERRED_NAME_DESC_AMY
+                + FOOD_DESC_AMY + FAMILY_DESC_AMY + HOBBY_DESC_AMY;
+
+        List<CommandOutcome> outcomes = logic.executeBatch(List.of(addCommand, "delete 9", ListCommand.COMMAND_WORD));
+        assertEquals(3, outcomes.size());
+        assertTrue(outcomes.get(0).isSuccess());
+        assertEquals(MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX, outcomes.get(1).getError());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, outcomes.get(2).getResult().getFeedbackToUser());
+        assertEquals(1, saveCount[0]);
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_undoRedo_revertsAndReappliesLastChange() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + ID_DESC_AMY + NAME_DESC_AMY + PREFERRED_NAME_DESC_AMY
+                + FOOD_DESC_AMY + FAMILY_DESC_AMY + HOBBY_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(new ModelManager(), model);
+        assertThrows(CommandException.class, UndoCommand.MESSAGE_NOTHING_TO_UNDO, () ->
+                logic.execute(UndoCommand.COMMAND_WORD));
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, logic.execute(RedoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(1, model.getFilteredPatientList().size());
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_NOTHING_TO_REDO, () ->
+                logic.execute(RedoCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_transaction_savesOnceOnCommitAndNeverOnRollback() throws Exception {
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        String addCommand = AddCommand.COMMAND_WORD + ID_DESC_AMY + NAME_DESC_AMY + PREFERRED_NAME_DESC_AMY
+                + FOOD_DESC_AMY + FAMILY_DESC_AMY + HOBBY_DESC_AMY;
+
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(addCommand);
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        logic.execute(addCommand);
+        assertEquals(1, model.getFilteredPatientList().size());
+        assertThrows(CommandException.class, String.format(MESSAGE_IN_TRANSACTION, UndoCommand.COMMAND_WORD), () ->
+                logic.execute(UndoCommand.COMMAND_WORD));
+        int savesBeforeCommit = saveCount[0];
+        assertEquals(CommitCommand.MESSAGE_SUCCESS, logic.execute(CommitCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(savesBeforeCommit + 1, saveCount[0]);
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(0, model.getFilteredPatientList().size());
+        int savesBeforeRollback = saveCount[0];
+        assertEquals(RollbackCommand.MESSAGE_SUCCESS,
+                logic.execute(RollbackCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(savesBeforeRollback, saveCount[0]);
+        assertEquals(1, model.getFilteredPatientList().size());
+
+        // The committed transaction is undone as a single version
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(new ModelManager(), model);
+    }
+
     @Test
     public void getFilteredPatientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPatientList().remove(0));
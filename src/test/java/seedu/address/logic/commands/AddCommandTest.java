@@ -9,7 +9,11 @@ import static seedu.address.testutil.TypicalPatients.ALICE;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,10 +22,16 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientHospitalId;
+import seedu.address.model.patient.SavedView;
+import seedu.address.model.patient.query.Cohort;
+import seedu.address.model.patient.query.PatientBitmapIndex;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PatientBuilder;
 
 public class AddCommandTest {
@@ -135,6 +145,111 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPatients(List<Patient> targets, List<Patient> editedPatients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int mergeTags(Set<Tag> tagsToMerge, Tag mergedTag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int removeTags(Set<Tag> tagsToRemove) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Patient> getPatientsWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Patient, Integer> findPatientsFuzzy(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Patient, Integer> findPatientsPhonetic(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Patient> searchPatients(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Patient> getPatientsInHospitalIdRange(PatientHospitalId first, PatientHospitalId last) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SavedView saveView(String name, Predicate<Patient> filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<SavedView> getSavedView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PatientBitmapIndex getPatientBitmapIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setCohort(String name, Cohort cohort) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Cohort> getCohort(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Patient> getFilteredPatientList() {
             throw new AssertionError("This method should not be called.");
@@ -145,6 +260,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> displayOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updatePatientList(List<Patient> patientList) {
             throw new AssertionError("This method should not be called.");
@@ -154,6 +274,16 @@ public class AddCommandTest {
         public ObservableList<Patient> getFullPatientList() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void sortPatientList(Comparator<Patient> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Comparator<Patient>> getPatientComparator() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
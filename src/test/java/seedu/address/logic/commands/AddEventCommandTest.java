@@ -15,6 +15,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -31,7 +32,7 @@ public class AddEventCommandTest {
 
     @Test
     public void constructor_nullIndex_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new AddEventCommand(null, validDate));
+        assertThrows(NullPointerException.class, () -> new AddEventCommand((Index) null, validDate));
     }
 
     @Test
@@ -42,7 +43,7 @@ public class AddEventCommandTest {
 
     @Test
     public void constructor_nullIndexAndEventDateTimeStr_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new AddEventCommand(null, null));
+        assertThrows(NullPointerException.class, () -> new AddEventCommand((Index) null, null));
     }
 
     @Test
@@ -117,6 +118,18 @@ public class AddEventCommandTest {
         assertTrue(editedPatient.getEvents().equals(expectedEvents));
     }
 
+    @Test
+    public void execute_addValidEventToIndexRange_success() throws CommandException {
+        IndexSelection indexes = IndexSelection.ofRange(INDEX_FIRST_PATIENT, INDEX_SECOND_PATIENT);
+        CommandResult result = new AddEventCommand(indexes, validDate).execute(model);
+
+        String expected = String.format(AddEventCommand.MESSAGE_BULK_SUCCESS, validDate.name, 2, 2, validDate.date);
+        assertEquals(expected, result.getFeedbackToUser());
+        assertTrue(model.getFilteredPatientList().get(0).getEvents().contains(validDate));
+        assertTrue(model.getFilteredPatientList().get(1).getEvents().contains(validDate));
+        assertFalse(model.getFilteredPatientList().get(2).getEvents().contains(validDate));
+    }
+
     @Test
     public void equalsTest() {
         AddEventCommand addEventCommandFirst = new AddEventCommand(
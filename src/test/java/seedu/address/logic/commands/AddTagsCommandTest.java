@@ -1,14 +1,17 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_NO_PATIENTS_SELECTED;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DEPRESSION;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DEPRESSION_OUTPUT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DIABETES;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DIABETES_OUTPUT;
+import static seedu.address.logic.commands.CommandTestUtil.showPatientAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PATIENT;
 import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
@@ -19,6 +22,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -116,6 +120,61 @@ public class AddTagsCommandTest {
         assertEquals(MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX, exception.getMessage());
     }
 
+    @Test
+    public void execute_indexRange_addsTagToAllSelectedPatients() throws Exception {
+        IndexSelection indexes = IndexSelection.ofRange(INDEX_FIRST_PATIENT, Index.fromOneBased(3));
+        Tag depression = new Tag(VALID_TAG_DEPRESSION);
+
+        CommandResult commandResult = new AddTagsCommand(indexes, Set.of(depression)).execute(model);
+
+        // the first patient already has the tag
+        String expectedMessage = String.format(AddTagsCommand.MESSAGE_ADD_TAG_BULK_SUCCESS,
+                VALID_TAG_DEPRESSION_OUTPUT, 2, 3) + "\n";
+        assertEquals(expectedMessage, commandResult.getFeedbackToUser());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(model.getFilteredPatientList().get(i).getTags().contains(depression));
+        }
+        assertFalse(model.getFilteredPatientList().get(3).getTags().contains(depression));
+    }
+
+    @Test
+    public void execute_allShownFilteredList_addsTagToShownPatientsOnly() throws Exception {
+        showPatientAtIndex(model, INDEX_SECOND_PATIENT);
+        Patient shownPatient = model.getFilteredPatientList().get(0);
+        Tag diabetes = new Tag(VALID_TAG_DIABETES);
+
+        new AddTagsCommand(IndexSelection.allShown(), Set.of(new Tag(VALID_TAG_DEPRESSION))).execute(model);
+
+        assertEquals(model.getFullPatientList(), model.getFilteredPatientList());
+        long taggedCount = model.getFullPatientList().stream()
+                .filter(patient -> patient.getTags().contains(new Tag(VALID_TAG_DEPRESSION))).count();
+        // the first typical patient already has the tag, and only the shown patient is tagged
+        assertEquals(2, taggedCount);
+        assertTrue(model.getFullPatientList().stream().anyMatch(patient -> patient.isSamePatient(shownPatient)
+                && patient.getTags().contains(diabetes)));
+    }
+
+    @Test
+    public void execute_allShownEmptyList_throwsCommandException() {
+        model.updateFilteredPatientList(unused -> false);
+        AddTagsCommand addTagsCommand = new AddTagsCommand(IndexSelection.allShown(),
+                Set.of(new Tag(VALID_TAG_DEPRESSION)));
+
+        CommandException exception = assertThrows(CommandException.class, () -> addTagsCommand.execute(model));
+        assertEquals(MESSAGE_NO_PATIENTS_SELECTED, exception.getMessage());
+    }
+
+    @Test
+    public void execute_rangeOutsideList_throwsCommandException() {
+        IndexSelection indexes = IndexSelection.ofRange(INDEX_FIRST_PATIENT,
+                Index.fromOneBased(model.getFilteredPatientList().size() + 1));
+        AddTagsCommand addTagsCommand = new AddTagsCommand(indexes, Set.of(new Tag(VALID_TAG_DEPRESSION)));
+
+        CommandException exception = assertThrows(CommandException.class, () -> addTagsCommand.execute(model));
+        assertEquals(MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX, exception.getMessage());
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+    }
+
     @Test
     public void equals() {
         final Index index = INDEX_FIRST_PATIENT;
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.query.AndQuery;
+import seedu.address.model.patient.query.CohortQuery;
+import seedu.address.model.patient.query.NotQuery;
+import seedu.address.model.patient.query.OrQuery;
+import seedu.address.model.patient.query.PatientQuery;
+import seedu.address.model.patient.query.TagQuery;
+import seedu.address.model.tag.Tag;
+
+public class CohortCommandTest {
+
+    private static final PatientQuery DIABETES_OR_DEPRESSION = new OrQuery(List.of(
+            new TagQuery(new Tag("diabetes")), new TagQuery(new Tag("depression"))));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_query_cohortSavedAndListed() throws Exception {
+        CommandResult result = new CohortCommand("mood", DIABETES_OR_DEPRESSION).execute(model);
+        assertEquals(String.format(CohortCommand.MESSAGE_SAVED, "mood", 2), result.getFeedbackToUser());
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredPatientList());
+        assertTrue(model.getCohort("mood").isPresent());
+    }
+
+    @Test
+    public void execute_savedCohort_listedAfterPatientListChanges() throws Exception {
+        new CohortCommand("mood", DIABETES_OR_DEPRESSION).execute(model);
+        model.deletePatient(ALICE);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredPatientList(BENSON::equals);
+        assertCommandSuccess(new CohortCommand("mood", null), model,
+                String.format(CohortCommand.MESSAGE_LISTED, "mood", 1), expectedModel);
+    }
+
+    @Test
+    public void execute_cohortsCombined_setAlgebraApplied() throws Exception {
+        new CohortCommand("mood", DIABETES_OR_DEPRESSION).execute(model);
+        new CohortCommand("first", new NotQuery(new TagQuery(new Tag("eczema")))).execute(model);
+
+        new QueryCommand(new AndQuery(List.of(new CohortQuery("first"), new NotQuery(new CohortQuery("mood")))))
+                .execute(model);
+        assertEquals(CARL, model.getFilteredPatientList().get(0));
+        assertEquals(4, model.getFilteredPatientList().size());
+    }
+
+    @Test
+    public void execute_unknownCohort_throwsCommandException() {
+        assertCommandFailure(new CohortCommand("unknown", null), model,
+                String.format(Messages.MESSAGE_UNKNOWN_COHORT, "unknown"));
+        assertCommandFailure(new QueryCommand(new CohortQuery("unknown")), model,
+                String.format(Messages.MESSAGE_UNKNOWN_COHORT, "unknown"));
+    }
+
+    @Test
+    public void equals() {
+        CohortCommand cohortCommand = new CohortCommand("mood", DIABETES_OR_DEPRESSION);
+
+        assertTrue(cohortCommand.equals(cohortCommand));
+        assertTrue(cohortCommand.equals(new CohortCommand("mood", DIABETES_OR_DEPRESSION)));
+        assertFalse(cohortCommand.equals(new CohortCommand("mood", null)));
+        assertFalse(cohortCommand.equals(new CohortCommand("other", DIABETES_OR_DEPRESSION)));
+        assertFalse(cohortCommand.equals(null));
+    }
+}
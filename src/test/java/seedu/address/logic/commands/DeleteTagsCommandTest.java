@@ -19,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -39,7 +40,7 @@ public class DeleteTagsCommandTest {
 
     @Test
     public void constructor_nullIndex_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new DeleteTagsCommand(null, validTagSet));
+        assertThrows(NullPointerException.class, () -> new DeleteTagsCommand((Index) null, validTagSet));
     }
 
     @Test
@@ -49,7 +50,7 @@ public class DeleteTagsCommandTest {
 
     @Test
     public void constructor_nullIndexAndNullTagSet_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new DeleteTagsCommand(null, null));
+        assertThrows(NullPointerException.class, () -> new DeleteTagsCommand((Index) null, null));
     }
 
     @Test
@@ -106,6 +107,20 @@ public class DeleteTagsCommandTest {
     }
 
 
+    @Test
+    public void execute_allShown_deletesTagFromPatientsWithIt() throws Exception {
+        Tag depression = new Tag(VALID_TAG_DEPRESSION);
+        int patientCount = model.getFilteredPatientList().size();
+
+        CommandResult commandResult = new DeleteTagsCommand(IndexSelection.allShown(), Set.of(depression))
+                .execute(model);
+
+        String expectedMessage = String.format(DeleteTagsCommand.MESSAGE_DELETE_TAG_BULK_SUCCESS,
+                VALID_TAG_DEPRESSION_OUTPUT, 1, patientCount) + "\n";
+        assertEquals(expectedMessage, commandResult.getFeedbackToUser());
+        assertTrue(model.getFullPatientList().stream().noneMatch(patient -> patient.getTags().contains(depression)));
+    }
+
     @Test
     public void equals() {
         final Index index = INDEX_FIRST_PATIENT;
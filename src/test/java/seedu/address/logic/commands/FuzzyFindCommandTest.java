@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PATIENT_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.ELLE;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FuzzyFindCommand findFirstCommand = new FuzzyFindCommand(Collections.singletonList("first"));
+        FuzzyFindCommand findSecondCommand = new FuzzyFindCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FuzzyFindCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_misspeltKeyword_closestMatchesListedFirst() {
+        String expectedMessage = String.format(MESSAGE_PATIENT_LISTED_OVERVIEW, 3);
+        FuzzyFindCommand command = new FuzzyFindCommand(Collections.singletonList("meyer"));
+        Map<Patient, Integer> ranks = expectedModel.findPatientsFuzzy(List.of("meyer"));
+        expectedModel.updateFilteredPatientList(ranks::containsKey,
+                (first, second) -> Integer.compare(ranks.get(first), ranks.get(second)));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_multipleKeywords_eachPatientRankedByBestMatch() {
+        new FuzzyFindCommand(Arrays.asList("alcie", "Meier")).execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ALICE, ELLE), model.getFilteredPatientList());
+
+        // a later filter lists patients in address book order again
+        model.updateFilteredPatientList(patient -> patient.equals(ELLE) || patient.equals(ALICE));
+        assertEquals(Arrays.asList(ALICE, ELLE), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_noCloseMatch_noPatientFound() {
+        String expectedMessage = String.format(MESSAGE_PATIENT_LISTED_OVERVIEW, 0);
+        FuzzyFindCommand command = new FuzzyFindCommand(Collections.singletonList("zzzzzz"));
+        expectedModel.updateFilteredPatientList(unused -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        FuzzyFindCommand command = new FuzzyFindCommand(Arrays.asList("jhon", "doe"));
+        String expected = FuzzyFindCommand.class.getCanonicalName() + "{keywords=[jhon, doe]}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -1,14 +1,27 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPatientAtIndex;
+import static seedu.address.model.patient.comparators.NameComparator.NAME_COMPARATOR;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.ELLE;
 import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.PatientHospitalId;
+import seedu.address.model.patient.query.HospitalIdRangeQuery;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -29,4 +42,54 @@ public class ListCommandTest {
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_listIsFiltered_showsEverything() {
+        showPatientAtIndex(model, INDEX_FIRST_PATIENT);
+        assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_hospitalIdRange_showsPatientsInRangeInIdOrder() {
+        model.sortPatientList(NAME_COMPARATOR);
+        HospitalIdRangeQuery idRange = new HospitalIdRangeQuery(new PatientHospitalId("12236"),
+                new PatientHospitalId("12238"));
+        String expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS_ID_RANGE, "12236", "12238", 3);
+
+        CommandResult result = new ListCommand(idRange).execute(model);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(Arrays.asList(CARL, DANIEL, ELLE), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_emptyHospitalIdRange_noPatientShown() {
+        HospitalIdRangeQuery idRange = new HospitalIdRangeQuery(new PatientHospitalId("1"),
+                new PatientHospitalId("100"));
+        String expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS_ID_RANGE, "1", "100", 0);
+        expectedModel.updateFilteredPatientList(unused -> false);
+        assertCommandSuccess(new ListCommand(idRange), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        HospitalIdRangeQuery firstRange = new HospitalIdRangeQuery(new PatientHospitalId("1"),
+                new PatientHospitalId("100"));
+        HospitalIdRangeQuery secondRange = new HospitalIdRangeQuery(new PatientHospitalId("1"),
+                new PatientHospitalId("200"));
+        ListCommand listFirstCommand = new ListCommand(firstRange);
+
+        // same values -> returns true
+        assertTrue(listFirstCommand.equals(new ListCommand(firstRange)));
+        assertTrue(new ListCommand().equals(new ListCommand()));
+
+        // different types -> returns false
+        assertFalse(listFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(listFirstCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(listFirstCommand.equals(new ListCommand(secondRange)));
+        assertFalse(listFirstCommand.equals(new ListCommand()));
+    }
+
 }
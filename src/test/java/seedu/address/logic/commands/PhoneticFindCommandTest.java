@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PATIENT_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.ELLE;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code PhoneticFindCommand}.
+ */
+public class PhoneticFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        PhoneticFindCommand findFirstCommand = new PhoneticFindCommand(Collections.singletonList("first"));
+        PhoneticFindCommand findSecondCommand = new PhoneticFindCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new PhoneticFindCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_soundAlikeKeyword_closestMatchesListedFirst() {
+        String expectedMessage = String.format(MESSAGE_PATIENT_LISTED_OVERVIEW, 3);
+        PhoneticFindCommand command = new PhoneticFindCommand(Collections.singletonList("meyer"));
+        Map<Patient, Integer> ranks = expectedModel.findPatientsPhonetic(List.of("meyer"));
+        expectedModel.updateFilteredPatientList(ranks::containsKey,
+                (first, second) -> Integer.compare(ranks.get(first), ranks.get(second)));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_noSoundAlike_noPatientFound() {
+        String expectedMessage = String.format(MESSAGE_PATIENT_LISTED_OVERVIEW, 0);
+        PhoneticFindCommand command = new PhoneticFindCommand(Collections.singletonList("zzzzzz"));
+        expectedModel.updateFilteredPatientList(unused -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        PhoneticFindCommand command = new PhoneticFindCommand(Arrays.asList("kathryn", "smyth"));
+        String expected = PhoneticFindCommand.class.getCanonicalName() + "{keywords=[kathryn, smyth]}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DEPRESSION;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DIABETES;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PatientBuilder;
+
+public class PurgeTagsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_tagInUse_removedFromEveryPatient() {
+        Set<Tag> tagsToPurge = Set.of(new Tag(VALID_TAG_DIABETES));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPatient(BENSON, new PatientBuilder(BENSON).withTags("cholesterol").build());
+
+        String expectedMessage = String.format(PurgeTagsCommand.MESSAGE_PURGE_TAGS_SUCCESS, tagsToPurge, 1);
+        assertCommandSuccess(new PurgeTagsCommand(tagsToPurge), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        PurgeTagsCommand purgeTagsCommand = new PurgeTagsCommand(Set.of(new Tag(VALID_TAG_DIABETES)));
+
+        // same values -> returns true
+        assertTrue(purgeTagsCommand.equals(new PurgeTagsCommand(Set.of(new Tag(VALID_TAG_DIABETES)))));
+
+        // same object -> returns true
+        assertTrue(purgeTagsCommand.equals(purgeTagsCommand));
+
+        // null -> returns false
+        assertFalse(purgeTagsCommand.equals(null));
+
+        // different tags -> returns false
+        assertFalse(purgeTagsCommand.equals(new PurgeTagsCommand(Set.of(new Tag(VALID_TAG_DEPRESSION)))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<Tag> tags = Set.of(new Tag(VALID_TAG_DIABETES));
+        String expected = PurgeTagsCommand.class.getCanonicalName() + "{tagsToPurge=" + tags + "}";
+        assertEquals(expected, new PurgeTagsCommand(tags).toString());
+    }
+}
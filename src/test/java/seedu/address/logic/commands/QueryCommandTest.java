@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PATIENT_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.query.AndQuery;
+import seedu.address.model.patient.query.FieldContainsWordsQuery;
+import seedu.address.model.patient.query.FieldContainsWordsQuery.Field;
+import seedu.address.model.patient.query.NotQuery;
+import seedu.address.model.patient.query.OrQuery;
+import seedu.address.model.patient.query.PatientQuery;
+import seedu.address.model.patient.query.TagQuery;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandTest {
+
+    private static final PatientQuery MEIER = new FieldContainsWordsQuery(Field.NAME, List.of("meier"));
+    private static final PatientQuery DIABETES = new TagQuery(new Tag("diabetes"));
+    private static final PatientQuery ECZEMA = new TagQuery(new Tag("eczema"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_indexedQuery_patientsFound() {
+        PatientQuery query = new AndQuery(List.of(MEIER, new OrQuery(List.of(DIABETES, ECZEMA))));
+        expectedModel.updateFilteredPatientList(query);
+        assertCommandSuccess(new QueryCommand(query), model, String.format(MESSAGE_PATIENT_LISTED_OVERVIEW, 2),
+                expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_unindexedQuery_patientsFound() {
+        PatientQuery query = new AndQuery(List.of(new NotQuery(MEIER), new NotQuery(DIABETES)));
+        expectedModel.updateFilteredPatientList(query);
+        assertCommandSuccess(new QueryCommand(query), model, String.format(MESSAGE_PATIENT_LISTED_OVERVIEW, 5),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noMatches_noPatientFound() {
+        PatientQuery query = new AndQuery(List.of(DIABETES, ECZEMA));
+        expectedModel.updateFilteredPatientList(query);
+        assertCommandSuccess(new QueryCommand(query), model, String.format(MESSAGE_PATIENT_LISTED_OVERVIEW, 0),
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        QueryCommand queryCommand = new QueryCommand(DIABETES);
+
+        // same object -> returns true
+        assertTrue(queryCommand.equals(queryCommand));
+
+        // same values -> returns true
+        assertTrue(queryCommand.equals(new QueryCommand(new TagQuery(new Tag("diabetes")))));
+
+        // different types -> returns false
+        assertFalse(queryCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(queryCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(queryCommand.equals(new QueryCommand(ECZEMA)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = QueryCommand.class.getCanonicalName() + "{query=" + DIABETES + "}";
+        assertEquals(expected, new QueryCommand(DIABETES).toString());
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DEPRESSION;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DIABETES;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPatientAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PatientBuilder;
+
+public class RenameTagsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_mergeTags_success() {
+        Set<Tag> tagsToRename = Set.of(new Tag(VALID_TAG_DEPRESSION), new Tag(VALID_TAG_DIABETES));
+        Tag newTag = new Tag("monitor");
+        RenameTagsCommand renameTagsCommand = new RenameTagsCommand(tagsToRename, newTag);
+        showPatientAtIndex(model, INDEX_FIRST_PATIENT);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPatient(ALICE, new PatientBuilder(ALICE).withTags("monitor").build());
+        expectedModel.setPatient(BENSON, new PatientBuilder(BENSON).withTags("monitor", "cholesterol").build());
+
+        String expectedMessage = String.format(RenameTagsCommand.MESSAGE_RENAME_TAGS_SUCCESS, tagsToRename, newTag, 2);
+        assertCommandSuccess(renameTagsCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unusedTag_noPatientChanged() {
+        Set<Tag> tagsToRename = Set.of(new Tag("unused"));
+        Tag newTag = new Tag("monitor");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(RenameTagsCommand.MESSAGE_RENAME_TAGS_SUCCESS, tagsToRename, newTag, 0);
+        assertCommandSuccess(new RenameTagsCommand(tagsToRename, newTag), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        Set<Tag> tags = Set.of(new Tag(VALID_TAG_DEPRESSION));
+        RenameTagsCommand renameTagsCommand = new RenameTagsCommand(tags, new Tag("mood"));
+
+        // same values -> returns true
+        assertTrue(renameTagsCommand.equals(new RenameTagsCommand(Set.of(new Tag(VALID_TAG_DEPRESSION)),
+                new Tag("mood"))));
+
+        // same object -> returns true
+        assertTrue(renameTagsCommand.equals(renameTagsCommand));
+
+        // null -> returns false
+        assertFalse(renameTagsCommand.equals(null));
+
+        // different tags -> returns false
+        assertFalse(renameTagsCommand.equals(new RenameTagsCommand(Set.of(new Tag(VALID_TAG_DIABETES)),
+                new Tag("mood"))));
+
+        // different new tag -> returns false
+        assertFalse(renameTagsCommand.equals(new RenameTagsCommand(tags, new Tag("low mood"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<Tag> tags = Set.of(new Tag(VALID_TAG_DEPRESSION));
+        Tag newTag = new Tag("mood");
+        String expected = RenameTagsCommand.class.getCanonicalName() + "{tagsToRename=" + tags + ", newTag="
+                + newTag + "}";
+        assertEquals(expected, new RenameTagsCommand(tags, newTag).toString());
+    }
+}
@@ -0,0 +1,220 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_IN_TRANSACTION;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.FAMILY_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.FOOD_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.HOBBY_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ID_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PREFERRED_NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.AMY;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PatientBuilder;
+
+public class RunCommandTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + ID_DESC_AMY + NAME_DESC_AMY
+            + PREFERRED_NAME_DESC_AMY + FOOD_DESC_AMY + FAMILY_DESC_AMY + HOBBY_DESC_AMY;
+    private static final String DELETE_FIRST = DeleteCommand.COMMAND_WORD + " 1";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_allCommandsRun() throws IOException {
+        Path script = writeScript("# morning admissions", ADD_AMY, "", "   " + DELETE_FIRST);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPatient(new PatientBuilder(AMY).withTags().build());
+        expectedModel.deletePatient(ALICE);
+
+        assertCommandSuccess(new RunCommand(script, false), model,
+                String.format(RunCommand.MESSAGE_SUCCESS, 2, script), expectedModel);
+    }
+
+    @Test
+    public void execute_failingLines_reportsLineNumbersAndKeepsOtherChanges() throws IOException {
+        Path script = writeScript(ADD_AMY, "unknown", "delete 100", DELETE_FIRST);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPatient(new PatientBuilder(AMY).withTags().build());
+        expectedModel.deletePatient(ALICE);
+        String expectedMessage = String.format(RunCommand.MESSAGE_PARTIAL_SUCCESS, 2, 4, script)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 2, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 3, MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+
+        assertCommandSuccess(new RunCommand(script, false), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_manyFailingLines_onlyFirstErrorsListed() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < RunCommand.MAX_ERRORS_SHOWN + 3; i++) {
+            lines.add("unknown");
+        }
+        Path script = writeScript(lines.toArray(new String[0]));
+
+        String feedback = new RunCommand(script, false).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_ERROR, RunCommand.MAX_ERRORS_SHOWN,
+                MESSAGE_UNKNOWN_COMMAND)));
+        assertFalse(feedback.contains(String.format(RunCommand.MESSAGE_LINE_ERROR, RunCommand.MAX_ERRORS_SHOWN + 1,
+                MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(feedback.endsWith(String.format(RunCommand.MESSAGE_MORE_ERRORS, 3)));
+    }
+
+    @Test
+    public void execute_allOrNothingWithFailingLine_noChanges() throws IOException {
+        Path script = writeScript(ADD_AMY, ClearCommand.COMMAND_WORD, DELETE_FIRST, ADD_AMY);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_ROLLED_BACK, script,
+                String.format(RunCommand.MESSAGE_LINE_ERROR, 3, MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX));
+        assertCommandFailure(new RunCommand(script, true), model, expectedMessage);
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_allOrNothingWithSortThenFailingLine_orderRestored() throws IOException {
+        Path script = writeScript(SortCommand.COMMAND_WORD + " p id", ADD_AMY, "delete 100");
+
+        assertCommandFailure(new RunCommand(script, true), model, String.format(RunCommand.MESSAGE_ROLLED_BACK, script,
+                String.format(RunCommand.MESSAGE_LINE_ERROR, 3, MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX)));
+        assertEquals(Optional.empty(), model.getPatientComparator());
+        assertFalse(model.isInTransaction());
+    }
+
+    @Test
+    public void execute_allOrNothingInTransaction_throwsCommandException() throws IOException {
+        Path script = writeScript(ADD_AMY);
+        model.beginTransaction();
+
+        assertCommandFailure(new RunCommand(script, true), model, String.format(MESSAGE_IN_TRANSACTION,
+                RunCommand.COMMAND_WORD + " " + RunCommand.ALL_OR_NOTHING_KEYWORD));
+    }
+
+    @Test
+    public void execute_undoAndRedo_lineFails() throws IOException {
+        Path script = writeScript(UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_PARTIAL_SUCCESS, 0, 2, script)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 1,
+                        String.format(RunCommand.MESSAGE_NOT_ALLOWED_IN_SCRIPT, UndoCommand.COMMAND_WORD))
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 2,
+                        String.format(RunCommand.MESSAGE_NOT_ALLOWED_IN_SCRIPT, RedoCommand.COMMAND_WORD));
+        assertCommandSuccess(new RunCommand(script, false), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_nestedRun_lineFails() throws IOException {
+        Path script = writeScript(RunCommand.COMMAND_WORD + " other.txt", ExitCommand.COMMAND_WORD);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_PARTIAL_SUCCESS, 0, 2, script)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 1,
+                        String.format(RunCommand.MESSAGE_NOT_ALLOWED_IN_SCRIPT, RunCommand.COMMAND_WORD))
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_ERROR, 2,
+                        String.format(RunCommand.MESSAGE_NOT_ALLOWED_IN_SCRIPT, ExitCommand.COMMAND_WORD));
+        assertCommandSuccess(new RunCommand(script, false), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path script = temporaryFolder.resolve("missing.txt");
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandFailure(new RunCommand(script, false), model,
+                String.format(RunCommand.MESSAGE_CANNOT_READ_FILE, script, script));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_malformedLineAfterValidLines_noChanges() throws IOException {
+        Path script = writeMalformedScript(ADD_AMY, DELETE_FIRST);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_CANNOT_READ_FILE, script,
+                new MalformedInputException(1).getMessage());
+        assertCommandFailure(new RunCommand(script, false), model, expectedMessage);
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_allOrNothingMalformedLineAfterValidLines_noChanges() throws IOException {
+        Path script = writeMalformedScript(ADD_AMY, DELETE_FIRST);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_CANNOT_READ_FILE, script,
+                new MalformedInputException(1).getMessage());
+        assertCommandFailure(new RunCommand(script, true), model, expectedMessage);
+        assertEquals(expectedModel, model);
+        assertFalse(model.isInTransaction());
+    }
+
+    @Test
+    public void equals() {
+        Path script = temporaryFolder.resolve("script.txt");
+        RunCommand runCommand = new RunCommand(script, false);
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(script, false)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different mode -> returns false
+        assertFalse(runCommand.equals(new RunCommand(script, true)));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(temporaryFolder.resolve("other.txt"), false)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path script = temporaryFolder.resolve("script.txt");
+        RunCommand runCommand = new RunCommand(script, true);
+        String expected = RunCommand.class.getCanonicalName() + "{scriptFile=" + script + ", isAllOrNothing=true}";
+        assertEquals(expected, runCommand.toString());
+    }
+
+    /**
+     * Writes a script of {@code lines} followed by a line that is not valid UTF-8.
+     */
+    private Path writeMalformedScript(String... lines) throws IOException {
+        Path script = writeScript(lines);
+        Files.write(script, new byte[] {(byte) 0xC3, (byte) 0x28, '\n'}, StandardOpenOption.APPEND);
+        return script;
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+}
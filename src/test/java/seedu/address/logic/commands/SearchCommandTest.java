@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PATIENT_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.ELLE;
+import static seedu.address.testutil.TypicalPatients.FIONA;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(Collections.singletonList("first"));
+        SearchCommand searchSecondCommand = new SearchCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_freeTextKeywords_mostRelevantFirst() {
+        String expectedMessage = String.format(MESSAGE_PATIENT_LISTED_OVERVIEW, 3);
+        SearchCommand command = new SearchCommand(Arrays.asList("fish", "dancing"));
+        List<Patient> expectedOrder = Arrays.asList(FIONA, ELLE, CARL);
+        expectedModel.updateFilteredPatientList(expectedOrder::contains,
+                (first, second) -> Integer.compare(expectedOrder.indexOf(first), expectedOrder.indexOf(second)));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedOrder, model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_manyMatches_mostRelevantListed() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < SearchCommand.MAX_RESULTS + 5; i++) {
+            addressBook.addPatient(new PatientBuilder().withPatientHospitalId(String.valueOf(10000 + i)).build());
+        }
+        Model manyPatientsModel = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new SearchCommand(Collections.singletonList("karaoke")).execute(manyPatientsModel);
+        assertEquals(String.format(MESSAGE_PATIENT_LISTED_OVERVIEW, SearchCommand.MAX_RESULTS),
+                result.getFeedbackToUser());
+        assertEquals(addressBook.getPatientList().subList(0, SearchCommand.MAX_RESULTS),
+                manyPatientsModel.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_noMatch_noPatientFound() {
+        String expectedMessage = String.format(MESSAGE_PATIENT_LISTED_OVERVIEW, 0);
+        SearchCommand command = new SearchCommand(Collections.singletonList("zzzzzz"));
+        expectedModel.updateFilteredPatientList(unused -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand command = new SearchCommand(Arrays.asList("fish", "dancing"));
+        String expected = SearchCommand.class.getCanonicalName() + "{keywords=[fish, dancing]}";
+        assertEquals(expected, command.toString());
+    }
+}
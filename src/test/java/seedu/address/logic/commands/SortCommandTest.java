@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.model.patient.comparators.NameComparator.NAME_COMPARATOR;
 import static seedu.address.model.patient.comparators.PreferredNameComparator.PREFERRED_NAME_COMPARATOR;
@@ -10,6 +11,7 @@ import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,6 +19,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
 
 public class SortCommandTest {
 
@@ -58,6 +61,21 @@ public class SortCommandTest {
         assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_thenAddPatient_patientInsertedInSortedOrder() {
+        new SortCommand(NAME_COMPARATOR).execute(model);
+        assertEquals(Optional.of(NAME_COMPARATOR), model.getPatientComparator());
+
+        Patient newPatient = new PatientBuilder().withPatientHospitalId("99999").withName("Bella Tan").build();
+        model.addPatient(newPatient);
+
+        List<Patient> patientList = model.getFullPatientList();
+        for (int i = 0; i < patientList.size() - 1; i++) {
+            assertTrue(NAME_COMPARATOR.compare(patientList.get(i), patientList.get(i + 1)) <= 0);
+        }
+        assertTrue(patientList.contains(newPatient));
+    }
+
     @Test
     public void equals() {
         String sortAttribute = "name";
@@ -0,0 +1,23 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.StatsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_showsReport() {
+        StatsCenter.reset();
+        StatsCenter.recordLatency("list execute", 1_000_000);
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, StatsCenter.getReport());
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
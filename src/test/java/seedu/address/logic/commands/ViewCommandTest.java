@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.query.OrQuery;
+import seedu.address.model.patient.query.PatientQuery;
+import seedu.address.model.patient.query.TagQuery;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PatientBuilder;
+
+public class ViewCommandTest {
+
+    private static final PatientQuery DIABETES_OR_DEPRESSION = new OrQuery(List.of(
+            new TagQuery(new Tag("diabetes")), new TagQuery(new Tag("depression"))));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_query_viewSavedAndListed() throws Exception {
+        CommandResult result = new ViewCommand("mood", DIABETES_OR_DEPRESSION).execute(model);
+        assertEquals(String.format(ViewCommand.MESSAGE_SAVED, "mood", 2), result.getFeedbackToUser());
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredPatientList());
+        assertTrue(model.getSavedView("mood").isPresent());
+    }
+
+    @Test
+    public void execute_savedView_keptUpToDateAsPatientsChange() throws Exception {
+        new ViewCommand("mood", DIABETES_OR_DEPRESSION).execute(model);
+        model.deletePatient(ALICE);
+        Patient editedCarl = new PatientBuilder(CARL).withTags("diabetes").build();
+        model.setPatient(CARL, editedCarl);
+        Patient newPatient = new PatientBuilder().withPatientHospitalId("99999").withTags("depression").build();
+        model.addPatient(newPatient);
+
+        CommandResult result = new ViewCommand("mood", null).execute(model);
+        assertEquals(String.format(ViewCommand.MESSAGE_LISTED, "mood", 3), result.getFeedbackToUser());
+        assertEquals(List.of(BENSON, editedCarl, newPatient), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_patientEditedWhileViewListed_listUpdated() throws Exception {
+        new ViewCommand("mood", DIABETES_OR_DEPRESSION).execute(model);
+        Patient editedBenson = new PatientBuilder(BENSON).withTags("cholesterol").build();
+        model.setPatient(BENSON, editedBenson);
+        assertEquals(List.of(ALICE), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_unknownView_throwsCommandException() {
+        assertCommandFailure(new ViewCommand("unknown", null), model,
+                String.format(Messages.MESSAGE_UNKNOWN_VIEW, "unknown"));
+    }
+
+    @Test
+    public void equals() {
+        ViewCommand viewCommand = new ViewCommand("mood", DIABETES_OR_DEPRESSION);
+
+        assertTrue(viewCommand.equals(viewCommand));
+        assertTrue(viewCommand.equals(new ViewCommand("mood", DIABETES_OR_DEPRESSION)));
+        assertFalse(viewCommand.equals(new ViewCommand("mood", null)));
+        assertFalse(viewCommand.equals(new ViewCommand("other", DIABETES_OR_DEPRESSION)));
+        assertFalse(viewCommand.equals(null));
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.AddTagsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
@@ -54,6 +55,17 @@ public class AddTagsCommandParserTest {
         assertEquals(expectedCommand, command);
     }
 
+    @Test
+    public void parse_indexRangesAndAll_returnsAddTagsCommand() throws ParseException {
+        Set<Tag> tags = Set.of(new Tag(VALID_TAG_DEPRESSION));
+
+        IndexSelection expectedIndexes = IndexSelection.ofRange(INDEX_FIRST_PATIENT, INDEX_SECOND_PATIENT)
+                .union(IndexSelection.of(Index.fromOneBased(5)));
+        assertEquals(new AddTagsCommand(expectedIndexes, tags), parser.parse("1-2,5" + TAG_DESC_DEPRESSION));
+
+        assertEquals(new AddTagsCommand(IndexSelection.allShown(), tags), parser.parse("all" + TAG_DESC_DEPRESSION));
+    }
+
     @Test
     public void parse_validDifferentCasesArgs_returnsAddTagsCommand() throws ParseException {
         Index targetIndex = INDEX_SECOND_PATIENT;
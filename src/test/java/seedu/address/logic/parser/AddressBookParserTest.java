@@ -13,10 +13,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -24,7 +27,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.commands.AddTagsCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteEventCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -33,13 +38,22 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindTagsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.patient.EditPatientDescriptor;
 import seedu.address.model.patient.Event;
 import seedu.address.model.patient.NameContainsKeywordsPredicate;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientHospitalId;
 import seedu.address.model.patient.TagContainsKeywordsPredicate;
+import seedu.address.model.patient.query.HospitalIdRangeQuery;
+import seedu.address.model.patient.query.TagQuery;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPatientDescriptorBuilder;
 import seedu.address.testutil.PatientBuilder;
@@ -63,6 +77,19 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_transaction() throws Exception {
+        assertTrue(parser.parseCommand(BeginCommand.COMMAND_WORD) instanceof BeginCommand);
+        assertTrue(parser.parseCommand(CommitCommand.COMMAND_WORD) instanceof CommitCommand);
+        assertTrue(parser.parseCommand(RollbackCommand.COMMAND_WORD) instanceof RollbackCommand);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -123,6 +150,20 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        List<String> keywords = Arrays.asList("fish", "dancing");
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " " + String.join(" ", keywords));
+        assertEquals(new SearchCommand(keywords), command);
+    }
+
+    @Test
+    public void parseCommand_view() throws Exception {
+        ViewCommand command = (ViewCommand) parser.parseCommand(ViewCommand.COMMAND_WORD + " isolation t/isolation");
+        assertEquals(new ViewCommand("isolation", new TagQuery(new Tag("isolation"))), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -137,6 +178,13 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_listIdRange() throws Exception {
+        ListCommand command = (ListCommand) parser.parseCommand(ListCommand.COMMAND_WORD + " id/10000-20000");
+        assertEquals(new ListCommand(new HospitalIdRangeQuery(new PatientHospitalId("10000"),
+                new PatientHospitalId("20000"))), command);
+    }
+
     @Test
     public void parseCommand_deleteEvent() throws Exception {
         String args = "1 " + PREFIX_EVENT + "1";
@@ -160,6 +208,49 @@ public class AddressBookParserTest {
             -> parser.parseCommand(""));
     }
 
+    @Test
+    public void parseCommand_commandWordSeparatedByTab_success() throws Exception {
+        assertEquals(new SortCommand(NAME_COMPARATOR), parser.parseCommand(SortCommand.COMMAND_WORD + "\tn"));
+    }
+
+    @Test
+    public void parseCommand_multiLineInput_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(ListCommand.COMMAND_WORD + "\n" + ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals(Optional.of(DeleteCommand.COMMAND_WORD), parser.getCommandWord("  delete 1"));
+        assertEquals(Optional.of(ListCommand.COMMAND_WORD), parser.getCommandWord(ListCommand.COMMAND_WORD));
+        assertEquals(Optional.empty(), parser.getCommandWord("unknownCommand 1"));
+        assertEquals(Optional.empty(), parser.getCommandWord(""));
+    }
+
+    @Test
+    public void getCommandWords_containsAllCommands() {
+        Set<String> commandWords = parser.getCommandWords();
+        assertTrue(commandWords.containsAll(List.of(AddCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD,
+                DeleteCommand.COMMAND_WORD, EditCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+                FindCommand.COMMAND_WORD, FindTagsCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD, SortCommand.COMMAND_WORD)));
+        assertEquals(new ArrayList<>(new TreeSet<>(commandWords)), new ArrayList<>(commandWords));
+    }
+
+    @Test
+    public void parseCommand_customRegistry_onlyRegisteredCommandsRecognised() throws Exception {
+        AddressBookParser customParser = new AddressBookParser(
+                new CommandRegistry().register(ListCommand.COMMAND_WORD, arguments -> new ListCommand()));
+        assertTrue(customParser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, ()
+            -> customParser.parseCommand(ClearCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
@@ -4,9 +4,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.exceptions.ParseException;
+
 public class ArgumentTokenizerTest {
 
     private final Prefix unknownPrefix = new Prefix("--u");
@@ -136,6 +145,64 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixMatched() {
+        Prefix pSlashLong = new Prefix("p/x");
+        String argsString = "preamble p/x long value p/ short value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashLong);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlashLong, "long value");
+        assertArgumentPresent(argMultimap, pSlash, "short value");
+    }
+
+    @Test
+    public void tokenize_prefixWithinAnotherPrefix_notMatched() {
+        // "d/" inside "id/" is not preceded by a whitespace
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" id/123 d/01-01-2024", PREFIX_PID, PREFIX_DATETIME);
+        assertArgumentPresent(argMultimap, PREFIX_PID, "123");
+        assertArgumentPresent(argMultimap, PREFIX_DATETIME, "01-01-2024");
+    }
+
+    @Test
+    public void tokenizeAllowingOnly_onlyAllowedPrefixes_success() throws Exception {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizeAllowingOnly("1 t/ fall risk t/diabetes", PREFIX_TAG);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, PREFIX_TAG, "fall risk", "diabetes");
+
+        // unknown prefixes are part of the values
+        argMultimap = ArgumentTokenizer.tokenizeAllowingOnly("1 t/ fall -t risk", PREFIX_TAG);
+        assertArgumentPresent(argMultimap, PREFIX_TAG, "fall -t risk");
+    }
+
+    @Test
+    public void tokenizeAllowingOnly_disallowedPrefix_throwsParseException() {
+        assertThrows(ParseException.class, String.format(ArgumentTokenizer.INVALID_PREFIXES_MESSAGE, PREFIX_TAG), ()
+            -> ArgumentTokenizer.tokenizeAllowingOnly("1 t/ fall risk n/Alice", PREFIX_TAG));
+        assertThrows(ParseException.class, String.format(ArgumentTokenizer.INVALID_PREFIXES_MESSAGE,
+                List.of(PREFIX_NAME, PREFIX_DATETIME)), ()
+            -> ArgumentTokenizer.tokenizeAllowingOnly("1 n/Visit t/risk d/01-01-2024", PREFIX_NAME, PREFIX_DATETIME));
+    }
+
+    @Test
+    public void tokenize_preparedPrefixesReused_sameResults() throws Exception {
+        ArgumentTokenizer.Prefixes prefixes = new ArgumentTokenizer.Prefixes(pSlash, dashT);
+        String argsString = "SomePreambleString -t dashT-Value p/pSlash value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, prefixes);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+
+        argMultimap = ArgumentTokenizer.tokenize(" p/other", prefixes);
+        assertArgumentPresent(argMultimap, pSlash, "other");
+        assertArgumentAbsent(argMultimap, dashT);
+
+        ArgumentTokenizer.Prefixes tagPrefixes = new ArgumentTokenizer.Prefixes(PREFIX_TAG);
+        argMultimap = ArgumentTokenizer.tokenizeAllowingOnly("1 t/ fall risk t/diabetes", tagPrefixes);
+        assertArgumentPresent(argMultimap, PREFIX_TAG, "fall risk", "diabetes");
+        assertThrows(ParseException.class, String.format(ArgumentTokenizer.INVALID_PREFIXES_MESSAGE, PREFIX_TAG), ()
+            -> ArgumentTokenizer.tokenizeAllowingOnly("1 t/ fall risk n/Alice", tagPrefixes));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
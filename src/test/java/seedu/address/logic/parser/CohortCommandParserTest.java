@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CohortCommand;
+import seedu.address.model.patient.query.AndQuery;
+import seedu.address.model.patient.query.CohortQuery;
+import seedu.address.model.patient.query.NotQuery;
+import seedu.address.model.patient.query.TagQuery;
+import seedu.address.model.tag.Tag;
+
+public class CohortCommandParserTest {
+
+    private final CohortCommandParser parser = new CohortCommandParser();
+
+    @Test
+    public void parse_nameAndQuery_success() {
+        assertParseSuccess(parser, " Diabetic t/diabetes NOT co/Mood", new CohortCommand("diabetic",
+                new AndQuery(List.of(new TagQuery(new Tag("diabetes")), new NotQuery(new CohortQuery("mood"))))));
+    }
+
+    @Test
+    public void parse_nameOnly_success() {
+        assertParseSuccess(parser, " diabetic ", new CohortCommand("diabetic", null));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, CohortCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " t/diabetes", ParserUtil.MESSAGE_INVALID_COHORT_NAME);
+        assertParseFailure(parser, " diabetic co/", String.format(QueryCommandParser.MESSAGE_MISSING_VALUE,
+                CliSyntax.PREFIX_COHORT));
+    }
+}
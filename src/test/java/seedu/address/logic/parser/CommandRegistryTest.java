@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry commandRegistry = new CommandRegistry();
+
+    @Test
+    public void register_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> commandRegistry.register(null, arguments -> new ListCommand()));
+        assertThrows(NullPointerException.class, () -> commandRegistry.register(ListCommand.COMMAND_WORD, null));
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        commandRegistry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        assertThrows(IllegalArgumentException.class, ()
+            -> commandRegistry.register(ListCommand.COMMAND_WORD, arguments -> new ClearCommand()));
+    }
+
+    @Test
+    public void getParser_registeredCommandWord_returnsSameParser() {
+        Parser<ListCommand> parser = arguments -> new ListCommand();
+        commandRegistry.register(ListCommand.COMMAND_WORD, parser);
+        assertTrue(commandRegistry.getParser(ListCommand.COMMAND_WORD).get() == parser);
+        assertFalse(commandRegistry.getParser(ClearCommand.COMMAND_WORD).isPresent());
+    }
+
+    @Test
+    public void getCommandWords_returnsWordsInAlphabeticalOrder() {
+        commandRegistry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        commandRegistry.register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        assertEquals(List.of(ClearCommand.COMMAND_WORD, ListCommand.COMMAND_WORD),
+                List.copyOf(commandRegistry.getCommandWords()));
+    }
+}
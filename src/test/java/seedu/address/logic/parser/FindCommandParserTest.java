@@ -9,6 +9,8 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
+import seedu.address.logic.commands.PhoneticFindCommand;
 import seedu.address.model.patient.NameContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -31,4 +33,44 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyMode_returnsFuzzyFindCommand() {
+        FuzzyFindCommand expectedFuzzyFindCommand = new FuzzyFindCommand(Arrays.asList("Alcie", "Bob"));
+        assertParseSuccess(parser, "m/fuzzy Alcie Bob", expectedFuzzyFindCommand);
+        assertParseSuccess(parser, " m/FUZZY \t Alcie  Bob ", expectedFuzzyFindCommand);
+
+        // mode not given first -> treated as a keyword
+        assertParseSuccess(parser, "Alcie m/fuzzy",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alcie", "m/fuzzy"))));
+    }
+
+    @Test
+    public void parse_modeWords_searchedAsNames() {
+        assertParseSuccess(parser, "fuzzy",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("fuzzy"))));
+        assertParseSuccess(parser, "Fuzzy Sounds Alice",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Fuzzy", "Sounds", "Alice"))));
+    }
+
+    @Test
+    public void parse_modeOnly_throwsParseException() {
+        assertParseFailure(parser, " m/fuzzy ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unknownMode_throwsParseException() {
+        assertParseFailure(parser, "m/exact Alice", String.format(FindCommand.MESSAGE_UNKNOWN_MODE, "exact"));
+    }
+
+    @Test
+    public void parse_phoneticMode_returnsPhoneticFindCommand() {
+        PhoneticFindCommand expectedPhoneticFindCommand = new PhoneticFindCommand(Arrays.asList("Kathryn", "Smyth"));
+        assertParseSuccess(parser, "m/sounds Kathryn Smyth", expectedPhoneticFindCommand);
+        assertParseSuccess(parser, " m/Sounds \n Kathryn  Smyth ", expectedPhoneticFindCommand);
+
+        assertParseFailure(parser, "m/sounds",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
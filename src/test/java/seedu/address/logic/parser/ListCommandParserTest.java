@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.patient.PatientHospitalId;
+import seedu.address.model.patient.query.HospitalIdRangeQuery;
+
+public class ListCommandParserTest {
+
+    private ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_noIdRange_returnsListAllCommand() {
+        assertParseSuccess(parser, "", new ListCommand());
+        assertParseSuccess(parser, " 123", new ListCommand());
+    }
+
+    @Test
+    public void parse_idRange_returnsListCommand() {
+        assertParseSuccess(parser, " id/10000-20000", new ListCommand(new HospitalIdRangeQuery(
+                new PatientHospitalId("10000"), new PatientHospitalId("20000"))));
+
+        // single ID
+        assertParseSuccess(parser, " id/ 12345 ", new ListCommand(new HospitalIdRangeQuery(
+                new PatientHospitalId("12345"), new PatientHospitalId("12345"))));
+    }
+
+    @Test
+    public void parse_invalidIdRange_throwsParseException() {
+        assertParseFailure(parser, " id/20000-10000", ParserUtil.MESSAGE_INVALID_ID_RANGE);
+        assertParseFailure(parser, " id/", ParserUtil.MESSAGE_INVALID_ID_RANGE);
+        assertParseFailure(parser, " id/1-2 id/3-4",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_PID));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_SELECTION;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
 
@@ -13,6 +14,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.patient.FamilyCondition;
 import seedu.address.model.patient.FoodPreference;
@@ -62,6 +65,34 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PATIENT, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexSelection_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_SELECTION, () -> ParserUtil.parseIndexSelection(""));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_SELECTION, ()
+            -> ParserUtil.parseIndexSelection("1,"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_SELECTION, ()
+            -> ParserUtil.parseIndexSelection("0-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_SELECTION, ()
+            -> ParserUtil.parseIndexSelection("5-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_SELECTION, ()
+            -> ParserUtil.parseIndexSelection("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_SELECTION, ()
+            -> ParserUtil.parseIndexSelection("1 2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_SELECTION, ()
+            -> ParserUtil.parseIndexSelection("everyone"));
+    }
+
+    @Test
+    public void parseIndexSelection_validInput_success() throws Exception {
+        assertEquals(IndexSelection.of(INDEX_FIRST_PATIENT), ParserUtil.parseIndexSelection(" 1 "));
+        assertEquals(IndexSelection.allShown(), ParserUtil.parseIndexSelection(" ALL "));
+
+        IndexSelection expectedSelection = IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(200))
+                .union(IndexSelection.of(Index.fromOneBased(305)));
+        assertEquals(expectedSelection, ParserUtil.parseIndexSelection("1-200,305"));
+        assertEquals(expectedSelection, ParserUtil.parseIndexSelection(" 305 , 1 - 150, 100-200 "));
+    }
+
     @Test
     public void parsePatientHospitalId_invalidInput_throwsParseException() {
         assertThrows(ParseException.class, () -> ParserUtil.parseIndex("102 a"));
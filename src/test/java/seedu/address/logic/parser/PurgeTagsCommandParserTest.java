@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.PurgeTagsCommand;
+import seedu.address.model.tag.Tag;
+
+public class PurgeTagsCommandParserTest {
+
+    private final PurgeTagsCommandParser parser = new PurgeTagsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsPurgeTagsCommand() {
+        assertParseSuccess(parser, " t/obsolete t/OLD code",
+                new PurgeTagsCommand(Set.of(new Tag("obsolete"), new Tag("old code"))));
+    }
+
+    @Test
+    public void parse_missingTagsOrPreamble_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, PurgeTagsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " ", expectedMessage);
+        assertParseFailure(parser, " 1 t/obsolete", expectedMessage);
+    }
+}
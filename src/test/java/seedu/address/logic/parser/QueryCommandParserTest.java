@@ -0,0 +1,116 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.patient.PatientHospitalId;
+import seedu.address.model.patient.query.AndQuery;
+import seedu.address.model.patient.query.EventDateQuery;
+import seedu.address.model.patient.query.FieldContainsWordsQuery;
+import seedu.address.model.patient.query.FieldContainsWordsQuery.Field;
+import seedu.address.model.patient.query.HospitalIdRangeQuery;
+import seedu.address.model.patient.query.NotQuery;
+import seedu.address.model.patient.query.OrQuery;
+import seedu.address.model.patient.query.TagQuery;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private static final TagQuery DIABETES = new TagQuery(new Tag("diabetes"));
+    private static final FieldContainsWordsQuery VEGETARIAN =
+            new FieldContainsWordsQuery(Field.FOOD_PREFERENCE, List.of("vegetarian"));
+
+    private final QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_singleCondition_success() {
+        assertParseSuccess(parser, " t/Diabetes", new QueryCommand(DIABETES));
+        assertParseSuccess(parser, " n/alex  yeoh", new QueryCommand(
+                new FieldContainsWordsQuery(Field.NAME, List.of("alex", "yeoh"))));
+        assertParseSuccess(parser, " id/10000 - 20000", new QueryCommand(new HospitalIdRangeQuery(
+                new PatientHospitalId("10000"), new PatientHospitalId("20000"))));
+        assertParseSuccess(parser, " id/12345", new QueryCommand(new HospitalIdRangeQuery(
+                new PatientHospitalId("12345"), new PatientHospitalId("12345"))));
+        assertParseSuccess(parser, " d/01-10-2024 to 07-10-2024", new QueryCommand(new EventDateQuery(
+                LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 7))));
+    }
+
+    @Test
+    public void parse_relativeDates_success() {
+        LocalDate today = LocalDate.now();
+        LocalDate monday = today.with(DayOfWeek.MONDAY);
+        assertParseSuccess(parser, " d/today", new QueryCommand(new EventDateQuery(today, today)));
+        assertParseSuccess(parser, " d/This Week", new QueryCommand(new EventDateQuery(monday, monday.plusDays(6))));
+    }
+
+    @Test
+    public void parse_operators_andBindsTighterThanOr() {
+        FieldContainsWordsQuery hobby = new FieldContainsWordsQuery(Field.HOBBY, List.of("mahjong"));
+        assertParseSuccess(parser, " t/diabetes AND f/vegetarian OR h/mahjong",
+                new QueryCommand(new OrQuery(List.of(new AndQuery(List.of(DIABETES, VEGETARIAN)), hobby))));
+        assertParseSuccess(parser, " t/diabetes AND (f/vegetarian OR NOT h/mahjong)",
+                new QueryCommand(new AndQuery(List.of(DIABETES,
+                        new OrQuery(List.of(VEGETARIAN, new NotQuery(hobby)))))));
+    }
+
+    @Test
+    public void parse_adjacentConditions_combinedWithAnd() {
+        assertParseSuccess(parser, " t/diabetes f/vegetarian",
+                new QueryCommand(new AndQuery(List.of(DIABETES, VEGETARIAN))));
+        assertParseSuccess(parser, "(t/diabetes)(f/vegetarian)",
+                new QueryCommand(new AndQuery(List.of(DIABETES, VEGETARIAN))));
+    }
+
+    @Test
+    public void parse_lowerCaseOperator_partOfValue() {
+        assertParseSuccess(parser, " c/wife and son", new QueryCommand(
+                new FieldContainsWordsQuery(Field.FAMILY_CONDITION, List.of("wife", "and", "son"))));
+    }
+
+    @Test
+    public void parse_parenthesesInValue_partOfValue() {
+        FieldContainsWordsQuery typeTwo =
+                new FieldContainsWordsQuery(Field.FAMILY_CONDITION, List.of("Diabetes", "(type", "2)"));
+        assertParseSuccess(parser, " c/Diabetes (type 2)", new QueryCommand(typeTwo));
+        assertParseSuccess(parser, " (c/Diabetes (type 2))", new QueryCommand(typeTwo));
+        assertParseSuccess(parser, " (c/Diabetes (type 2) OR t/diabetes) f/vegetarian",
+                new QueryCommand(new AndQuery(List.of(new OrQuery(List.of(typeTwo, DIABETES)), VEGETARIAN))));
+        assertParseSuccess(parser, " c/(type", new QueryCommand(
+                new FieldContainsWordsQuery(Field.FAMILY_CONDITION, List.of("(type"))));
+    }
+
+    @Test
+    public void parse_malformedQuery_throwsParseException() {
+        assertParseFailure(parser, " diabetes", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN,
+                QueryCommandParser.OPERATOR_NOT, QueryCommandParser.OPEN_PARENTHESIS, "diabetes"));
+        assertParseFailure(parser, " t/diabetes AND", QueryCommandParser.MESSAGE_UNEXPECTED_END);
+        assertParseFailure(parser, " (t/diabetes", QueryCommandParser.MESSAGE_UNEXPECTED_END);
+        assertParseFailure(parser, " t/diabetes)", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN,
+                QueryCommandParser.OPERATOR_OR, QueryCommandParser.OPERATOR_AND, ")"));
+        assertParseFailure(parser, " t/ AND n/alex", String.format(QueryCommandParser.MESSAGE_MISSING_VALUE,
+                CliSyntax.PREFIX_TAG));
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " t/wheel-chair", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " id/20000-10000", ParserUtil.MESSAGE_INVALID_ID_RANGE);
+        assertParseFailure(parser, " id/1-2-3", ParserUtil.MESSAGE_INVALID_ID_RANGE);
+        assertParseFailure(parser, " id/abc", ParserUtil.MESSAGE_INVALID_ID_RANGE);
+        assertParseFailure(parser, " d/07-10-2024 to 01-10-2024", QueryCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " d/next week", QueryCommandParser.MESSAGE_INVALID_DATE_RANGE);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.getErrorMessageForDuplicatePrefixes;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RenameTagsCommand;
+import seedu.address.model.tag.Tag;
+
+public class RenameTagsCommandParserTest {
+
+    private final RenameTagsCommandParser parser = new RenameTagsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRenameTagsCommand() {
+        assertParseSuccess(parser, " t/wheel chair t/Wheelchairs n/ Wheelchair",
+                new RenameTagsCommand(Set.of(new Tag("wheel chair"), new Tag("wheelchairs")), new Tag("wheelchair")));
+    }
+
+    @Test
+    public void parse_missingPartsOrPreamble_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RenameTagsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " t/wheel chair", expectedMessage);
+        assertParseFailure(parser, " n/wheelchair", expectedMessage);
+        assertParseFailure(parser, " 1 t/wheel chair n/wheelchair", expectedMessage);
+    }
+
+    @Test
+    public void parse_repeatedNewTag_failure() {
+        assertParseFailure(parser, " t/wheel chair n/wheelchair n/chair",
+                getErrorMessageForDuplicatePrefixes(PREFIX_NAME));
+    }
+
+    @Test
+    public void parse_invalidTag_failure() {
+        assertParseFailure(parser, " t/wheel chair n/wheel-chair", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " " + RunCommand.ALL_OR_NOTHING_KEYWORD, expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " data/admissions.txt ", new RunCommand(Paths.get("data/admissions.txt"), false));
+
+        // file path with spaces
+        assertParseSuccess(parser, " my scripts/admissions.txt",
+                new RunCommand(Paths.get("my scripts/admissions.txt"), false));
+    }
+
+    @Test
+    public void parse_allOrNothing_returnsRunCommand() {
+        assertParseSuccess(parser, " atomic  data/admissions.txt",
+                new RunCommand(Paths.get("data/admissions.txt"), true));
+        assertParseSuccess(parser, " ATOMIC data/admissions.txt",
+                new RunCommand(Paths.get("data/admissions.txt"), true));
+    }
+}
@@ -3,12 +3,16 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.model.patient.comparators.NameComparator.NAME_COMPARATOR;
+import static seedu.address.model.patient.comparators.PatientHospitalIdComparator.PATIENT_HOSPITAL_ID_COMPARATOR;
 import static seedu.address.model.patient.comparators.PreferredNameComparator.PREFERRED_NAME_COMPARATOR;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.patient.comparators.MultiKeyComparator;
 
 public class SortCommandParserTest {
 
@@ -90,6 +94,23 @@ public class SortCommandParserTest {
         assertEquals(expectedCommand, command);
     }
 
+    @Test
+    public void parse_multipleValidSortAttributes_returnsSortCommand() throws ParseException {
+        SortCommand expectedCommand = new SortCommand(
+                new MultiKeyComparator(List.of(PREFERRED_NAME_COMPARATOR, PATIENT_HOSPITAL_ID_COMPARATOR)));
+        assertEquals(expectedCommand, parser.parse("p id"));
+        assertEquals(expectedCommand, parser.parse("  P   ID "));
+
+        // Test for arg: id
+        assertEquals(new SortCommand(PATIENT_HOSPITAL_ID_COMPARATOR), parser.parse("id"));
+    }
+
+    @Test
+    public void parse_repeatedSortAttribute_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("n n"));
+        assertThrows(ParseException.class, () -> parser.parse("p id p"));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         // Invalid sort Attribute of length 1
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.model.patient.query.TagQuery;
+import seedu.address.model.tag.Tag;
+
+public class ViewCommandParserTest {
+
+    private final ViewCommandParser parser = new ViewCommandParser();
+
+    @Test
+    public void parse_nameAndQuery_success() {
+        assertParseSuccess(parser, " Isolation t/isolation", new ViewCommand("isolation",
+                new TagQuery(new Tag("isolation"))));
+    }
+
+    @Test
+    public void parse_nameOnly_success() {
+        assertParseSuccess(parser, " isolation ", new ViewCommand("isolation", null));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " t/isolation", ParserUtil.MESSAGE_INVALID_VIEW_NAME);
+        assertParseFailure(parser, " isolation t/isolation OR co/ward", ViewCommandParser.MESSAGE_COHORT_IN_VIEW);
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StatsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.BeginCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AppMetricsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Logic logic;
+    private AppMetrics metrics;
+
+    @BeforeEach
+    public void setUp() {
+        StatsCenter.reset();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(temporaryFolder.resolve("addressBook.json"));
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(userPrefs.getAddressBookFilePath()),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(getTypicalAddressBook(), userPrefs), storage);
+        metrics = new AppMetrics(logic);
+    }
+
+    @Test
+    public void counts_typicalAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        int eventCount = addressBook.getPatientList().stream().mapToInt(patient -> patient.getEvents().size()).sum();
+        int tagCount = addressBook.getPatientList().stream()
+                .map(Patient::getTags)
+                .flatMap(tags -> tags.stream())
+                .collect(Collectors.toSet())
+                .size();
+
+        assertEquals(addressBook.getPatientList().size(), metrics.getPatientCount());
+        assertEquals(eventCount, metrics.getEventCount());
+        assertEquals(tagCount, metrics.getTagCount());
+        assertEquals(addressBook.getPatientList().size(), metrics.getDisplayedPatientCount());
+    }
+
+    @Test
+    public void save_nothingSavedBefore_savesAndRecordsSave() {
+        assertEquals(-1, metrics.getLastSaveSizeBytes());
+        assertEquals(-1.0, metrics.getLastSaveDurationMillis());
+
+        String message = metrics.save();
+
+        Path addressBookFile = temporaryFolder.resolve("addressBook.json");
+        assertEquals(String.format(AppMetrics.MESSAGE_SAVED, addressBookFile), message);
+        assertTrue(metrics.getLastSaveDurationMillis() >= 0);
+        assertEquals(addressBookFile.toFile().length(), metrics.getLastSaveSizeBytes());
+        assertTrue(Files.exists(addressBookFile));
+    }
+
+    @Test
+    public void save_inTransaction_throwsIllegalStateException() throws Exception {
+        logic.execute(BeginCommand.COMMAND_WORD);
+        assertTrue(metrics.isInTransaction());
+        assertTrue(metrics.isUnsavedChanges());
+        assertThrows(IllegalStateException.class, LogicManager.MESSAGE_SAVE_IN_TRANSACTION, metrics::save);
+    }
+
+    @Test
+    public void getCommandCounts_commandsExecuted_countedByCommandWord() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+
+        assertEquals(Map.of(DeleteCommand.COMMAND_WORD, 1L, ListCommand.COMMAND_WORD, 2L),
+                metrics.getCommandCounts());
+        assertFalse(metrics.isUnsavedChanges());
+        assertEquals(getTypicalAddressBook().getPatientList().size() - 1, metrics.getPatientCount());
+    }
+
+    @Test
+    public void register_platformServer_readableThroughJmx() throws Exception {
+        metrics.register();
+        // Registering again replaces the metrics
+        metrics.register();
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(AppMetrics.OBJECT_NAME);
+        try {
+            assertEquals(metrics.getPatientCount(), server.getAttribute(name, "PatientCount"));
+            assertEquals(false, server.getAttribute(name, "UnsavedChanges"));
+            assertEquals(1, ((TabularData) server.getAttribute(name, "CommandCounts")).size());
+            assertEquals(String.format(AppMetrics.MESSAGE_SAVED, temporaryFolder.resolve("addressBook.json")),
+                    server.invoke(name, "save", new Object[0], new String[0]));
+            assertTrue(((String) server.invoke(name, "dumpStats", new Object[0], new String[0]))
+                    .contains(ListCommand.COMMAND_WORD + " execute"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains unit tests for {@code AddressBookSnapshot}, and stress tests of readers taking snapshots of a
+ * {@code ModelManager} on other threads while it is changed.
+ */
+public class AddressBookSnapshotTest {
+
+    private static final int READER_COUNT = 4;
+    private static final int COMMAND_COUNT = 300;
+    private static final int PATIENT_COUNT = 20;
+
+    @Test
+    public void getPatientList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(List.of(ALICE), 0);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPatientList().remove(0));
+    }
+
+    @Test
+    public void getPatientList_sourceListChanged_unchanged() {
+        List<Patient> patients = new ArrayList<>(List.of(ALICE));
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(patients, 0);
+        patients.clear();
+        assertEquals(List.of(ALICE), snapshot.getPatientList());
+    }
+
+    @Test
+    public void getSnapshot_bulkEditsWhileReading_neverTorn() throws Exception {
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs());
+        for (int i = 0; i < PATIENT_COUNT; i++) {
+            model.addPatient(createPatient(i, "Round 0"));
+        }
+        model.commitVersion();
+
+        // Every command renames all patients at once, so every snapshot must hold a single preferred name
+        runWithReaders(model, round -> {
+            List<Patient> targets = new ArrayList<>(model.getAddressBook().getPatientList());
+            List<Patient> renamed = targets.stream()
+                    .map(patient -> new PatientBuilder(patient).withPreferredName("Round " + round).build())
+                    .collect(Collectors.toList());
+            model.setPatients(targets, renamed);
+        }, snapshot -> {
+            long preferredNameCount = snapshot.getPatientList().stream()
+                    .map(patient -> patient.getPreferredName().preferredName)
+                    .distinct()
+                    .count();
+            return snapshot.getPatientList().size() == PATIENT_COUNT && preferredNameCount == 1;
+        });
+    }
+
+    @Test
+    public void getSnapshot_commandsOfSeveralStepsWhileReading_neverTorn() throws Exception {
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs());
+
+        // Every command adds two patients and then deletes one, one model call at a time
+        runWithReaders(model, round -> {
+            model.addPatient(createPatient(2 * round, "Kept"));
+            model.addPatient(createPatient(2 * round + 1, "Deleted"));
+            model.deletePatient(createPatient(2 * round + 1, "Deleted"));
+        }, snapshot -> snapshot.getPatientList().stream()
+                .allMatch(patient -> patient.getPreferredName().preferredName.equals("Kept")));
+        assertEquals(COMMAND_COUNT, model.getSnapshot().getPatientList().size());
+    }
+
+    /**
+     * Runs {@code COMMAND_COUNT} commands on {@code model} on this thread, committing a version after each, while
+     * {@code READER_COUNT} threads take snapshots of it and check them with {@code isConsistent}. Fails if any
+     * snapshot is inconsistent, or if a reader sees the snapshot versions go back.
+     */
+    private static void runWithReaders(ModelManager model, Command command, SnapshotCheck isConsistent)
+            throws Exception {
+        AtomicBoolean isDone = new AtomicBoolean();
+        CountDownLatch readersStarted = new CountDownLatch(READER_COUNT);
+        ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            Thread reader = new Thread(() -> {
+                readersStarted.countDown();
+                long lastVersion = -1;
+                do {
+                    AddressBookSnapshot snapshot = model.getSnapshot();
+                    if (snapshot.getVersion() < lastVersion) {
+                        failures.add("Version went back from " + lastVersion + " to " + snapshot.getVersion());
+                    }
+                    if (!isConsistent.test(snapshot)) {
+                        failures.add("Torn snapshot at version " + snapshot.getVersion());
+                    }
+                    lastVersion = snapshot.getVersion();
+                } while (!isDone.get());
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        long firstVersion = model.getSnapshot().getVersion();
+        readersStarted.await();
+        try {
+            for (int round = 1; round <= COMMAND_COUNT; round++) {
+                command.run(round);
+                model.commitVersion();
+            }
+        } finally {
+            isDone.set(true);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+
+        assertEquals(List.of(), new ArrayList<>(failures));
+        assertEquals(firstVersion + COMMAND_COUNT, model.getSnapshot().getVersion());
+    }
+
+    private static Patient createPatient(int id, String preferredName) {
+        return new PatientBuilder().withPatientHospitalId(String.valueOf(10000 + id))
+                .withName("Patient " + id).withPreferredName(preferredName).build();
+    }
+
+    @FunctionalInterface
+    private interface Command {
+        void run(int round);
+    }
+
+    @FunctionalInterface
+    private interface SnapshotCheck {
+        boolean test(AddressBookSnapshot snapshot);
+    }
+}
@@ -2,21 +2,31 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.patient.NameContainsKeywordsPredicate;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.query.Cohort;
+import seedu.address.model.patient.query.PatientBitmapIndex;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PatientBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +103,181 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPatientList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPatientList_largeAddressBook_sameAsSequentialFilter() {
+        List<Patient> patients = IntStream.range(0, ModelManager.PARALLEL_FILTER_THRESHOLD)
+                .mapToObj(i -> new PatientBuilder().withPatientHospitalId(String.valueOf(i + 1)).build())
+                .collect(Collectors.toList());
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPatients(patients);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        Predicate<Patient> predicate = patient -> patient.getPatientHospitalId().getNumericKey() % 5 == 0;
+
+        modelManager.updateFilteredPatientList(predicate);
+        assertEquals(patients.stream().filter(predicate).collect(Collectors.toList()),
+                modelManager.getFilteredPatientList());
+
+        // patients edited after the filter is applied are tested directly
+        Patient edited = new PatientBuilder(patients.get(0)).withPatientHospitalId("99995").build();
+        modelManager.setPatient(patients.get(0), edited);
+        assertTrue(modelManager.getFilteredPatientList().contains(edited));
+    }
+
+    @Test
+    public void updateFilteredPatientList_repeatedFilter_reusesResultUntilListChanges() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPatient(ALICE).withPatient(BENSON).build(),
+                new UserPrefs());
+        CountingPredicate predicate = new CountingPredicate();
+
+        modelManager.updateFilteredPatientList(predicate);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPatientList());
+        int testCount = predicate.testCount;
+
+        modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        CountingPredicate equalPredicate = new CountingPredicate();
+        modelManager.updateFilteredPatientList(equalPredicate);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPatientList());
+        assertEquals(0, equalPredicate.testCount);
+        assertEquals(testCount, predicate.testCount);
+
+        modelManager.addPatient(CARL);
+        modelManager.updateFilteredPatientList(predicate);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPatientList());
+        assertTrue(predicate.testCount > testCount);
+    }
+
+    @Test
+    public void getPatientBitmapIndex_listChanged_sameIndexUpdated() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPatient(ALICE).withPatient(BENSON).build(),
+                new UserPrefs());
+        PatientBitmapIndex index = modelManager.getPatientBitmapIndex();
+
+        Patient editedAlice = new PatientBuilder(ALICE).withTags("isolation").build();
+        modelManager.setPatient(ALICE, editedAlice);
+        modelManager.addPatient(CARL);
+        modelManager.deletePatient(BENSON);
+
+        assertSame(index, modelManager.getPatientBitmapIndex());
+        assertEquals(2, index.getPatientCount());
+        assertEquals(index.getOrdinal(editedAlice), index.getOrdinal(ALICE.getPatientHospitalId()));
+        assertEquals(-1, index.getOrdinal(BENSON.getPatientHospitalId()));
+        assertEquals(List.of(editedAlice), Cohort.matching(index, patient -> patient.getTags().stream()
+                .anyMatch(tag -> tag.tagName.equals("isolation"))).getPatients());
+    }
+
+    @Test
+    public void undoRedo_deleteWhileFiltered_restoresPatientsAndFilter() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPatient(ALICE).withPatient(BENSON).build(),
+                new UserPrefs());
+        NameContainsKeywordsPredicate aliceOnly = new NameContainsKeywordsPredicate(List.of("Alice"));
+        modelManager.updateFilteredPatientList(aliceOnly);
+        modelManager.commitVersion();
+
+        modelManager.deletePatient(ALICE);
+        modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        modelManager.commitVersion();
+
+        assertTrue(modelManager.undo());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPatientList());
+        assertEquals(List.of(ALICE), modelManager.getFilteredPatientList());
+        assertFalse(modelManager.undo());
+
+        assertTrue(modelManager.redo());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPatientList());
+        assertFalse(modelManager.redo());
+    }
+
+    @Test
+    public void commitVersion_noPatientsReplaced_noVersionAdded() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPatient(ALICE).build(), new UserPrefs());
+        modelManager.addPatient(BENSON);
+        modelManager.commitVersion();
+
+        modelManager.setPatients(List.of(), List.of());
+        modelManager.commitVersion();
+
+        // the first undo reverts the addition, as no version was added for the empty replacement
+        assertTrue(modelManager.undo());
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPatientList());
+        assertFalse(modelManager.undo());
+    }
+
+    @Test
+    public void rollBackTransaction_severalCommands_restoresPatientsAndFilter() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPatient(ALICE).withPatient(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPatientList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        modelManager.beginTransaction();
+
+        modelManager.deletePatient(BENSON);
+        modelManager.commitVersion();
+        modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        modelManager.setPatient(ALICE, new PatientBuilder(ALICE).withName("Alicia").build());
+        modelManager.commitVersion();
+        assertEquals(1, modelManager.getFilteredPatientList().size());
+
+        modelManager.rollBackTransaction();
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPatientList());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPatientList());
+        assertFalse(modelManager.undo());
+    }
+
+    @Test
+    public void commitTransaction_severalCommands_undoneAsOneVersion() {
+        modelManager.beginTransaction();
+        modelManager.addPatient(ALICE);
+        modelManager.commitVersion();
+        modelManager.addPatient(BENSON);
+        modelManager.commitVersion();
+        modelManager.commitTransaction();
+        modelManager.commitVersion();
+
+        assertTrue(modelManager.undo());
+        assertEquals(List.of(), modelManager.getAddressBook().getPatientList());
+        assertFalse(modelManager.undo());
+    }
+
+    @Test
+    public void getSnapshot_changesNotCommitted_unchanged() {
+        AddressBookSnapshot emptySnapshot = modelManager.getSnapshot();
+        modelManager.addPatient(ALICE);
+        assertSame(emptySnapshot, modelManager.getSnapshot());
+
+        modelManager.commitVersion();
+        AddressBookSnapshot snapshot = modelManager.getSnapshot();
+        assertEquals(List.of(ALICE), snapshot.getPatientList());
+        assertTrue(snapshot.getVersion() > emptySnapshot.getVersion());
+        assertEquals(List.of(), emptySnapshot.getPatientList());
+
+        // Changes in a transaction are only published once it is committed
+        modelManager.beginTransaction();
+        modelManager.addPatient(BENSON);
+        modelManager.commitVersion();
+        assertSame(snapshot, modelManager.getSnapshot());
+        modelManager.commitTransaction();
+        modelManager.commitVersion();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getSnapshot().getPatientList());
+
+        // Filtering the list does not change the address book
+        snapshot = modelManager.getSnapshot();
+        modelManager.updateFilteredPatientList(new NameContainsKeywordsPredicate(List.of("Alice")));
+        modelManager.commitVersion();
+        assertSame(snapshot, modelManager.getSnapshot());
+    }
+
+    @Test
+    public void commitVersion_afterUndo_discardsRedo() {
+        modelManager.addPatient(ALICE);
+        modelManager.commitVersion();
+        assertTrue(modelManager.undo());
+
+        modelManager.addPatient(BENSON);
+        modelManager.commitVersion();
+        assertFalse(modelManager.redo());
+        assertEquals(List.of(BENSON), modelManager.getAddressBook().getPatientList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPatient(ALICE).withPatient(BENSON).build();
@@ -129,4 +314,27 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * Matches {@code ALICE} only, and counts how many times it has been tested.
+     */
+    private static class CountingPredicate implements Predicate<Patient> {
+        private int testCount;
+
+        @Override
+        public boolean test(Patient patient) {
+            testCount++;
+            return patient.isSamePatient(ALICE);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CountingPredicate;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
 }
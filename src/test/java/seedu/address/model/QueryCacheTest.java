@@ -0,0 +1,75 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.patient.NameContainsKeywordsPredicate;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.query.Cohort;
+import seedu.address.model.patient.query.PatientBitmapIndex;
+
+public class QueryCacheTest {
+
+    private final PatientBitmapIndex index = new PatientBitmapIndex(List.of(ALICE, BENSON));
+    private final Cohort alice = Cohort.of(index, List.of(ALICE));
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCache(0));
+    }
+
+    @Test
+    public void get_equalPredicateSameGeneration_returnsCachedResult() {
+        QueryCache cache = new QueryCache();
+        cache.put(new NameContainsKeywordsPredicate(List.of("Alice")), 3, alice);
+        assertSame(alice, cache.get(new NameContainsKeywordsPredicate(List.of("Alice")), 3).get());
+        assertEquals(Optional.empty(), cache.get(new NameContainsKeywordsPredicate(List.of("Benson")), 3));
+    }
+
+    @Test
+    public void get_otherGeneration_forgetsResult() {
+        QueryCache cache = new QueryCache();
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+        cache.put(predicate, 3, alice);
+        assertEquals(Optional.empty(), cache.get(predicate, 4));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_overCapacity_evictsLeastRecentlyUsed() {
+        QueryCache cache = new QueryCache(2);
+        NameContainsKeywordsPredicate first = new NameContainsKeywordsPredicate(List.of("Alice"));
+        NameContainsKeywordsPredicate second = new NameContainsKeywordsPredicate(List.of("Benson"));
+        NameContainsKeywordsPredicate third = new NameContainsKeywordsPredicate(List.of("Carl"));
+        cache.put(first, 0, alice);
+        cache.put(second, 0, alice);
+        cache.get(first, 0);
+        cache.put(third, 0, alice);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(first, 0).isPresent());
+        assertFalse(cache.get(second, 0).isPresent());
+        assertTrue(cache.get(third, 0).isPresent());
+    }
+
+    @Test
+    public void put_predicateWithoutEquals_notCached() {
+        QueryCache cache = new QueryCache();
+        Predicate<Patient> lambda = patient -> true;
+        cache.put(lambda, 0, alice);
+        assertEquals(0, cache.size());
+        assertFalse(QueryCache.isCacheable(lambda));
+        assertTrue(QueryCache.isCacheable(new NameContainsKeywordsPredicate(List.of("Alice"))));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.patient.UniquePatientList;
+
+public class VersionHistoryTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionHistory(0));
+    }
+
+    @Test
+    public void add_overCapacity_oldestVersionForgotten() {
+        VersionHistory history = new VersionHistory(2);
+        VersionHistory.Version first = createVersion();
+        VersionHistory.Version second = createVersion();
+        VersionHistory.Version third = createVersion();
+        history.add(first);
+        history.add(second);
+        history.add(third);
+
+        assertEquals(2, history.getUndoableCount());
+        assertSame(third, history.undo().get());
+        assertSame(second, history.undo().get());
+        assertTrue(history.undo().isEmpty());
+        assertEquals(2, history.getRedoableCount());
+    }
+
+    @Test
+    public void add_afterUndo_redoableVersionsCleared() {
+        VersionHistory history = new VersionHistory();
+        VersionHistory.Version first = createVersion();
+        history.add(first);
+        history.undo();
+        assertSame(first, history.redo().get());
+
+        history.undo();
+        history.add(createVersion());
+        assertTrue(history.redo().isEmpty());
+        assertEquals(0, history.getRedoableCount());
+    }
+
+    private static VersionHistory.Version createVersion() {
+        return new VersionHistory.Version(new UniquePatientList().takeChanges(), PREDICATE_SHOW_ALL_PATIENTS, null,
+                PREDICATE_SHOW_ALL_PATIENTS, null);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.patient;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -59,4 +60,42 @@ public class PatientHospitalIdTest {
         // different values -> returns false
         assertFalse(patientHospitalId.equals(new PatientHospitalId("11235")));
     }
+
+    @Test
+    public void compareTo() {
+        PatientHospitalId patientHospitalId = new PatientHospitalId("900");
+
+        // numerically smaller but lexicographically larger -> comes first
+        assertTrue(patientHospitalId.compareTo(new PatientHospitalId("1000")) < 0);
+        assertTrue(new PatientHospitalId("1000").compareTo(patientHospitalId) > 0);
+
+        // same length -> digit order
+        assertTrue(patientHospitalId.compareTo(new PatientHospitalId("901")) < 0);
+
+        // same value -> returns 0
+        assertTrue(patientHospitalId.compareTo(new PatientHospitalId("900")) == 0);
+
+        // leading zeros do not change the numeric order
+        assertTrue(new PatientHospitalId("0099").compareTo(patientHospitalId) < 0);
+        assertTrue(new PatientHospitalId("0").compareTo(new PatientHospitalId("1")) < 0);
+
+        // same value with different leading zeros -> consistent with equals
+        assertTrue(new PatientHospitalId("007").compareTo(new PatientHospitalId("7")) != 0);
+
+        // too large for a long -> compared by digits
+        PatientHospitalId largeId = new PatientHospitalId("12345678901234567890");
+        assertTrue(new PatientHospitalId(String.valueOf(Long.MAX_VALUE)).compareTo(largeId) < 0);
+        assertTrue(largeId.compareTo(new PatientHospitalId("12345678901234567891")) < 0);
+    }
+
+    @Test
+    public void getNumericKey() {
+        assertEquals(900, new PatientHospitalId("900").getNumericKey());
+        assertEquals(7, new PatientHospitalId("007").getNumericKey());
+        assertEquals(0, new PatientHospitalId("000").getNumericKey());
+        assertEquals(999999999999999999L, new PatientHospitalId("0999999999999999999").getNumericKey());
+
+        // too large for a long
+        assertEquals(Long.MAX_VALUE, new PatientHospitalId("99999999999999999999").getNumericKey());
+    }
 }
@@ -5,19 +5,29 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ID_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DEPRESSION;
+import static seedu.address.model.patient.comparators.NameComparator.NAME_COMPARATOR;
+import static seedu.address.model.patient.comparators.PatientHospitalIdComparator.PATIENT_HOSPITAL_ID_COMPARATOR;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 import static seedu.address.testutil.TypicalPatients.AMY;
+import static seedu.address.testutil.TypicalPatients.BENSON;
 import static seedu.address.testutil.TypicalPatients.BOB;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.patient.exceptions.DuplicatePatientException;
 import seedu.address.model.patient.exceptions.PatientNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PatientBuilder;
 
 public class UniquePatientListTest {
@@ -173,4 +183,448 @@ public class UniquePatientListTest {
     public void toStringMethod() {
         assertEquals(uniquePatientList.asUnmodifiableObservableList().toString(), uniquePatientList.toString());
     }
+
+    @Test
+    public void setComparator_unsortedList_sortsList() {
+        uniquePatientList.add(CARL);
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.setComparator(NAME_COMPARATOR);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(NAME_COMPARATOR), uniquePatientList.getComparator());
+    }
+
+    @Test
+    public void add_withComparator_insertsAtSortedPosition() {
+        uniquePatientList.setComparator(NAME_COMPARATOR);
+        uniquePatientList.add(DANIEL);
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(CARL);
+        uniquePatientList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_withComparatorAndEqualKeys_keepsInsertionOrder() {
+        Patient otherAlice = new PatientBuilder(BENSON).withName(ALICE.getName().fullName).build();
+        uniquePatientList.setComparator(NAME_COMPARATOR);
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(CARL);
+        uniquePatientList.add(otherAlice);
+        assertEquals(Arrays.asList(ALICE, otherAlice, CARL), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPatient_withComparator_movesEditedPatientToSortedPosition() {
+        uniquePatientList.setComparator(NAME_COMPARATOR);
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(CARL);
+        Patient editedAlice = new PatientBuilder(ALICE).withName("Zack Pauline").build();
+        uniquePatientList.setPatient(ALICE, editedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, editedAlice), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPatients_targetsAndEditedPatients_replacedInPlace() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(CARL);
+        Patient editedAlice = new PatientBuilder(ALICE).withTags(VALID_TAG_DEPRESSION).build();
+        Patient editedCarl = new PatientBuilder(CARL).withTags(VALID_TAG_DEPRESSION).build();
+        uniquePatientList.setPatients(Arrays.asList(CARL, ALICE), Arrays.asList(editedCarl, editedAlice));
+        assertEquals(Arrays.asList(editedAlice, BENSON, editedCarl), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPatients_noTargets_noChangeRecorded() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.takeChanges();
+        uniquePatientList.setPatients(List.of(), List.of());
+        assertTrue(uniquePatientList.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void setPatients_withComparator_resortsOnce() {
+        uniquePatientList.setComparator(NAME_COMPARATOR);
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(CARL);
+        Patient editedAlice = new PatientBuilder(ALICE).withName("Zack Pauline").build();
+        Patient editedCarl = new PatientBuilder(CARL).withName("Aaron Kurz").build();
+        uniquePatientList.setPatients(Arrays.asList(ALICE, CARL), Arrays.asList(editedAlice, editedCarl));
+        assertEquals(Arrays.asList(editedCarl, BENSON, editedAlice), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPatients_withComparatorOrderKept_replacedInPlaceAndReverted() {
+        uniquePatientList.setComparator(NAME_COMPARATOR);
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(CARL);
+        uniquePatientList.takeChanges();
+        Patient editedAlice = new PatientBuilder(ALICE).withTags("isolation").build();
+        Patient editedBenson = new PatientBuilder(BENSON).withName("Bob Meier").build();
+        uniquePatientList.setPatients(Arrays.asList(BENSON, ALICE), Arrays.asList(editedBenson, editedAlice));
+        assertEquals(Arrays.asList(editedAlice, editedBenson, CARL), uniquePatientList.asUnmodifiableObservableList());
+
+        uniquePatientList.revert(uniquePatientList.takeChanges());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePatientList.asUnmodifiableObservableList());
+        assertTrue(uniquePatientList.getPatientsWithTag(new Tag("isolation")).isEmpty());
+    }
+
+    @Test
+    public void setPatients_invalidTargetsOrEditedPatients_throwsAndKeepsList() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        Patient editedAlice = new PatientBuilder(ALICE).withTags(VALID_TAG_DEPRESSION).build();
+
+        assertThrows(IllegalArgumentException.class, ()
+            -> uniquePatientList.setPatients(Arrays.asList(ALICE, BENSON), Arrays.asList(editedAlice)));
+        assertThrows(PatientNotFoundException.class, ()
+            -> uniquePatientList.setPatients(Arrays.asList(ALICE, CARL), Arrays.asList(editedAlice, CARL)));
+        Patient bensonWithAliceId = new PatientBuilder(BENSON)
+                .withPatientHospitalId(ALICE.getPatientHospitalId().toString()).build();
+        assertThrows(DuplicatePatientException.class, ()
+            -> uniquePatientList.setPatients(Arrays.asList(BENSON), Arrays.asList(bensonWithAliceId)));
+
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getPatientsWithTag_afterChanges_matchesPatientsWithTag() {
+        Tag depression = new Tag(VALID_TAG_DEPRESSION);
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        assertEquals(Set.of(ALICE), uniquePatientList.getPatientsWithTag(depression));
+
+        Patient editedBenson = new PatientBuilder(BENSON).withTags(VALID_TAG_DEPRESSION).build();
+        uniquePatientList.setPatient(BENSON, editedBenson);
+        assertEquals(Set.of(ALICE, editedBenson), uniquePatientList.getPatientsWithTag(depression));
+
+        uniquePatientList.remove(ALICE);
+        assertEquals(Set.of(editedBenson), uniquePatientList.getPatientsWithTag(depression));
+
+        uniquePatientList.setPatients(Collections.singletonList(CARL));
+        assertTrue(uniquePatientList.getPatientsWithTag(depression).isEmpty());
+        assertEquals(CARL.getTags(), uniquePatientList.getTags());
+    }
+
+    @Test
+    public void findFuzzy_misspeltAndPartialKeywords_rankedByCloseness() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(DANIEL);
+
+        // exact word, including a preferred name
+        assertEquals(Map.of(DANIEL, 0), uniquePatientList.findFuzzy(List.of("Da")));
+
+        // prefix of a word
+        assertEquals(Map.of(ALICE, 1), uniquePatientList.findFuzzy(List.of("paul")));
+
+        // one substitution or transposition away
+        assertEquals(Map.of(BENSON, 2, DANIEL, 2), uniquePatientList.findFuzzy(List.of("Meyer")));
+        assertEquals(Map.of(ALICE, 2), uniquePatientList.findFuzzy(List.of("alcie")));
+
+        // tags are searched too, and each patient keeps its best rank
+        assertEquals(Map.of(BENSON, 0, DANIEL, 2), uniquePatientList.findFuzzy(List.of("meyer", "diabetes")));
+
+        // short keywords do not tolerate typos
+        assertTrue(uniquePatientList.findFuzzy(List.of("xa")).isEmpty());
+    }
+
+    @Test
+    public void findFuzzy_afterChanges_matchesCurrentPatients() {
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(DANIEL);
+
+        uniquePatientList.remove(DANIEL);
+        assertEquals(Map.of(BENSON, 2), uniquePatientList.findFuzzy(List.of("meyer")));
+
+        Patient editedBenson = new PatientBuilder(BENSON).withName("Benson Mayer").build();
+        uniquePatientList.setPatient(BENSON, editedBenson);
+        assertEquals(Map.of(editedBenson, 2), uniquePatientList.findFuzzy(List.of("meyer")));
+        assertTrue(uniquePatientList.findFuzzy(List.of("meier")).isEmpty());
+
+        uniquePatientList.setPatients(Collections.singletonList(CARL));
+        assertTrue(uniquePatientList.findFuzzy(List.of("benson")).isEmpty());
+        assertEquals(Map.of(CARL, 0), uniquePatientList.findFuzzy(List.of("carl")));
+    }
+
+    @Test
+    public void findPhonetic_soundAlikeKeywords_rankedByCloseness() {
+        Patient thomas = new PatientBuilder(ALICE).withName("Thomas Tan").build();
+        uniquePatientList.add(thomas);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(DANIEL);
+
+        // same spelling, then same pronunciation
+        assertEquals(Map.of(BENSON, 0, DANIEL, 0), uniquePatientList.findPhonetic(List.of("Meier")));
+        assertEquals(Map.of(BENSON, 1, DANIEL, 1), uniquePatientList.findPhonetic(List.of("Mayer")));
+
+        // "Thomas" is only pronounced like "Tomas" in its alternate pronunciation
+        assertEquals(Map.of(thomas, 2), uniquePatientList.findPhonetic(List.of("tomas")));
+
+        // each patient keeps its best rank, and tags are not searched
+        assertEquals(Map.of(thomas, 0, BENSON, 1), uniquePatientList.findPhonetic(List.of("bensen", "thomas")));
+        assertTrue(uniquePatientList.findPhonetic(List.of("depression")).isEmpty());
+    }
+
+    @Test
+    public void findPhonetic_afterChanges_matchesCurrentPatients() {
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(DANIEL);
+
+        uniquePatientList.remove(DANIEL);
+        assertEquals(Map.of(BENSON, 1), uniquePatientList.findPhonetic(List.of("meyer")));
+
+        Patient editedBenson = new PatientBuilder(BENSON).withName("Benson Smith").build();
+        uniquePatientList.setPatient(BENSON, editedBenson);
+        assertEquals(Map.of(editedBenson, 1), uniquePatientList.findPhonetic(List.of("smyth")));
+        assertTrue(uniquePatientList.findPhonetic(List.of("meyer")).isEmpty());
+
+        uniquePatientList.setPatients(Collections.singletonList(CARL));
+        assertTrue(uniquePatientList.findPhonetic(List.of("smyth")).isEmpty());
+        assertEquals(Map.of(CARL, 1), uniquePatientList.findPhonetic(List.of("karl")));
+    }
+
+    @Test
+    public void search_keywords_mostRelevantFirst() {
+        Patient twoSingingHobbies = new PatientBuilder().withPatientHospitalId("10001")
+                .withHobbies("Singing", "Singing hymns").build();
+        Patient oneSingingHobby = new PatientBuilder().withPatientHospitalId("10002").build();
+        Patient reader = new PatientBuilder().withPatientHospitalId("10003").withHobbies("Reading books").build();
+        uniquePatientList.add(oneSingingHobby);
+        uniquePatientList.add(reader);
+        uniquePatientList.add(twoSingingHobbies);
+
+        // more occurrences of a word rank higher
+        assertEquals(Arrays.asList(twoSingingHobbies, oneSingingHobby),
+                uniquePatientList.search(List.of("SINGING"), 10));
+
+        // a word that few patients have outweighs a word that many patients have
+        assertEquals(Arrays.asList(reader, twoSingingHobbies, oneSingingHobby),
+                uniquePatientList.search(List.of("singing", "reading"), 10));
+
+        // only the most relevant patients are returned
+        assertEquals(Arrays.asList(reader, twoSingingHobbies),
+                uniquePatientList.search(List.of("singing", "reading"), 2));
+
+        // patients with more text rank lower, and equally relevant patients are ordered by hospital ID
+        assertEquals(Arrays.asList(oneSingingHobby, reader, twoSingingHobbies),
+                uniquePatientList.search(List.of("amy"), 10));
+
+        assertTrue(uniquePatientList.search(List.of("karaok"), 10).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> uniquePatientList.search(List.of("amy"), 0));
+    }
+
+    @Test
+    public void search_afterChanges_matchesCurrentPatients() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE), uniquePatientList.search(List.of("drama"), 10));
+
+        // event names are searched too
+        uniquePatientList.remove(ALICE);
+        assertTrue(uniquePatientList.search(List.of("drama"), 10).isEmpty());
+        assertEquals(Arrays.asList(BENSON), uniquePatientList.search(List.of("birthday"), 10));
+
+        Patient editedBenson = new PatientBuilder(BENSON).withFoodPreferences("Korean drama snacks").build();
+        uniquePatientList.setPatient(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson), uniquePatientList.search(List.of("drama"), 10));
+        assertTrue(uniquePatientList.search(List.of("kampung"), 10).isEmpty());
+
+        uniquePatientList.setPatients(Collections.singletonList(CARL));
+        assertTrue(uniquePatientList.search(List.of("drama"), 10).isEmpty());
+        assertEquals(Arrays.asList(CARL), uniquePatientList.search(List.of("mahjong"), 10));
+    }
+
+    @Test
+    public void getPatientsInHospitalIdRange_afterChanges_inNumericOrder() {
+        Patient id900 = new PatientBuilder(ALICE).withPatientHospitalId("900").build();
+        Patient id10000 = new PatientBuilder(BENSON).withPatientHospitalId("10000").build();
+        Patient id20000 = new PatientBuilder(CARL).withPatientHospitalId("20000").build();
+        Patient id20001 = new PatientBuilder(DANIEL).withPatientHospitalId("20001").build();
+        uniquePatientList.add(id20001);
+        uniquePatientList.add(id10000);
+        uniquePatientList.add(id900);
+        uniquePatientList.add(id20000);
+
+        PatientHospitalId first = new PatientHospitalId("950");
+        PatientHospitalId last = new PatientHospitalId("20000");
+        assertEquals(Arrays.asList(id10000, id20000), uniquePatientList.getPatientsInHospitalIdRange(first, last));
+        assertEquals(Arrays.asList(id900, id10000, id20000, id20001), uniquePatientList.getPatientsInHospitalIdRange(
+                new PatientHospitalId("0"), new PatientHospitalId("99999999999999999999")));
+        assertTrue(uniquePatientList.getPatientsInHospitalIdRange(
+                new PatientHospitalId("1000"), new PatientHospitalId("9999")).isEmpty());
+
+        uniquePatientList.remove(id10000);
+        Patient movedTo15000 = new PatientBuilder(id900).withPatientHospitalId("15000").build();
+        uniquePatientList.setPatient(id900, movedTo15000);
+        assertEquals(Arrays.asList(movedTo15000, id20000), uniquePatientList.getPatientsInHospitalIdRange(first, last));
+
+        uniquePatientList.setPatients(Arrays.asList(id10000, id900));
+        assertEquals(Arrays.asList(id10000), uniquePatientList.getPatientsInHospitalIdRange(first, last));
+    }
+
+    @Test
+    public void revert_changesOfSeveralKinds_restoresListAndIndexes() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.takeChanges();
+        List<Patient> before = List.copyOf(uniquePatientList.asUnmodifiableObservableList());
+
+        uniquePatientList.add(CARL);
+        uniquePatientList.setComparator(NAME_COMPARATOR);
+        Patient editedAlice = new PatientBuilder(ALICE).withName("Zoe Pauline").build();
+        uniquePatientList.setPatient(ALICE, editedAlice);
+        uniquePatientList.mergeTags(Set.of(new Tag("diabetes")), new Tag("prediabetes"));
+        uniquePatientList.remove(CARL);
+        uniquePatientList.setComparator(null);
+        uniquePatientList.add(DANIEL);
+        List<Patient> after = List.copyOf(uniquePatientList.asUnmodifiableObservableList());
+
+        PatientListChanges changes = uniquePatientList.takeChanges();
+        assertEquals(8, changes.size());
+        assertTrue(uniquePatientList.takeChanges().isEmpty());
+
+        uniquePatientList.revert(changes);
+        assertEquals(before, uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(Optional.empty(), uniquePatientList.getComparator());
+        assertEquals(Set.of(BENSON), uniquePatientList.getPatientsWithTag(new Tag("diabetes")));
+        assertTrue(uniquePatientList.findFuzzy(List.of("zoe")).isEmpty());
+        assertTrue(uniquePatientList.takeChanges().isEmpty());
+
+        uniquePatientList.reapply(changes);
+        assertEquals(after, uniquePatientList.asUnmodifiableObservableList());
+        assertTrue(uniquePatientList.getPatientsWithTag(new Tag("diabetes")).isEmpty());
+        assertEquals(Set.of(editedAlice), uniquePatientList.findFuzzy(List.of("zoe")).keySet());
+    }
+
+    @Test
+    public void revert_reset_restoresPreviousPatients() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.takeChanges();
+        uniquePatientList.setPatients(Collections.singletonList(BENSON));
+
+        uniquePatientList.revert(uniquePatientList.takeChanges());
+        assertEquals(List.of(ALICE), uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(List.of(ALICE), uniquePatientList.search(List.of("pauline"), 10));
+    }
+
+    @Test
+    public void saveView_afterChanges_onlyChangedPatientsTested() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        List<Patient> tested = new ArrayList<>();
+        SavedView view = uniquePatientList.saveView("meier", patient -> {
+            tested.add(patient);
+            return patient.getName().fullName.contains("Meier");
+        });
+        assertEquals(Arrays.asList(ALICE, BENSON), tested);
+        assertFalse(view.test(ALICE));
+        assertTrue(view.test(BENSON));
+
+        tested.clear();
+        uniquePatientList.add(DANIEL);
+        Patient editedAlice = new PatientBuilder(ALICE).withName("Alice Meier").build();
+        uniquePatientList.setPatient(ALICE, editedAlice);
+        uniquePatientList.remove(BENSON);
+        assertEquals(Arrays.asList(DANIEL, editedAlice), tested);
+        assertEquals(2, view.size());
+        assertTrue(view.test(editedAlice));
+        assertTrue(view.test(DANIEL));
+        assertFalse(view.test(BENSON));
+
+        uniquePatientList.setPatients(Collections.singletonList(CARL));
+        assertEquals(0, view.size());
+        assertEquals(Optional.of(view), uniquePatientList.getSavedView("meier"));
+        assertEquals(Optional.empty(), uniquePatientList.getSavedView("kurz"));
+    }
+
+    @Test
+    public void setComparator_hospitalIdComparator_sortsNumerically() {
+        Patient id900 = new PatientBuilder(ALICE).withPatientHospitalId("900").build();
+        Patient id1000 = new PatientBuilder(BENSON).withPatientHospitalId("1000").build();
+        Patient id0950 = new PatientBuilder(CARL).withPatientHospitalId("0950").build();
+        uniquePatientList.add(id1000);
+        uniquePatientList.add(id900);
+        uniquePatientList.add(id0950);
+
+        uniquePatientList.setComparator(PATIENT_HOSPITAL_ID_COMPARATOR);
+        assertEquals(Arrays.asList(id900, id0950, id1000), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mergeTags_tagsInUse_replacedOnAffectedPatientsOnly() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(CARL);
+        Tag depression = new Tag(VALID_TAG_DEPRESSION);
+        Tag mood = new Tag("mood");
+
+        assertEquals(1, uniquePatientList.mergeTags(Set.of(depression, new Tag("unused")), mood));
+
+        Patient editedAlice = new PatientBuilder(ALICE).withTags("mood").build();
+        assertEquals(Arrays.asList(editedAlice, BENSON, CARL), uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(Set.of(editedAlice), uniquePatientList.getPatientsWithTag(mood));
+        assertTrue(uniquePatientList.getPatientsWithTag(depression).isEmpty());
+        assertFalse(uniquePatientList.getTags().contains(depression));
+    }
+
+    @Test
+    public void mergeTags_intoExistingTag_mergedIntoSingleTag() {
+        Patient bothTags = new PatientBuilder(ALICE).withTags(VALID_TAG_DEPRESSION, "mood").build();
+        uniquePatientList.add(bothTags);
+
+        assertEquals(1, uniquePatientList.mergeTags(Set.of(new Tag(VALID_TAG_DEPRESSION)), new Tag("mood")));
+        assertEquals(Set.of(new Tag("mood")), uniquePatientList.asUnmodifiableObservableList().get(0).getTags());
+
+        // renaming a tag to itself changes nothing
+        assertEquals(0, uniquePatientList.mergeTags(Set.of(new Tag("mood")), new Tag("mood")));
+    }
+
+    @Test
+    public void removeTags_tagsInUse_removedFromAffectedPatients() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BENSON);
+
+        assertEquals(1, uniquePatientList.removeTags(Set.of(new Tag("diabetes"))));
+        Patient editedBenson = new PatientBuilder(BENSON).withTags("cholesterol").build();
+        assertEquals(Arrays.asList(ALICE, editedBenson), uniquePatientList.asUnmodifiableObservableList());
+
+        assertEquals(0, uniquePatientList.removeTags(Set.of(new Tag("diabetes"))));
+    }
+
+    @Test
+    public void setComparator_null_keepsOrderAndAppends() {
+        uniquePatientList.setComparator(NAME_COMPARATOR);
+        uniquePatientList.add(BENSON);
+        uniquePatientList.add(ALICE);
+        uniquePatientList.setComparator(null);
+        uniquePatientList.add(CARL);
+        uniquePatientList.add(DANIEL);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), uniquePatientList.asUnmodifiableObservableList());
+        assertEquals(Optional.empty(), uniquePatientList.getComparator());
+    }
+
+    @Test
+    public void setComparator_largeList_sortsStably() {
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < UniquePatientList.PARALLEL_SORT_THRESHOLD + 10; i++) {
+            // Only 26 distinct names, so most patients tie and must keep their relative order
+            patients.add(new PatientBuilder().withPatientHospitalId(String.valueOf(i))
+                    .withName("Patient " + (char) ('z' - i % 26)).build());
+        }
+        uniquePatientList.setPatients(patients);
+        uniquePatientList.setComparator(NAME_COMPARATOR);
+
+        List<Patient> sortedPatients = uniquePatientList.asUnmodifiableObservableList();
+        for (int i = 0; i < sortedPatients.size() - 1; i++) {
+            Patient current = sortedPatients.get(i);
+            Patient next = sortedPatients.get(i + 1);
+            int result = NAME_COMPARATOR.compare(current, next);
+            assertTrue(result < 0 || (result == 0 && patients.indexOf(current) < patients.indexOf(next)));
+        }
+    }
 }
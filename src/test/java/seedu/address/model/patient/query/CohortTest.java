@@ -0,0 +1,93 @@
+package seedu.address.model.patient.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class CohortTest {
+
+    private final PatientBitmapIndex index = new PatientBitmapIndex(List.of(ALICE, BENSON, CARL));
+
+    @Test
+    public void test_membersOfIndex_matched() {
+        Cohort cohort = Cohort.of(index, List.of(CARL, ALICE));
+        assertTrue(cohort.test(ALICE));
+        assertFalse(cohort.test(BENSON));
+        assertFalse(cohort.test(DANIEL));
+        assertEquals(2, cohort.size());
+        assertEquals(List.of(ALICE, CARL), cohort.getPatients());
+    }
+
+    @Test
+    public void rebase_changedList_membersMatchedByHospitalId() {
+        Cohort cohort = Cohort.of(index, List.of(ALICE, CARL));
+        assertSame(cohort, cohort.rebase(index));
+
+        Patient editedCarl = new PatientBuilder(CARL).withTags("fall risk").build();
+        PatientBitmapIndex newIndex = new PatientBitmapIndex(List.of(DANIEL, editedCarl, BENSON));
+        Cohort rebased = cohort.rebase(newIndex);
+        assertEquals(List.of(editedCarl), rebased.getPatients());
+        assertTrue(rebased.test(editedCarl));
+        assertFalse(rebased.test(CARL));
+    }
+
+    @Test
+    public void rebase_indexChanged_membersMatchedByHospitalId() {
+        PatientBitmapIndex changingIndex = new PatientBitmapIndex(List.of(ALICE, BENSON, CARL));
+        Cohort cohort = Cohort.of(changingIndex, List.of(ALICE, CARL));
+
+        Patient editedCarl = new PatientBuilder(CARL).withTags("fall risk").build();
+        changingIndex.remove(CARL);
+        changingIndex.add(editedCarl);
+        changingIndex.remove(ALICE);
+        assertEquals(List.of(ALICE, CARL), cohort.getPatients());
+        assertEquals(List.of(editedCarl), cohort.rebase(changingIndex).getPatients());
+
+        // a patient added back gets its ordinal back
+        changingIndex.add(ALICE);
+        assertEquals(List.of(ALICE, editedCarl), cohort.rebase(changingIndex).getPatients());
+        assertTrue(cohort.test(ALICE));
+    }
+
+    @Test
+    public void matching_removedPatients_notMatched() {
+        PatientBitmapIndex changingIndex = new PatientBitmapIndex(List.of(ALICE, BENSON, CARL));
+        changingIndex.remove(BENSON);
+        assertEquals(List.of(ALICE, CARL), Cohort.matching(changingIndex, patient -> true).getPatients());
+        assertEquals(2, changingIndex.getPatientCount());
+    }
+
+    @Test
+    public void matching_manyChunks_sameAsSequentialFilter() {
+        List<Patient> patients = IntStream.range(0, 3 * PatientBitmapIndex.PARALLEL_CHUNK_SIZE + 7)
+                .mapToObj(i -> new PatientBuilder().withPatientHospitalId(String.valueOf(i + 1)).build())
+                .collect(Collectors.toList());
+        Predicate<Patient> predicate = patient -> patient.getPatientHospitalId().getNumericKey() % 3 == 0;
+
+        Cohort cohort = Cohort.matching(new PatientBitmapIndex(patients), predicate);
+        assertEquals(patients.stream().filter(predicate).collect(Collectors.toList()), cohort.getPatients());
+    }
+
+    @Test
+    public void equals() {
+        Cohort cohort = Cohort.of(index, List.of(ALICE));
+        assertTrue(cohort.equals(Cohort.of(new PatientBitmapIndex(List.of(ALICE)), List.of(ALICE))));
+        assertFalse(cohort.equals(Cohort.of(index, List.of(BENSON))));
+        assertFalse(cohort.equals(null));
+    }
+}
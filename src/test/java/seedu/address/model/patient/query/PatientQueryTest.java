@@ -0,0 +1,182 @@
+package seedu.address.model.patient.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.ELLE;
+import static seedu.address.testutil.TypicalPatients.FIONA;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientHospitalId;
+import seedu.address.model.patient.exceptions.CohortNotFoundException;
+import seedu.address.model.patient.query.FieldContainsWordsQuery.Field;
+import seedu.address.model.tag.Tag;
+
+public class PatientQueryTest {
+
+    private static final TagQuery DIABETES = new TagQuery(new Tag("diabetes"));
+    private static final TagQuery CHOLESTEROL = new TagQuery(new Tag("cholesterol"));
+    private static final TagQuery DEPRESSION = new TagQuery(new Tag("depression"));
+    private static final FieldContainsWordsQuery NAME_MEIER = new FieldContainsWordsQuery(Field.NAME, List.of("meier"));
+    private static final FieldContainsWordsQuery NAME_KUNZ = new FieldContainsWordsQuery(Field.NAME, List.of("kunz"));
+    private static final FieldContainsWordsQuery HOBBY_DANCING =
+            new FieldContainsWordsQuery(Field.HOBBY, List.of("Dancing"));
+    private static final HospitalIdRangeQuery FIRST_FOUR_IDS =
+            new HospitalIdRangeQuery(new PatientHospitalId("12234"), new PatientHospitalId("12237"));
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final Map<String, Cohort> cohorts = new HashMap<>();
+    private final QueryContext context = new QueryContext(new PatientBitmapIndex(addressBook.getPatientList()),
+            addressBook::getPatientsWithTag, name -> Optional.ofNullable(cohorts.get(name)));
+
+    @Test
+    public void evaluate_indexedQuery_sameAsScan() {
+        PatientQuery query = new AndQuery(List.of(HOBBY_DANCING, new NotQuery(new OrQuery(List.of(DIABETES,
+                new FieldContainsWordsQuery(Field.FOOD_PREFERENCE, List.of("FISH")))))));
+        assertTrue(query.isIndexed());
+        assertEquals(List.of(ELLE), query.evaluate(context).getPatients());
+        assertEquals(Set.of(ELLE), scan(query));
+    }
+
+    @Test
+    public void evaluate_partlyIndexedQuery_sameAsScan() {
+        PatientQuery query = new AndQuery(List.of(NAME_MEIER, new OrQuery(List.of(DIABETES, DEPRESSION))));
+        assertFalse(query.isIndexed());
+        assertEquals(List.of(BENSON), query.evaluate(context).getPatients());
+        assertEquals(Set.of(BENSON), scan(query));
+
+        query = new OrQuery(List.of(NAME_MEIER, HOBBY_DANCING, new NotQuery(FIRST_FOUR_IDS)));
+        assertEquals(scan(query), new HashSet<>(query.evaluate(context).getPatients()));
+    }
+
+    @Test
+    public void evaluate_unindexedQuery_scansPatients() {
+        PatientQuery query = new AndQuery(List.of(FIRST_FOUR_IDS, new NotQuery(NAME_MEIER)));
+        assertFalse(query.isIndexed());
+        assertEquals(List.of(ALICE, CARL), query.evaluate(context).getPatients());
+    }
+
+    @Test
+    public void evaluate_eventDateRange_matchesPatientsWithEventsInRange() {
+        LocalDate eventDate = LocalDate.of(9999, 2, 20);
+        assertEquals(List.of(BENSON), new EventDateQuery(eventDate, eventDate).evaluate(context).getPatients());
+        assertEquals(0, new EventDateQuery(eventDate.plusDays(1), eventDate.plusDays(7)).evaluate(context).size());
+    }
+
+    @Test
+    public void evaluate_cohort_combinedWithOtherQueries() {
+        cohorts.put("dancers", HOBBY_DANCING.evaluate(context));
+        PatientQuery query = new OrQuery(List.of(new CohortQuery("dancers"), DIABETES));
+        assertTrue(query.isIndexed());
+        assertEquals(List.of(BENSON, ELLE, FIONA), query.evaluate(context).getPatients());
+        assertEquals(List.of(FIONA),
+                new AndQuery(List.of(new CohortQuery("dancers"), NAME_KUNZ)).evaluate(context).getPatients());
+    }
+
+    @Test
+    public void evaluate_unknownCohort_throwsCohortNotFoundException() {
+        assertThrows(CohortNotFoundException.class, () -> new CohortQuery("unknown").evaluate(context));
+    }
+
+    @Test
+    public void evaluate_partlyIndexedAnd_testsOnlyCandidatesOfIndexedOperands() {
+        // Every patient except BENSON would fail the query if tested, so the result shows only candidates were tested
+        PatientQuery onlyBenson = new PatientQuery() {
+            @Override
+            public boolean test(Patient patient) {
+                assertEquals(BENSON, patient);
+                return true;
+            }
+
+            @Override
+            public double estimateSelectivity(QueryContext context) {
+                return 1;
+            }
+        };
+        assertEquals(List.of(BENSON), new AndQuery(List.of(onlyBenson, DIABETES)).evaluate(context).getPatients());
+    }
+
+    @Test
+    public void optimize_and_mostSelectiveCheapestOperandFirst() {
+        PatientQuery query = new AndQuery(List.of(NAME_MEIER, new AndQuery(List.of(FIRST_FOUR_IDS, DIABETES))));
+        assertEquals(new AndQuery(List.of(DIABETES, FIRST_FOUR_IDS, NAME_MEIER)), query.optimize(context));
+    }
+
+    @Test
+    public void optimize_or_mostLikelyCheapestOperandFirst() {
+        PatientQuery query = new OrQuery(List.of(NAME_MEIER, new OrQuery(List.of(DIABETES, DEPRESSION))));
+        PatientQuery optimized = query.optimize(context);
+        assertEquals(3, ((OrQuery) optimized).getOperands().size());
+        assertEquals(NAME_MEIER, ((OrQuery) optimized).getOperands().get(2));
+    }
+
+    @Test
+    public void optimize_doubleNegation_removed() {
+        assertEquals(DIABETES, new NotQuery(new NotQuery(DIABETES)).optimize(context));
+    }
+
+    @Test
+    public void estimateSelectivity_tag_usesIndex() {
+        int patientCount = addressBook.getPatientList().size();
+        assertEquals(1.0 / patientCount, DIABETES.estimateSelectivity(context));
+        assertEquals(1.0 / patientCount / patientCount,
+                new AndQuery(List.of(DIABETES, CHOLESTEROL)).estimateSelectivity(context));
+        assertEquals(0.0, new TagQuery(new Tag("unused")).estimateSelectivity(context));
+    }
+
+    @Test
+    public void constructor_invalidRanges_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new HospitalIdRangeQuery(new PatientHospitalId("900"), new PatientHospitalId("80")));
+        assertThrows(IllegalArgumentException.class, () ->
+                new EventDateQuery(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> new AndQuery(List.of()));
+    }
+
+    @Test
+    public void test_hospitalIdRange_comparesNumerically() {
+        HospitalIdRangeQuery query = new HospitalIdRangeQuery(new PatientHospitalId("900"),
+                new PatientHospitalId("12234"));
+        assertTrue(query.test(ALICE));
+        assertFalse(query.test(DANIEL));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(DIABETES.equals(new TagQuery(new Tag("diabetes"))));
+        assertFalse(DIABETES.equals(CHOLESTEROL));
+        assertTrue(new AndQuery(List.of(DIABETES, NAME_MEIER)).equals(new AndQuery(List.of(DIABETES, NAME_MEIER))));
+        assertFalse(new AndQuery(List.of(DIABETES, NAME_MEIER)).equals(new OrQuery(List.of(DIABETES, NAME_MEIER))));
+        assertFalse(new AndQuery(List.of(DIABETES, NAME_MEIER)).equals(new AndQuery(List.of(NAME_MEIER, DIABETES))));
+        assertFalse(NAME_MEIER.equals(new FieldContainsWordsQuery(Field.PREFERRED_NAME, List.of("meier"))));
+        assertFalse(new NotQuery(DIABETES).equals(DIABETES));
+        assertFalse(DIABETES.equals(null));
+    }
+
+    private Set<Patient> scan(PatientQuery query) {
+        Set<Patient> matches = new HashSet<>();
+        for (Patient patient : addressBook.getPatientList()) {
+            if (query.test(patient)) {
+                matches.add(patient);
+            }
+        }
+        return matches;
+    }
+}
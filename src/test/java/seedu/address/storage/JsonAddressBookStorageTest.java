@@ -9,12 +9,18 @@ import static seedu.address.testutil.TypicalPatients.IDA;
 import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -86,6 +92,37 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_recording_fileEventsCommitted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(AddressBookFileEvent.class);
+            recording.start();
+            jsonAddressBookStorage.saveAddressBook(original);
+            jsonAddressBookStorage.readAddressBook();
+            recording.stop();
+
+            Path recordingFile = testFolder.resolve("recording.jfr");
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> event.getEventType().getName().equals("seedu.address.AddressBookFile"))
+                    .collect(Collectors.toList());
+        }
+
+        assertEquals(2, events.size());
+        assertEquals(AddressBookFileEvent.WRITE, events.get(0).getString("operation"));
+        assertEquals(AddressBookFileEvent.READ, events.get(1).getString("operation"));
+        for (RecordedEvent event : events) {
+            assertEquals(filePath.toString(), event.getString("path"));
+            assertEquals(Files.size(filePath), event.getLong("size"));
+            assertEquals(original.getPatientList().size(), event.getInt("patientCount"));
+        }
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));